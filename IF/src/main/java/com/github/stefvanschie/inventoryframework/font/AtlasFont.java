@@ -0,0 +1,281 @@
+package com.github.stefvanschie.inventoryframework.font;
+
+import com.github.stefvanschie.inventoryframework.font.util.Font;
+import com.github.stefvanschie.inventoryframework.util.CSVUtil;
+import com.github.stefvanschie.inventoryframework.util.SkullUtil;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+/**
+ * A font read from a font atlas: a binary file which maps characters to the textures of their skulls, already encoded
+ * the way skulls store them. The atlases of the built-in fonts are generated from their csv files when building. If an
+ * atlas is missing, for example because the sources were built without running this step, the csv file with the same
+ * name is read instead. Like {@link CSVFont}, the items of the font are only created once the font is first used.
+ * <p>
+ * An atlas starts with a magic number, a version and the amount of glyphs. Every glyph consists of its character, the
+ * length of its textures and the textures as ASCII.
+ *
+ * @since 0.10.19
+ */
+public class AtlasFont extends Font {
+
+    /**
+     * The magic number every font atlas starts with
+     */
+    private static final int MAGIC = 0x49464641;
+
+    /**
+     * The version of the format, which should be increased whenever the format changes
+     */
+    private static final short VERSION = 1;
+
+    /**
+     * Whether it has been logged that an atlas is missing, which is only logged once
+     */
+    @NotNull
+    private static final AtomicBoolean LOGGED_MISSING_ATLAS = new AtomicBoolean();
+
+    /**
+     * The items of this font, or null if the font hasn't been loaded yet
+     */
+    @Nullable
+    private volatile CSVFont.Glyphs glyphs;
+
+    /**
+     * The relative file path to the font atlas
+     */
+    @NotNull
+    private final String filePath;
+
+    /**
+     * The default character to use when a requested character cannot be found
+     */
+    private final char defaultCharacter;
+
+    /**
+     * Creates a new font from a font atlas. The atlas is read when the font is first used.
+     *
+     * @param defaultCharacter the default character to use when a requested character cannot be found
+     * @param filePath the relative file path to the font atlas
+     * @since 0.10.19
+     */
+    public AtlasFont(char defaultCharacter, @NotNull String filePath) {
+        this.defaultCharacter = defaultCharacter;
+        this.filePath = filePath;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public ItemStack getDefaultItem() {
+        return getGlyphs().get(defaultCharacter);
+    }
+
+    @Nullable
+    @Contract(pure = true)
+    @Override
+    public ItemStack toItem(char character) {
+        return getGlyphs().get(character);
+    }
+
+    @Nullable
+    @Contract(pure = true)
+    @Override
+    public ItemStack toItemIgnoreCase(char character) {
+        return getGlyphs().getIgnoreCase(character);
+    }
+
+    /**
+     * Gets whether the items of this font have been created
+     *
+     * @return true if the font has been loaded, false otherwise
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    boolean isLoaded() {
+        return glyphs != null;
+    }
+
+    /**
+     * Gets the items of this font, reading the atlas if this hasn't happened yet. The atlas is read at most once, even
+     * when multiple threads use the font at the same time.
+     *
+     * @return the items
+     * @throws RuntimeException if neither the atlas nor the csv file can be read
+     * @since 0.10.19
+     */
+    @NotNull
+    private CSVFont.Glyphs getGlyphs() {
+        CSVFont.Glyphs glyphs = this.glyphs;
+
+        if (glyphs != null) {
+            return glyphs;
+        }
+
+        synchronized (this) {
+            glyphs = this.glyphs;
+
+            if (glyphs == null) {
+                Map<Character, ItemStack> items = new HashMap<>();
+
+                try {
+                    readTextures(filePath).forEach((character, textures) ->
+                        items.put(character, SkullUtil.getSkullFromTextures(textures)));
+                } catch (IOException e) {
+                    throw new RuntimeException("Error loading font atlas: " + filePath, e);
+                }
+
+                glyphs = new CSVFont.Glyphs(items);
+                this.glyphs = glyphs;
+            }
+
+            return glyphs;
+        }
+    }
+
+    /**
+     * Reads the textures of the glyphs in the font atlas at the specified path. If there is no such atlas, the textures
+     * are read from the csv file with the same name instead.
+     *
+     * @param filePath the relative file path to the font atlas
+     * @return the encoded textures by their characters
+     * @throws IOException if neither the atlas nor the csv file can be read
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    static Map<Character, String> readTextures(@NotNull String filePath) throws IOException {
+        try (InputStream inputStream = AtlasFont.class.getResourceAsStream(filePath)) {
+            if (inputStream != null) {
+                return read(readAll(inputStream));
+            }
+        }
+
+        if (!filePath.endsWith(".atlas")) {
+            throw new IOException("Resource not found");
+        }
+
+        String csvPath = filePath.substring(0, filePath.length() - ".atlas".length()) + ".csv";
+
+        if (LOGGED_MISSING_ATLAS.compareAndSet(false, true)) {
+            Logger.getLogger(AtlasFont.class.getName()).warning("Font atlas '" + filePath + "' is missing, reading '" +
+                csvPath + "' instead; the font atlases were not generated when building");
+        }
+
+        try (InputStream inputStream = AtlasFont.class.getResourceAsStream(csvPath)) {
+            if (inputStream == null) {
+                throw new IOException("Resource not found");
+            }
+
+            Map<Character, String> textures = new HashMap<>();
+
+            for (String[] line : CSVUtil.readAll(inputStream)) {
+                textures.put(line[0].charAt(0), SkullUtil.encodeTextures(line[1]));
+            }
+
+            return textures;
+        }
+    }
+
+    /**
+     * Writes a font atlas for the specified rows of a csv font. Each row consists of the character and the skull id.
+     *
+     * @param rows the rows of the csv font
+     * @param outputStream the output stream to write the atlas to
+     * @throws IOException when writing fails for any reason
+     * @since 0.10.19
+     */
+    static void write(@NotNull List<String[]> rows, @NotNull OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeInt(rows.size());
+
+        for (String[] row : rows) {
+            byte[] textures = SkullUtil.encodeTextures(row[1]).getBytes(StandardCharsets.US_ASCII);
+
+            output.writeChar(row[0].charAt(0));
+            output.writeShort(textures.length);
+            output.write(textures);
+        }
+
+        output.flush();
+    }
+
+    /**
+     * Reads the textures of the glyphs in the specified font atlas.
+     *
+     * @param buffer the buffer containing the atlas
+     * @return the encoded textures by their characters
+     * @throws IOException if the buffer doesn't contain a font atlas of the current version
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    static Map<Character, String> read(@NotNull ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Data is not a font atlas");
+            }
+
+            short version = buffer.getShort();
+
+            if (version != VERSION) {
+                throw new IOException("Font atlas has version " + version + ", expected " + VERSION);
+            }
+
+            int glyphs = buffer.getInt();
+            Map<Character, String> textures = new HashMap<>();
+
+            for (int index = 0; index < glyphs; index++) {
+                char character = buffer.getChar();
+                byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+
+                buffer.get(bytes);
+                textures.put(character, new String(bytes, StandardCharsets.US_ASCII));
+            }
+
+            return textures;
+        } catch (BufferUnderflowException exception) {
+            throw new IOException("Font atlas is truncated", exception);
+        }
+    }
+
+    /**
+     * Reads the entire input stream into a buffer.
+     *
+     * @param inputStream the input stream
+     * @return the buffer
+     * @throws IOException when reading fails for any reason
+     * @since 0.10.19
+     */
+    @NotNull
+    private static ByteBuffer readAll(@NotNull InputStream inputStream) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(inputStream.available(), 8192));
+        byte[] buffer = new byte[8192];
+        int read;
+
+        while ((read = inputStream.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+
+        return ByteBuffer.wrap(output.toByteArray());
+    }
+}
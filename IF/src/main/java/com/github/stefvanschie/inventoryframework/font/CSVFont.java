@@ -10,21 +10,28 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * A font for characters with a space as default character. Only one instance of this class should ever exist and should
- * be used everywhere.
+ * be used everywhere. The items of the font are only created once the font is first used.
  *
  * @since 0.5.0
  */
 public class CSVFont extends Font {
 
     /**
-     * A map with all the items and their dedicated characters
+     * The items of this font, or null if the font hasn't been loaded yet
      */
-    private final Map<Character, ItemStack> characterMappings;
+    @Nullable
+    private volatile Glyphs glyphs;
+
+    /**
+     * The relative file path to the csv file containing the character mappings
+     */
+    @NotNull
+    private final String filePath;
 
     /**
      * The default character to use when a requested character cannot be found
@@ -32,34 +39,201 @@ public class CSVFont extends Font {
     private final char defaultCharacter;
 
     /**
-     * Creates a new default font
+     * Creates a new default font. The csv file is read when the font is first used.
      *
      * @param defaultCharacter the default character to use when a requested character cannot be found
      * @param filePath the relative file path to the csv file containing the character mappings
      * @since 0.5.0
      */
-    public CSVFont(char defaultCharacter, String filePath) {
+    public CSVFont(char defaultCharacter, @NotNull String filePath) {
         this.defaultCharacter = defaultCharacter;
-
-        try (InputStream inputStream = getClass().getResourceAsStream(filePath)) {
-            characterMappings = CSVUtil.readAll(inputStream).stream()
-                    .collect(Collectors.toMap(v -> v[0].charAt(0), v -> SkullUtil.getSkull(v[1])));
-        } catch (IOException e) {
-            throw new RuntimeException("Error loading CSV-based font: " + filePath, e);
-        }
+        this.filePath = filePath;
     }
 
     @NotNull
     @Contract(pure = true)
     @Override
     public ItemStack getDefaultItem() {
-        return characterMappings.get(defaultCharacter);
+        return getGlyphs().get(defaultCharacter);
     }
 
     @Nullable
     @Contract(pure = true)
     @Override
     public ItemStack toItem(char character) {
-        return characterMappings.get(character);
+        return getGlyphs().get(character);
+    }
+
+    @Nullable
+    @Contract(pure = true)
+    @Override
+    public ItemStack toItemIgnoreCase(char character) {
+        return getGlyphs().getIgnoreCase(character);
+    }
+
+    /**
+     * Gets whether the items of this font have been created
+     *
+     * @return true if the font has been loaded, false otherwise
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    boolean isLoaded() {
+        return glyphs != null;
+    }
+
+    /**
+     * Gets the items of this font, reading the csv file if this hasn't happened yet. The file is read at most once,
+     * even when multiple threads use the font at the same time.
+     *
+     * @return the items
+     * @throws RuntimeException if the csv file cannot be read
+     * @since 0.10.19
+     */
+    @NotNull
+    private Glyphs getGlyphs() {
+        Glyphs glyphs = this.glyphs;
+
+        if (glyphs != null) {
+            return glyphs;
+        }
+
+        synchronized (this) {
+            glyphs = this.glyphs;
+
+            if (glyphs == null) {
+                Map<Character, ItemStack> items = new HashMap<>();
+
+                try (InputStream inputStream = getClass().getResourceAsStream(filePath)) {
+                    if (inputStream == null) {
+                        throw new IOException("Resource not found");
+                    }
+
+                    for (String[] line : CSVUtil.readAll(inputStream)) {
+                        items.put(line[0].charAt(0), SkullUtil.getSkull(line[1]));
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException("Error loading CSV-based font: " + filePath, e);
+                }
+
+                glyphs = new Glyphs(items);
+                this.glyphs = glyphs;
+            }
+
+            return glyphs;
+        }
+    }
+
+    /**
+     * The items of a font by their characters. Characters in the range most fonts cover are looked up in arrays, other
+     * characters in maps. The items for lookups that ignore case are computed up front, so these take a single lookup
+     * as well. Instances are never modified after construction.
+     *
+     * @since 0.10.19
+     */
+    static final class Glyphs {
+
+        /**
+         * The characters below this value are stored in the arrays, which covers the Latin, Greek and Cyrillic
+         * characters
+         */
+        static final int DENSE_RANGE = 0x500;
+
+        /**
+         * The items of the characters below {@link #DENSE_RANGE}
+         */
+        @Nullable
+        private final ItemStack @NotNull [] dense = new ItemStack[DENSE_RANGE];
+
+        /**
+         * The items of the characters below {@link #DENSE_RANGE}, ignoring case
+         */
+        @Nullable
+        private final ItemStack @NotNull [] denseIgnoreCase = new ItemStack[DENSE_RANGE];
+
+        /**
+         * The items of the other characters
+         */
+        @NotNull
+        private final Map<Character, ItemStack> sparse = new HashMap<>();
+
+        /**
+         * The items of the other characters, ignoring case
+         */
+        @NotNull
+        private final Map<Character, ItemStack> sparseIgnoreCase = new HashMap<>();
+
+        /**
+         * Creates the glyphs for the specified items
+         *
+         * @param items the items by their characters
+         * @since 0.10.19
+         */
+        Glyphs(@NotNull Map<Character, ItemStack> items) {
+            for (int index = Character.MIN_VALUE; index <= Character.MAX_VALUE; index++) {
+                char character = (char) index;
+                ItemStack item = items.get(character);
+
+                put(character, item, dense, sparse);
+
+                if (item == null) {
+                    item = items.get(Character.toUpperCase(character));
+                }
+
+                if (item == null) {
+                    item = items.get(Character.toLowerCase(character));
+                }
+
+                put(character, item, denseIgnoreCase, sparseIgnoreCase);
+            }
+        }
+
+        /**
+         * Gets the item of the specified character
+         *
+         * @param character the character
+         * @return the item, or null if there is none
+         * @since 0.10.19
+         */
+        @Nullable
+        @Contract(pure = true)
+        ItemStack get(char character) {
+            return character < DENSE_RANGE ? dense[character] : sparse.get(character);
+        }
+
+        /**
+         * Gets the item of the specified character, ignoring case as specified by {@link Font#toItemIgnoreCase(char)}
+         *
+         * @param character the character
+         * @return the item, or null if there is none
+         * @since 0.10.19
+         */
+        @Nullable
+        @Contract(pure = true)
+        ItemStack getIgnoreCase(char character) {
+            return character < DENSE_RANGE ? denseIgnoreCase[character] : sparseIgnoreCase.get(character);
+        }
+
+        /**
+         * Stores the specified item for the specified character in the array or the map, depending on the character
+         *
+         * @param character the character
+         * @param item the item, or null to store nothing
+         * @param dense the array
+         * @param sparse the map
+         * @since 0.10.19
+         */
+        private static void put(char character, @Nullable ItemStack item, @Nullable ItemStack @NotNull [] dense,
+                                @NotNull Map<Character, ItemStack> sparse) {
+            if (item == null) {
+                return;
+            }
+
+            if (character < DENSE_RANGE) {
+                dense[character] = item;
+            } else {
+                sparse.put(character, item);
+            }
+        }
     }
 }
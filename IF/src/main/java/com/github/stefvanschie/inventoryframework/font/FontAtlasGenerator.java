@@ -0,0 +1,67 @@
+package com.github.stefvanschie.inventoryframework.font;
+
+import com.github.stefvanschie.inventoryframework.util.CSVUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Generates the font atlases read by {@link AtlasFont} from csv fonts. This runs as part of the build, right after the
+ * main classes have been compiled, which converts the csv files of the built-in fonts. It is excluded from the jar.
+ *
+ * @since 0.10.19
+ */
+public final class FontAtlasGenerator {
+
+    /**
+     * A private constructor to prevent construction.
+     */
+    private FontAtlasGenerator() {}
+
+    /**
+     * Converts every csv file in a directory into a font atlas with the same name and the atlas extension. The first
+     * argument is the directory with the csv files, the second argument is the directory to write the atlases to.
+     *
+     * @param args the arguments
+     * @throws IOException when reading or writing fails for any reason
+     * @since 0.10.19
+     */
+    public static void main(@NotNull String @NotNull [] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: FontAtlasGenerator <csv directory> <output directory>");
+        }
+
+        generate(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    /**
+     * Converts every csv file in the specified directory into a font atlas with the same name and the atlas extension
+     * in the specified output directory.
+     *
+     * @param directory the directory with the csv files
+     * @param outputDirectory the directory to write the atlases to
+     * @throws IOException when reading or writing fails for any reason
+     * @since 0.10.19
+     */
+    public static void generate(@NotNull Path directory, @NotNull Path outputDirectory) throws IOException {
+        Files.createDirectories(outputDirectory);
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.csv")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String atlasName = fileName.substring(0, fileName.length() - ".csv".length()) + ".atlas";
+
+                try (InputStream inputStream = Files.newInputStream(file);
+                     OutputStream outputStream = Files.newOutputStream(outputDirectory.resolve(atlasName))) {
+                    AtlasFont.write(CSVUtil.readAll(inputStream), outputStream);
+                }
+            }
+        }
+    }
+}
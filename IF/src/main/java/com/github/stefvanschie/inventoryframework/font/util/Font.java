@@ -6,12 +6,13 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * An interface for fonts
+ * An interface for fonts. The built-in fonts only create their items once they are first used, so fonts that are never
+ * used don't cost anything.
  *
  * @since 0.5.0
  */
@@ -21,172 +22,172 @@ public abstract class Font {
      * A map containing font names and mapping them to the fonts
      */
     @NotNull
-    private static final Map<String, Font> FONT_BY_NAME = new HashMap<>();
+    private static final Map<String, Font> FONT_BY_NAME = new ConcurrentHashMap<>();
 
     /**
      * The birch planks font
      */
-    public static final Font BIRCH_PLANKS = new CSVFont(' ', "/fonts/birch-planks.csv");
+    public static final Font BIRCH_PLANKS = new AtlasFont(' ', "/fonts/birch-planks.atlas");
 
     /**
      * The black font
      */
-    public static final Font BLACK = new CSVFont(' ', "/fonts/black.csv");
+    public static final Font BLACK = new AtlasFont(' ', "/fonts/black.atlas");
 
     /**
      * The blue font
      */
-    public static final Font BLUE = new CSVFont(' ', "/fonts/blue.csv");
+    public static final Font BLUE = new AtlasFont(' ', "/fonts/blue.atlas");
 
     /**
      * The brown font
      */
-    public static final Font BROWN = new CSVFont(' ', "/fonts/brown.csv");
+    public static final Font BROWN = new AtlasFont(' ', "/fonts/brown.atlas");
 
     /**
      * The cobblestone font
      */
-    public static final Font COBBLESTONE = new CSVFont(' ', "/fonts/cobblestone.csv");
+    public static final Font COBBLESTONE = new AtlasFont(' ', "/fonts/cobblestone.atlas");
 
     /**
      * The cyan font
      */
-    public static final Font CYAN = new CSVFont(' ', "/fonts/cyan.csv");
+    public static final Font CYAN = new AtlasFont(' ', "/fonts/cyan.atlas");
 
     /**
      * The diamond font
      */
-    public static final Font DIAMOND = new CSVFont(' ', "/fonts/diamond.csv");
+    public static final Font DIAMOND = new AtlasFont(' ', "/fonts/diamond.atlas");
 
     /**
      * The dirt font
      */
-    public static final Font DIRT = new CSVFont(' ', "/fonts/dirt.csv");
+    public static final Font DIRT = new AtlasFont(' ', "/fonts/dirt.atlas");
 
     /**
      * The gold font
      */
-    public static final Font GOLD = new CSVFont(' ', "/fonts/gold.csv");
+    public static final Font GOLD = new AtlasFont(' ', "/fonts/gold.atlas");
 
     /**
      * The gray font
      */
-    public static final Font GRAY = new CSVFont(' ', "/fonts/gray.csv");
+    public static final Font GRAY = new AtlasFont(' ', "/fonts/gray.atlas");
 
     /**
      * The green font
      */
-    public static final Font GREEN = new CSVFont(' ', "/fonts/green.csv");
+    public static final Font GREEN = new AtlasFont(' ', "/fonts/green.atlas");
 
     /**
      * The jungle planks font
      */
-    public static final Font JUNGLE_PLANKS = new CSVFont(' ', "/fonts/jungle-planks.csv");
+    public static final Font JUNGLE_PLANKS = new AtlasFont(' ', "/fonts/jungle-planks.atlas");
 
     /**
      * The letter cube font
      */
-    public static final Font LETTER_CUBE = new CSVFont(' ', "/fonts/letter-cube.csv");
+    public static final Font LETTER_CUBE = new AtlasFont(' ', "/fonts/letter-cube.atlas");
 
     /**
      * The light blue font
      */
-    public static final Font LIGHT_BLUE = new CSVFont(' ', "/fonts/light-blue.csv");
+    public static final Font LIGHT_BLUE = new AtlasFont(' ', "/fonts/light-blue.atlas");
 
     /**
      * The light gray font
      */
-    public static final Font LIGHT_GRAY = new CSVFont(' ', "/fonts/light-gray.csv");
+    public static final Font LIGHT_GRAY = new AtlasFont(' ', "/fonts/light-gray.atlas");
 
     /**
      * The lime font
      */
-    public static final Font LIME = new CSVFont(' ', "/fonts/lime.csv");
+    public static final Font LIME = new AtlasFont(' ', "/fonts/lime.atlas");
 
     /**
      * The magenta font
      */
-    public static final Font MAGENTA = new CSVFont(' ', "/fonts/magenta.csv");
+    public static final Font MAGENTA = new AtlasFont(' ', "/fonts/magenta.atlas");
 
     /**
      * The monitor font
      */
-    public static final Font MONITOR = new CSVFont(' ', "/fonts/monitor.csv");
+    public static final Font MONITOR = new AtlasFont(' ', "/fonts/monitor.atlas");
 
     /**
      * The oak log font
      */
-    public static final Font OAK_LOG = new CSVFont(' ', "/fonts/oak-log.csv");
+    public static final Font OAK_LOG = new AtlasFont(' ', "/fonts/oak-log.atlas");
 
     /**
      * The oak planks font
      */
-    public static final Font OAK_PLANKS = new CSVFont(' ', "/fonts/oak-planks.csv");
+    public static final Font OAK_PLANKS = new AtlasFont(' ', "/fonts/oak-planks.atlas");
 
     /**
      * The orange font
      */
-    public static final Font ORANGE = new CSVFont(' ', "/fonts/orange.csv");
+    public static final Font ORANGE = new AtlasFont(' ', "/fonts/orange.atlas");
 
     /**
      * The pink font
      */
-    public static final Font PINK = new CSVFont(' ', "/fonts/pink.csv");
+    public static final Font PINK = new AtlasFont(' ', "/fonts/pink.atlas");
 
     /**
      * The plush font
      */
-    public static final Font PLUSH = new CSVFont(' ', "/fonts/plush.csv");
+    public static final Font PLUSH = new AtlasFont(' ', "/fonts/plush.atlas");
 
     /**
      * The pumpkin font
      */
-    public static final Font PUMPKIN = new CSVFont('_', "/fonts/pumpkin.csv");
+    public static final Font PUMPKIN = new AtlasFont('_', "/fonts/pumpkin.atlas");
 
     /**
      * The purple font
      */
-    public static final Font PURPLE = new CSVFont(' ', "/fonts/purple.csv");
+    public static final Font PURPLE = new AtlasFont(' ', "/fonts/purple.atlas");
 
     /**
      * The quartz font
      */
-    public static final Font QUARTZ = new CSVFont(' ', "/fonts/quartz.csv");
+    public static final Font QUARTZ = new AtlasFont(' ', "/fonts/quartz.atlas");
 
     /**
      * The rainbow font
      */
-    public static final Font RAINBOW = new CSVFont(' ', "/fonts/rainbow.csv");
+    public static final Font RAINBOW = new AtlasFont(' ', "/fonts/rainbow.atlas");
 
     /**
      * The red font
      */
-    public static final Font RED = new CSVFont(' ', "/fonts/red.csv");
+    public static final Font RED = new AtlasFont(' ', "/fonts/red.atlas");
 
     /**
      * The spruce planks font
      */
-    public static final Font SPRUCE_PLANKS = new CSVFont(' ', "/fonts/spruce-planks.csv");
+    public static final Font SPRUCE_PLANKS = new AtlasFont(' ', "/fonts/spruce-planks.atlas");
 
     /**
      * The stone font
      */
-    public static final Font STONE = new CSVFont(' ', "/fonts/stone.csv");
+    public static final Font STONE = new AtlasFont(' ', "/fonts/stone.atlas");
 
     /**
      * The watermelon font
      */
-    public static final Font WATERMELON = new CSVFont(' ', "/fonts/watermelon.csv");
+    public static final Font WATERMELON = new AtlasFont(' ', "/fonts/watermelon.atlas");
 
     /**
      * The white font
      */
-    public static final Font WHITE = new CSVFont(' ', "/fonts/white.csv");
+    public static final Font WHITE = new AtlasFont(' ', "/fonts/white.atlas");
 
     /**
      * The yellow font
      */
-    public static final Font YELLOW = new CSVFont(' ', "/fonts/yellow.csv");
+    public static final Font YELLOW = new AtlasFont(' ', "/fonts/yellow.atlas");
 
     /**
      * Gets a default item for characters that do not have a dedicated item
@@ -210,6 +211,31 @@ public abstract class Font {
     @Contract(pure = true)
     public abstract ItemStack toItem(char character);
 
+    /**
+     * Turns the specified character into an {@link ItemStack} representing the specified character, ignoring case. If
+     * there is no item for the character itself, the item for the upper case character is used, and if there is none
+     * either, the item for the lower case character. If there is no item for any of these, this will return null.
+     *
+     * @param character the character to get an item from
+     * @return the item
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public ItemStack toItemIgnoreCase(char character) {
+        ItemStack item = toItem(character);
+
+        if (item == null) {
+            item = toItem(Character.toUpperCase(character));
+        }
+
+        if (item == null) {
+            item = toItem(Character.toLowerCase(character));
+        }
+
+        return item;
+    }
+
     /**
      * Gets a font by its name. The name will be made uppercase and spaces will be replaced with underscore before
      * trying to access it.
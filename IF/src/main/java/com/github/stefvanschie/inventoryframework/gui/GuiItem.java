@@ -1,5 +1,7 @@
 package com.github.stefvanschie.inventoryframework.gui;
 
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
 import com.github.stefvanschie.inventoryframework.util.UUIDTagType;
 import org.bukkit.NamespacedKey;
@@ -14,8 +16,13 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.List;
@@ -68,6 +75,54 @@ public class GuiItem {
     @NotNull
     private UUID uuid = UUID.randomUUID();
 
+    /**
+     * Resolves the display name of this item for a locale, or null if the display name isn't localized
+     */
+    @Nullable
+    private Function<? super String, ? extends TextHolder> localizedDisplayName;
+
+    /**
+     * Resolves the lore of this item for a locale, or null if the lore isn't localized
+     */
+    @Nullable
+    private Function<? super String, ? extends List<? extends TextHolder>> localizedLore;
+
+    /**
+     * The rendered items by locale, or null if nothing has been rendered yet. These are shared between copies of this
+     * item, since they render the same, and are replaced whenever something changes that affects the rendered items.
+     */
+    @Nullable
+    private LocalizedItems localizedItems;
+
+    /**
+     * The template of the display name and lore, or null if this item doesn't have a template
+     */
+    @Nullable
+    private ItemTemplate template;
+
+    /**
+     * The current values of the placeholders of the template, by the index of the placeholder
+     */
+    private String @NotNull [] placeholderValues = new String[0];
+
+    /**
+     * The rendered lines of lore of the template
+     */
+    private String @NotNull [] renderedLore = new String[0];
+
+    /**
+     * The lines of the template which have to be rendered again, because a placeholder in them changed
+     */
+    @NotNull
+    private BitSet dirtyLines = new BitSet();
+
+    /**
+     * The item meta the template is rendered onto, which is kept so it doesn't have to be retrieved from the item every
+     * time a placeholder changes. This is null if the meta hasn't been retrieved yet.
+     */
+    @Nullable
+    private ItemMeta templateMeta;
+
     /**
      * Creates a new gui item based on the item stack and action
      *
@@ -144,13 +199,20 @@ public class GuiItem {
      * @since 0.6.2
      */
     @NotNull
-    @Contract(pure = true)
     public GuiItem copy() {
+        applyTemplate();
+
         GuiItem guiItem = new GuiItem(item.clone(), action, this.logger, this.keyUUID);
 
         guiItem.visible = visible;
         guiItem.uuid = uuid;
         guiItem.properties = new ArrayList<>(properties);
+        guiItem.localizedDisplayName = localizedDisplayName;
+        guiItem.localizedLore = localizedLore;
+        guiItem.localizedItems = localizedItems;
+        guiItem.template = template;
+        guiItem.placeholderValues = placeholderValues.clone();
+        guiItem.renderedLore = renderedLore.clone();
         ItemMeta meta = guiItem.item.getItemMeta();
 
         if (meta != null) {
@@ -195,6 +257,8 @@ public class GuiItem {
         if (meta != null) {
             meta.getPersistentDataContainer().set(this.keyUUID, UUIDTagType.INSTANCE, uuid);
             item.setItemMeta(meta);
+
+            NMSItemCache.invalidate(item);
         }
     }
 
@@ -206,6 +270,162 @@ public class GuiItem {
      */
     public void setItem(@NotNull ItemStack item) {
         this.item = item;
+        this.localizedItems = null;
+        this.templateMeta = null;
+
+        if (this.template != null) {
+            this.dirtyLines.set(0, this.template.getLineCount());
+        }
+    }
+
+    /**
+     * Sets the template for the display name and lore of this item. The display name, if the template has one, and
+     * the lore of the item are replaced by the rendered template. All placeholders start out as they are written in
+     * the template, until their value is set with {@link #setPlaceholder(String, String)}.
+     * <p>
+     * Changes to placeholders are applied to the item when it is next retrieved, for example when the gui is updated.
+     * Only the lines in which a placeholder changed are rendered again and the item meta is only written back to the
+     * item when at least one placeholder changed. Since changing the template requires no new gui item, the item can
+     * stay in its pane and only needs to be sent to viewers again when it has actually changed. Templated items are
+     * not copied when they are displayed, so the item should not be modified directly while it has a template.
+     *
+     * @param template the template, or null to remove the template and keep the item as it currently is
+     * @since 0.10.19
+     */
+    public void setTemplate(@Nullable ItemTemplate template) {
+        this.template = template;
+        this.templateMeta = null;
+        this.dirtyLines = new BitSet();
+
+        if (template == null) {
+            this.placeholderValues = new String[0];
+            this.renderedLore = new String[0];
+            return;
+        }
+
+        this.placeholderValues = template.createValues();
+        this.renderedLore = new String[template.getLineCount() - 1];
+        this.dirtyLines.set(0, template.getLineCount());
+    }
+
+    /**
+     * Gets the template for the display name and lore of this item.
+     *
+     * @return the template, or null if this item doesn't have a template
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public ItemTemplate getTemplate() {
+        return template;
+    }
+
+    /**
+     * Sets the value of the placeholder with the specified name in the template of this item. If the value is the same
+     * as the current value, nothing happens. Otherwise the lines in which the placeholder appears are rendered again
+     * when the item is next retrieved.
+     *
+     * @param name the name of the placeholder
+     * @param value the new value
+     * @return true if the value changed, false otherwise
+     * @throws IllegalStateException if this item doesn't have a template
+     * @throws IllegalArgumentException if the template doesn't have a placeholder with the specified name
+     * @since 0.10.19
+     */
+    public boolean setPlaceholder(@NotNull String name, @NotNull String value) {
+        if (this.template == null) {
+            throw new IllegalStateException("Item does not have a template");
+        }
+
+        int index = this.template.indexOf(name);
+
+        if (index == -1) {
+            throw new IllegalArgumentException("Template does not have a placeholder named '" + name + "'");
+        }
+
+        if (this.placeholderValues[index].equals(value)) {
+            return false;
+        }
+
+        this.placeholderValues[index] = value;
+
+        for (int line : this.template.getLines(index)) {
+            this.dirtyLines.set(line);
+        }
+
+        return true;
+    }
+
+    /**
+     * Sets the display name of this item per locale. When this item is shown in a component with a locale, see
+     * {@link InventoryComponent#setLocale(String)}, the display name is resolved for that locale and the item is
+     * rendered with it. The rendered item is cached per locale, so the resolver is called once per locale and not once
+     * per viewer. The resolver should therefore always return the same text for the same locale.
+     *
+     * @param localizedDisplayName the resolver of the display name, or null to not localize the display name
+     * @since 0.10.19
+     */
+    public void setLocalizedDisplayName(
+        @Nullable Function<? super String, ? extends TextHolder> localizedDisplayName
+    ) {
+        this.localizedDisplayName = localizedDisplayName;
+        this.localizedItems = null;
+    }
+
+    /**
+     * Sets the lore of this item per locale, replacing the lore of the item. This behaves the same as
+     * {@link #setLocalizedDisplayName(Function)}.
+     *
+     * @param localizedLore the resolver of the lore, or null to not localize the lore
+     * @since 0.10.19
+     */
+    public void setLocalizedLore(
+        @Nullable Function<? super String, ? extends List<? extends TextHolder>> localizedLore
+    ) {
+        this.localizedLore = localizedLore;
+        this.localizedItems = null;
+    }
+
+    /**
+     * Gets whether the display name or lore of this item is localized.
+     *
+     * @return true if this item is localized, false otherwise
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public boolean isLocalized() {
+        return localizedDisplayName != null || localizedLore != null;
+    }
+
+    /**
+     * Gets the item as rendered for the specified locale. The localized display name and lore are applied to a copy of
+     * the item, together with the internal UUID of this item. The rendered item is cached, so all viewers with the
+     * same locale share a single item, which should not be modified. The cached items are rendered again once the item
+     * no longer equals the item they were rendered from, so changes made directly to the item, such as through
+     * {@link ItemStack#setItemMeta(ItemMeta)}, are picked up as well. If this item isn't localized, this is the same as
+     * {@link #getItem()}.
+     *
+     * @param locale the locale
+     * @return the rendered item
+     * @since 0.10.19
+     */
+    @NotNull
+    public ItemStack getItem(@NotNull String locale) {
+        if (!isLocalized()) {
+            return item;
+        }
+
+        ItemStack source = getItem();
+        LocalizedItems localizedItems = this.localizedItems;
+
+        if (localizedItems == null || !localizedItems.source.equals(source)) {
+            //replaced instead of cleared, so copies which still render the same keep their items
+            localizedItems = new LocalizedItems(source.clone());
+
+            this.localizedItems = localizedItems;
+        }
+
+        return localizedItems.items.computeIfAbsent(locale, this::render);
     }
 
     /**
@@ -241,13 +461,14 @@ public class GuiItem {
     }
 
     /**
-     * Returns the item
+     * Returns the item. If this item has a template, changed placeholders are applied to the item first.
      *
      * @return the item that belongs to this gui item
      */
     @NotNull
-    @Contract(pure = true)
     public ItemStack getItem() {
+        applyTemplate();
+
         return item;
     }
 
@@ -293,4 +514,120 @@ public class GuiItem {
     public void setVisible(boolean visible) {
         this.visible = visible;
     }
+
+    /**
+     * Renders the item for the specified locale
+     *
+     * @param locale the locale
+     * @return the rendered item
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private ItemStack render(@NotNull String locale) {
+        ItemStack rendered = getItem().clone();
+        ItemMeta meta = rendered.getItemMeta();
+
+        if (meta == null) {
+            return rendered;
+        }
+
+        if (localizedDisplayName != null) {
+            localizedDisplayName.apply(locale).asItemDisplayName(meta);
+        }
+
+        if (localizedLore != null) {
+            meta.setLore(null);
+
+            for (TextHolder line : localizedLore.apply(locale)) {
+                line.asItemLoreAtEnd(meta);
+            }
+        }
+
+        meta.getPersistentDataContainer().set(keyUUID, UUIDTagType.INSTANCE, uuid);
+        rendered.setItemMeta(meta);
+
+        return rendered;
+    }
+
+    /**
+     * Renders the lines of the template in which a placeholder changed and writes them to the item. If nothing
+     * changed, or this item doesn't have a template, this does nothing.
+     *
+     * @since 0.10.19
+     */
+    private void applyTemplate() {
+        if (this.template == null || this.dirtyLines.isEmpty()) {
+            return;
+        }
+
+        if (this.templateMeta == null) {
+            this.templateMeta = item.getItemMeta();
+
+            if (this.templateMeta == null) {
+                this.dirtyLines.clear();
+                return;
+            }
+
+            this.templateMeta.getPersistentDataContainer().set(keyUUID, UUIDTagType.INSTANCE, uuid);
+        }
+
+        boolean loreChanged = false;
+
+        for (int line = this.dirtyLines.nextSetBit(0); line >= 0; line = this.dirtyLines.nextSetBit(line + 1)) {
+            String rendered = this.template.render(line, this.placeholderValues);
+
+            if (line == 0) {
+                if (rendered != null) {
+                    this.templateMeta.setDisplayName(rendered);
+                }
+            } else {
+                this.renderedLore[line - 1] = rendered;
+                loreChanged = true;
+            }
+        }
+
+        this.dirtyLines.clear();
+
+        if (loreChanged) {
+            this.templateMeta.setLore(Arrays.asList(this.renderedLore));
+        }
+
+        item.setItemMeta(this.templateMeta);
+
+        NMSItemCache.invalidate(item);
+
+        this.localizedItems = null;
+    }
+
+    /**
+     * Items rendered per locale, together with the item they were rendered from
+     *
+     * @since 0.10.19
+     */
+    private static final class LocalizedItems {
+
+        /**
+         * A copy of the item the items were rendered from
+         */
+        @NotNull
+        private final ItemStack source;
+
+        /**
+         * The rendered items by locale
+         */
+        @NotNull
+        private final Map<String, ItemStack> items = new ConcurrentHashMap<>();
+
+        /**
+         * Creates new localized items for the specified item
+         *
+         * @param source a copy of the item the items are rendered from
+         * @since 0.10.19
+         */
+        @Contract(pure = true)
+        private LocalizedItems(@NotNull ItemStack source) {
+            this.source = source;
+        }
+    }
 }
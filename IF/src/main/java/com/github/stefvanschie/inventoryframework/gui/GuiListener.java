@@ -3,6 +3,7 @@ package com.github.stefvanschie.inventoryframework.gui;
 import com.github.stefvanschie.inventoryframework.gui.type.*;
 import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
 import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
+import com.github.stefvanschie.inventoryframework.util.ResyncUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.LivingEntity;
@@ -84,13 +85,9 @@ public class GuiListener implements Listener {
         gui.click(event);
 
         if (event.isCancelled()) {
-            Bukkit.getScheduler().runTask(this.plugin, () -> {
-                PlayerInventory playerInventory = event.getWhoClicked().getInventory();
-
-                /* due to a client issue off-hand items appear as ghost items, this updates the off-hand correctly
-                   client-side */
-                playerInventory.setItemInOffHand(playerInventory.getItemInOffHand());
-            });
+            /* due to a client issue off-hand items appear as ghost items, this updates the off-hand correctly
+               client-side */
+            ResyncUtil.resyncOffHand(event, InventoryViewUtil.getInstance().getTopInventory(view).getSize());
         }
     }
 
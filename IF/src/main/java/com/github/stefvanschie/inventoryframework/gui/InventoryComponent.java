@@ -1,5 +1,6 @@
 package com.github.stefvanschie.inventoryframework.gui;
 
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
 import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
@@ -43,6 +44,12 @@ public class InventoryComponent {
      */
     private final int length, height;
 
+    /**
+     * The locale the items in this component are rendered for, or null to use the items as they are
+     */
+    @Nullable
+    private String locale;
+
     /**
      * Creates a new inventory component with the specified length and width. If either the length or the width is less
      * than zero, an {@link IllegalArgumentException} will be thrown.
@@ -239,6 +246,8 @@ public class InventoryComponent {
             inventoryComponent.addPane(pane.copy());
         }
 
+        inventoryComponent.locale = locale;
+
         return inventoryComponent;
     }
 
@@ -272,6 +281,8 @@ public class InventoryComponent {
             newInventoryComponent.addPane(pane);
         }
 
+        newInventoryComponent.locale = locale;
+
         for (int x = 0; x < getLength(); x++) {
             int newY = 0;
 
@@ -435,12 +446,47 @@ public class InventoryComponent {
                 "; should be below " + getLength() + " and " + getHeight());
         }
 
+        if (this.locale != null && guiItem.isLocalized()) {
+            this.items[x][y] = guiItem.getItem(this.locale);
+            return;
+        }
+
+        //templated items already carry their UUID and are rendered in place, so copying them every update is not needed
+        if (guiItem.getTemplate() != null) {
+            this.items[x][y] = guiItem.getItem();
+            return;
+        }
+
         GuiItem copy = guiItem.copy();
         copy.applyUUID();
 
         this.items[x][y] = copy.getItem();
     }
 
+    /**
+     * Sets the locale to render the items in this component for. Gui items which have localized text will have their
+     * text rendered for this locale when they are displayed in this component, see {@link GuiItem#getItem(String)}. If
+     * the locale is null, items are displayed as they are.
+     *
+     * @param locale the locale, or null
+     * @since 0.10.19
+     */
+    public void setLocale(@Nullable String locale) {
+        this.locale = locale;
+    }
+
+    /**
+     * Gets the locale the items in this component are rendered for.
+     *
+     * @return the locale, or null if items are displayed as they are
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public String getLocale() {
+        return locale;
+    }
+
     /**
      * Adds the specified item in the slot at the specified positions. This will override an already set item if it
      * resides in the same position as specified. If the position specified is outside of the boundaries set by this
@@ -460,6 +506,9 @@ public class InventoryComponent {
                 "; should be below " + getLength() + " and " + getHeight());
         }
 
+        //the item may have been modified since it was last sent
+        NMSItemCache.invalidate(item);
+
         this.items[x][y] = item;
     }
 
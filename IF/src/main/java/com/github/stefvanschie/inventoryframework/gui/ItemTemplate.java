@@ -0,0 +1,313 @@
+package com.github.stefvanschie.inventoryframework.gui;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A display name and lore with placeholders, for items whose text changes often, such as a balance or a countdown. The
+ * text is split into static segments and placeholders once, when the template is compiled. A placeholder is written as
+ * a name between curly braces, for example {@code {balance}}, where the name consists of letters, digits, underscores,
+ * dashes and dots. Other curly braces are kept as they are.
+ * <p>
+ * Templates are immutable and can be shared between any amount of items, see {@link GuiItem#setTemplate(ItemTemplate)}.
+ *
+ * @since 0.10.19
+ */
+public final class ItemTemplate {
+
+    /**
+     * The pattern of a placeholder
+     */
+    @NotNull
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Za-z0-9_.-]+)}");
+
+    /**
+     * The lines of this template. The first line is the display name, or null if the display name is not part of this
+     * template; the other lines are the lore.
+     */
+    private final @Nullable Line @NotNull [] lines;
+
+    /**
+     * The indices of the placeholders by name, in order of first appearance
+     */
+    @NotNull
+    private final Map<String, Integer> placeholders;
+
+    /**
+     * The indices of the lines every placeholder appears in, by the index of the placeholder
+     */
+    private final int @NotNull [][] linesByPlaceholder;
+
+    /**
+     * Creates a new template
+     *
+     * @param lines the lines
+     * @param placeholders the indices of the placeholders by name
+     * @since 0.10.19
+     */
+    private ItemTemplate(@Nullable Line @NotNull [] lines, @NotNull Map<String, Integer> placeholders) {
+        this.lines = lines;
+        this.placeholders = placeholders;
+        this.linesByPlaceholder = new int[placeholders.size()][];
+
+        for (int placeholder = 0; placeholder < this.linesByPlaceholder.length; placeholder++) {
+            List<Integer> indices = new ArrayList<>();
+
+            for (int index = 0; index < lines.length; index++) {
+                Line line = lines[index];
+
+                if (line != null && line.contains(placeholder)) {
+                    indices.add(index);
+                }
+            }
+
+            this.linesByPlaceholder[placeholder] = indices.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Compiles a template with the specified display name and lore.
+     *
+     * @param displayName the display name, or null to leave the display name of items as it is
+     * @param lore the lines of lore
+     * @return the template
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static ItemTemplate compile(@Nullable String displayName, @NotNull List<String> lore) {
+        Map<String, Integer> placeholders = new LinkedHashMap<>();
+        Line[] lines = new Line[lore.size() + 1];
+
+        if (displayName != null) {
+            lines[0] = Line.parse(displayName, placeholders);
+        }
+
+        for (int index = 0; index < lore.size(); index++) {
+            lines[index + 1] = Line.parse(lore.get(index), placeholders);
+        }
+
+        return new ItemTemplate(lines, placeholders);
+    }
+
+    /**
+     * Gets the names of the placeholders in this template, in order of first appearance.
+     *
+     * @return the names of the placeholders
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Set<String> getPlaceholders() {
+        return Collections.unmodifiableSet(placeholders.keySet());
+    }
+
+    /**
+     * Gets whether this template sets the display name.
+     *
+     * @return true if the display name is part of this template, false otherwise
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public boolean hasDisplayName() {
+        return lines[0] != null;
+    }
+
+    /**
+     * Gets the amount of lines, which is the amount of lines of lore plus one for the display name.
+     *
+     * @return the amount of lines
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    int getLineCount() {
+        return lines.length;
+    }
+
+    /**
+     * Gets the index of the placeholder with the specified name.
+     *
+     * @param name the name of the placeholder
+     * @return the index, or -1 if this template has no such placeholder
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    int indexOf(@NotNull String name) {
+        Integer index = placeholders.get(name);
+
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the indices of the lines the placeholder with the specified index appears in. The returned array should not
+     * be modified.
+     *
+     * @param placeholder the index of the placeholder
+     * @return the indices of the lines
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    int @NotNull [] getLines(int placeholder) {
+        return linesByPlaceholder[placeholder];
+    }
+
+    /**
+     * Gets the initial values of the placeholders, which are the placeholders as they are written in the template.
+     *
+     * @return the initial values
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    String @NotNull [] createValues() {
+        String[] values = new String[placeholders.size()];
+
+        for (Map.Entry<String, Integer> entry : placeholders.entrySet()) {
+            values[entry.getValue()] = '{' + entry.getKey() + '}';
+        }
+
+        return values;
+    }
+
+    /**
+     * Renders the line with the specified index using the specified placeholder values.
+     *
+     * @param index the index of the line
+     * @param values the values of the placeholders
+     * @return the rendered line, or null if the line is a display name which is not part of this template
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    String render(int index, String @NotNull [] values) {
+        Line line = lines[index];
+
+        return line == null ? null : line.render(values);
+    }
+
+    /**
+     * A single line of a template, consisting of static segments with placeholders in between.
+     *
+     * @since 0.10.19
+     */
+    private static final class Line {
+
+        /**
+         * The static segments; there is always one segment more than there are placeholders
+         */
+        private final String @NotNull [] segments;
+
+        /**
+         * The indices of the placeholders between the segments
+         */
+        private final int @NotNull [] placeholders;
+
+        /**
+         * The combined length of the static segments
+         */
+        private final int staticLength;
+
+        /**
+         * Creates a new line
+         *
+         * @param segments the static segments
+         * @param placeholders the indices of the placeholders between the segments
+         * @since 0.10.19
+         */
+        private Line(String @NotNull [] segments, int @NotNull [] placeholders) {
+            this.segments = segments;
+            this.placeholders = placeholders;
+
+            int staticLength = 0;
+
+            for (String segment : segments) {
+                staticLength += segment.length();
+            }
+
+            this.staticLength = staticLength;
+        }
+
+        /**
+         * Parses the specified text, adding new placeholders to the specified map.
+         *
+         * @param text the text
+         * @param placeholders the indices of the placeholders by name
+         * @return the line
+         * @since 0.10.19
+         */
+        @NotNull
+        private static Line parse(@NotNull String text, @NotNull Map<String, Integer> placeholders) {
+            List<String> segments = new ArrayList<>();
+            List<Integer> indices = new ArrayList<>();
+            Matcher matcher = PLACEHOLDER.matcher(text);
+            int start = 0;
+
+            while (matcher.find()) {
+                segments.add(text.substring(start, matcher.start()));
+                indices.add(placeholders.computeIfAbsent(matcher.group(1), name -> placeholders.size()));
+
+                start = matcher.end();
+            }
+
+            segments.add(text.substring(start));
+
+            return new Line(segments.toArray(new String[0]), indices.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * Gets whether the placeholder with the specified index appears in this line.
+         *
+         * @param placeholder the index of the placeholder
+         * @return true if the placeholder appears in this line, false otherwise
+         * @since 0.10.19
+         */
+        @Contract(pure = true)
+        private boolean contains(int placeholder) {
+            for (int index : placeholders) {
+                if (index == placeholder) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Renders this line using the specified placeholder values.
+         *
+         * @param values the values of the placeholders
+         * @return the rendered line
+         * @since 0.10.19
+         */
+        @NotNull
+        @Contract(pure = true)
+        private String render(String @NotNull [] values) {
+            if (placeholders.length == 0) {
+                return segments[0];
+            }
+
+            int length = staticLength;
+
+            for (int placeholder : placeholders) {
+                length += values[placeholder].length();
+            }
+
+            StringBuilder builder = new StringBuilder(length).append(segments[0]);
+
+            for (int index = 0; index < placeholders.length; index++) {
+                builder.append(values[placeholders[index]]).append(segments[index + 1]);
+            }
+
+            return builder.toString();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
 import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
+import com.github.stefvanschie.inventoryframework.util.ResyncUtil;
 import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.entity.HumanEntity;
@@ -31,6 +32,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -257,6 +259,14 @@ public class AnvilGui extends NamedGui implements InventoryBased {
         return anvilInventory.getRenameText();
     }
 
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Collection<InventoryComponent> getInventoryComponents() {
+        return Arrays.asList(this.firstItemComponent, this.secondItemComponent, this.resultComponent,
+            this.playerInventoryComponent);
+    }
+
     @Contract(pure = true)
     @Override
     public boolean isPlayerInventoryUsed() {
@@ -289,7 +299,9 @@ public class AnvilGui extends NamedGui implements InventoryBased {
         Player player = (Player) event.getWhoClicked();
 
         if (slot >= 3 && slot <= 38) {
-            anvilInventory.sendItems(player, getTopItems());
+            if (!ResyncUtil.resync(event, getTopItems())) {
+                anvilInventory.sendItems(player, getTopItems());
+            }
         } else if (slot == 0 || slot == 1) {
             if (event.isCancelled()) {
                 if (slot == 0) {
@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -153,6 +154,13 @@ public class BarrelGui extends NamedGui implements MergedGui, InventoryBased {
         getInventoryComponent().click(this, event, event.getRawSlot());
     }
 
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Collection<InventoryComponent> getInventoryComponents() {
+        return Collections.singletonList(this.inventoryComponent);
+    }
+
     @Contract(pure = true)
     @Override
     public boolean isPlayerInventoryUsed() {
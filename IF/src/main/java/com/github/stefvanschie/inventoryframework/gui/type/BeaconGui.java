@@ -30,6 +30,8 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -144,6 +146,13 @@ public class BeaconGui extends Gui implements InventoryBased {
         return inventory;
     }
 
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Collection<InventoryComponent> getInventoryComponents() {
+        return Arrays.asList(this.paymentItemComponent, this.playerInventoryComponent);
+    }
+
     @Contract(pure = true)
     @Override
     public boolean isPlayerInventoryUsed() {
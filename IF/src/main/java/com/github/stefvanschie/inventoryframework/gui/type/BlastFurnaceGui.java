@@ -26,6 +26,8 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -175,6 +177,14 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
         return inventory;
     }
 
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Collection<InventoryComponent> getInventoryComponents() {
+        return Arrays.asList(this.ingredientComponent, this.fuelComponent, this.outputComponent,
+            this.playerInventoryComponent);
+    }
+
     @Contract(pure = true)
     @Override
     public boolean isPlayerInventoryUsed() {
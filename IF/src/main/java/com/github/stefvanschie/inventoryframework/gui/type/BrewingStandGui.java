@@ -26,6 +26,8 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -185,6 +187,14 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
         }
     }
 
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Collection<InventoryComponent> getInventoryComponents() {
+        return Arrays.asList(this.firstBottleComponent, this.secondBottleComponent, this.thirdBottleComponent,
+            this.potionIngredientComponent, this.blazePowderComponent, this.playerInventoryComponent);
+    }
+
     @Contract(pure = true)
     @Override
     public boolean isPlayerInventoryUsed() {
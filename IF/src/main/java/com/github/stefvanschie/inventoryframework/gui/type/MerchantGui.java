@@ -37,10 +37,10 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -81,11 +81,10 @@ public class MerchantGui extends NamedGui {
     private final List<HumanEntity> viewers = new ArrayList<>();
 
     /**
-     * The trades of this merchant with their price differences. The differences are the difference between the new
-     * price and the original price.
+     * The trades of this merchant with their price differences
      */
     @NotNull
-    private final List<Map.Entry<MerchantRecipe, Integer>> trades = new ArrayList<>();
+    private final MerchantTrades trades = new MerchantTrades();
 
     /**
      * The experience of this merchant. Values below zero indicate that the experience should be hidden.
@@ -188,6 +187,7 @@ public class MerchantGui extends NamedGui {
 
         if (isDirty()) {
             this.merchant = getTitleHolder().asMerchantTitle();
+            this.merchant.setRecipes(this.trades.getRecipes());
             markChanges();
         }
 
@@ -220,20 +220,8 @@ public class MerchantGui extends NamedGui {
 
         Player player = (Player) humanEntity;
 
-        if (this.experience >= 0 || this.level > 0) {
-            this.merchantInventory.sendMerchantOffers(player, this.trades, this.level, this.experience);
-
-            return;
-        }
-
-        boolean discount = false;
-
-        for (Map.Entry<MerchantRecipe, Integer> trade : this.trades) {
-            if (trade.getValue() != 0) {
-                this.merchantInventory.sendMerchantOffers(player, this.trades, this.level, this.experience);
-
-                break;
-            }
+        if (this.experience >= 0 || this.level > 0 || this.trades.hasPriceDifference()) {
+            this.merchantInventory.sendMerchantOffers(player, this.trades.getTrades(), this.level, this.experience);
         }
     }
 
@@ -248,26 +236,10 @@ public class MerchantGui extends NamedGui {
         gui.experience = experience;
         gui.level = level;
 
-        for (Map.Entry<MerchantRecipe, Integer> trade : trades) {
-            MerchantRecipe originalRecipe = trade.getKey();
-
-            ItemStack result = originalRecipe.getResult().clone();
-            int uses = originalRecipe.getUses();
-            int maxUses = originalRecipe.getMaxUses();
-            boolean experienceReward = originalRecipe.hasExperienceReward();
-            int villagerExperience = originalRecipe.getVillagerExperience();
-            float priceMultiplier = originalRecipe.getPriceMultiplier();
-
-            MerchantRecipe recipe = new MerchantRecipe(
-                    result, uses, maxUses, experienceReward, villagerExperience, priceMultiplier
-            );
-
-            for (ItemStack ingredient : originalRecipe.getIngredients()) {
-                recipe.addIngredient(ingredient.clone());
-            }
-
-            gui.trades.add(new AbstractMap.SimpleImmutableEntry<>(recipe, trade.getValue()));
-        }
+        //the trades only hold copies of the recipes which are never modified, so they can be shared with the copy
+        gui.trades.addAll(trades);
+        gui.merchant.setRecipes(trades.getRecipes());
+        gui.merchantInventory.shareMerchantOffers(merchantInventory);
 
         gui.setOnTopClick(this.onTopClick);
         gui.setOnBottomClick(this.onBottomClick);
@@ -292,20 +264,93 @@ public class MerchantGui extends NamedGui {
 
     /**
      * Adds a trade to this gui. The specified discount is the difference between the old price and the new price. For
-     * example, if a price was decreased from five to two, the discount would be three.
+     * example, if a price was decreased from five to two, the discount would be three. The recipe is copied, so changes
+     * made to it afterwards don't affect this gui; to change a trade afterwards, use {@link #setTradeUses(int, int)},
+     * {@link #setTradeMaxUses(int, int)} or {@link #setTradeDiscount(int, int)}.
      *
      * @param recipe the recipe to add
      * @param discount the discount
      * @since 0.10.1
      */
     public void addTrade(@NotNull MerchantRecipe recipe, int discount) {
-        this.trades.add(new AbstractMap.SimpleImmutableEntry<>(recipe, -discount));
+        MerchantRecipe snapshot = this.trades.add(recipe, discount);
 
         List<MerchantRecipe> recipes = new ArrayList<>(this.merchant.getRecipes());
 
-        recipes.add(recipe);
+        recipes.add(snapshot);
 
         this.merchant.setRecipes(recipes);
+        this.merchantInventory.clearMerchantOffers();
+    }
+
+    /**
+     * Sets how many times the trade at the specified index has been used. Once a trade has been used as many times as
+     * its maximum uses, the trade is out of stock. The index is the position of the trade in the order in which the
+     * trades were added. The trade is updated for every player viewing this gui, without reopening it.
+     *
+     * @param index the index of the trade
+     * @param uses the amount of times the trade has been used
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.10.19
+     */
+    public void setTradeUses(int index, int uses) {
+        this.trades.setUses(index, uses);
+
+        updateTrade(index);
+    }
+
+    /**
+     * Sets how many times the trade at the specified index can be used before it is out of stock. The index is the
+     * position of the trade in the order in which the trades were added. The trade is updated for every player viewing
+     * this gui, without reopening it.
+     *
+     * @param index the index of the trade
+     * @param maxUses the maximum amount of times the trade can be used
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.10.19
+     */
+    public void setTradeMaxUses(int index, int maxUses) {
+        this.trades.setMaxUses(index, maxUses);
+
+        updateTrade(index);
+    }
+
+    /**
+     * Sets the discount of the trade at the specified index. The discount is the difference between the old price and
+     * the new price, as for {@link #addTrade(MerchantRecipe, int)}. The index is the position of the trade in the
+     * order in which the trades were added. The trade is updated for every player viewing this gui, without reopening
+     * it.
+     *
+     * @param index the index of the trade
+     * @param discount the discount
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.10.19
+     */
+    public void setTradeDiscount(int index, int discount) {
+        this.trades.setDiscount(index, discount);
+
+        updateTrade(index);
+    }
+
+    /**
+     * Sends the changed trade at the specified index to every player viewing this gui. Only the offer of the changed
+     * trade is created again; the offers of the other trades are reused.
+     *
+     * @param index the index of the trade
+     * @since 0.10.19
+     */
+    private void updateTrade(int index) {
+        MerchantRecipe recipe = this.trades.getRecipe(index);
+        int priceDifference = this.trades.getPriceDifference(index);
+
+        this.merchant.setRecipe(index, recipe);
+        this.merchantInventory.updateMerchantOffer(index, recipe, priceDifference);
+
+        for (HumanEntity viewer : this.viewers) {
+            this.merchantInventory.sendMerchantOffers(
+                (Player) viewer, this.trades.getTrades(), this.level, this.experience
+            );
+        }
     }
 
     /**
@@ -366,6 +411,13 @@ public class MerchantGui extends NamedGui {
         this.viewers.remove(humanEntity);
     }
 
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Collection<InventoryComponent> getInventoryComponents() {
+        return Arrays.asList(this.inputComponent, this.playerInventoryComponent);
+    }
+
     @Override
     public boolean isPlayerInventoryUsed() {
         return getPlayerInventoryComponent().hasItem();
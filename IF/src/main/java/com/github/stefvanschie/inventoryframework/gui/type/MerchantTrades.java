@@ -0,0 +1,233 @@
+package com.github.stefvanschie.inventoryframework.gui.type;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.MerchantRecipe;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The trades of a {@link MerchantGui} with their price differences. Recipes are copied when they are added, so changes
+ * made to a recipe after it was added don't affect these trades. The copies are never modified; changing a trade
+ * replaces its recipe with a new copy instead. This allows the recipes to be shared with copies of these trades.
+ *
+ * @since 0.10.19
+ */
+final class MerchantTrades {
+
+    /**
+     * The trades with their price differences. The differences are the difference between the new price and the
+     * original price.
+     */
+    @NotNull
+    private final List<Map.Entry<MerchantRecipe, Integer>> trades = new ArrayList<>();
+
+    /**
+     * Adds a trade with the specified discount. The discount is the difference between the old price and the new
+     * price. A copy of the recipe is stored, so later changes to the specified recipe have no effect.
+     *
+     * @param recipe the recipe to add
+     * @param discount the discount
+     * @return the stored copy of the recipe
+     * @since 0.10.19
+     */
+    @NotNull
+    MerchantRecipe add(@NotNull MerchantRecipe recipe, int discount) {
+        MerchantRecipe snapshot = copyRecipe(recipe, recipe.getResult().clone());
+
+        this.trades.add(new AbstractMap.SimpleImmutableEntry<>(snapshot, -discount));
+
+        return snapshot;
+    }
+
+    /**
+     * Adds all trades of the specified trades to these trades. The recipes are shared, not copied.
+     *
+     * @param trades the trades to add
+     * @since 0.10.19
+     */
+    void addAll(@NotNull MerchantTrades trades) {
+        this.trades.addAll(trades.trades);
+    }
+
+    /**
+     * Sets how many times the trade at the specified index has been used.
+     *
+     * @param index the index of the trade
+     * @param uses the amount of times the trade has been used
+     * @return the new recipe of the trade
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.10.19
+     */
+    @NotNull
+    MerchantRecipe setUses(int index, int uses) {
+        MerchantRecipe recipe = copyRecipe(getRecipe(index));
+
+        recipe.setUses(uses);
+
+        return replace(index, recipe, getPriceDifference(index));
+    }
+
+    /**
+     * Sets how many times the trade at the specified index can be used.
+     *
+     * @param index the index of the trade
+     * @param maxUses the maximum amount of times the trade can be used
+     * @return the new recipe of the trade
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.10.19
+     */
+    @NotNull
+    MerchantRecipe setMaxUses(int index, int maxUses) {
+        MerchantRecipe recipe = copyRecipe(getRecipe(index));
+
+        recipe.setMaxUses(maxUses);
+
+        return replace(index, recipe, getPriceDifference(index));
+    }
+
+    /**
+     * Sets the discount of the trade at the specified index. The discount is the difference between the old price and
+     * the new price.
+     *
+     * @param index the index of the trade
+     * @param discount the discount
+     * @return the recipe of the trade
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.10.19
+     */
+    @NotNull
+    MerchantRecipe setDiscount(int index, int discount) {
+        return replace(index, getRecipe(index), -discount);
+    }
+
+    /**
+     * Gets the recipe of the trade at the specified index. The returned recipe must not be modified.
+     *
+     * @param index the index of the trade
+     * @return the recipe
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    MerchantRecipe getRecipe(int index) {
+        return this.trades.get(index).getKey();
+    }
+
+    /**
+     * Gets the price difference of the trade at the specified index. This is the difference between the new price and
+     * the original price, so the negation of the discount.
+     *
+     * @param index the index of the trade
+     * @return the price difference
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    int getPriceDifference(int index) {
+        return this.trades.get(index).getValue();
+    }
+
+    /**
+     * Checks whether any of the trades has a price difference.
+     *
+     * @return true if a trade has a price difference, false otherwise
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    boolean hasPriceDifference() {
+        for (Map.Entry<MerchantRecipe, Integer> trade : this.trades) {
+            if (trade.getValue() != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the recipes of the trades, in the order in which they were added. The recipes must not be modified.
+     *
+     * @return the recipes
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    List<MerchantRecipe> getRecipes() {
+        List<MerchantRecipe> recipes = new ArrayList<>(this.trades.size());
+
+        for (Map.Entry<MerchantRecipe, Integer> trade : this.trades) {
+            recipes.add(trade.getKey());
+        }
+
+        return recipes;
+    }
+
+    /**
+     * Gets an unmodifiable view of the trades with their price differences.
+     *
+     * @return the trades
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    List<Map.Entry<MerchantRecipe, Integer>> getTrades() {
+        return Collections.unmodifiableList(this.trades);
+    }
+
+    /**
+     * Replaces the trade at the specified index.
+     *
+     * @param index the index of the trade
+     * @param recipe the new recipe
+     * @param priceDifference the new price difference
+     * @return the new recipe
+     * @since 0.10.19
+     */
+    @NotNull
+    private MerchantRecipe replace(int index, @NotNull MerchantRecipe recipe, int priceDifference) {
+        this.trades.set(index, new AbstractMap.SimpleImmutableEntry<>(recipe, priceDifference));
+
+        return recipe;
+    }
+
+    /**
+     * Creates a copy of the specified recipe, sharing its result. This is only used for recipes which are never
+     * modified, so their result isn't modified either.
+     *
+     * @param recipe the recipe to copy
+     * @return the copied recipe
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    private static MerchantRecipe copyRecipe(@NotNull MerchantRecipe recipe) {
+        return copyRecipe(recipe, recipe.getResult());
+    }
+
+    /**
+     * Creates a copy of the specified recipe with the specified result. The ingredients are always cloned.
+     *
+     * @param recipe the recipe to copy
+     * @param result the result of the copy
+     * @return the copied recipe
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    private static MerchantRecipe copyRecipe(@NotNull MerchantRecipe recipe, @NotNull ItemStack result) {
+        MerchantRecipe copy = new MerchantRecipe(result, recipe.getUses(), recipe.getMaxUses(),
+            recipe.hasExperienceReward(), recipe.getVillagerExperience(), recipe.getPriceMultiplier());
+
+        //the ingredients are cloned when they are retrieved
+        copy.setIngredients(recipe.getIngredients());
+
+        return copy;
+    }
+}
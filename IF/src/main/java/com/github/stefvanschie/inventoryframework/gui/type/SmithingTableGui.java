@@ -7,6 +7,7 @@ import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
 import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
+import com.github.stefvanschie.inventoryframework.util.ResyncUtil;
 import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.entity.HumanEntity;
@@ -31,6 +32,8 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -197,6 +200,14 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
         return inventory;
     }
 
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Collection<InventoryComponent> getInventoryComponents() {
+        return Arrays.asList(this.firstItemComponent, this.secondItemComponent, this.resultComponent,
+            this.playerInventoryComponent);
+    }
+
     @Contract(pure = true)
     @Override
     public boolean isPlayerInventoryUsed() {
@@ -221,7 +232,9 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
         Player player = (Player) event.getWhoClicked();
 
         if (slot >= 3 && slot <= 38) {
-            smithingTableInventory.sendItems(player, getTopItems(), event.getCurrentItem());
+            if (!ResyncUtil.resync(event, getTopItems())) {
+                smithingTableInventory.sendItems(player, getTopItems(), event.getCurrentItem());
+            }
         } else if (slot == 0 || slot == 1) {
             if (event.isCancelled()) {
                 if (slot == 0) {
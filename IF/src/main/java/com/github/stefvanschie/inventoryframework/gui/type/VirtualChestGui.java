@@ -0,0 +1,629 @@
+package com.github.stefvanschie.inventoryframework.gui.type;
+
+import com.github.stefvanschie.inventoryframework.abstraction.VirtualChestInventory;
+import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
+import com.github.stefvanschie.inventoryframework.gui.type.util.MergedGui;
+import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
+import com.github.stefvanschie.inventoryframework.pane.Pane;
+import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
+import com.github.stefvanschie.inventoryframework.util.version.Version;
+import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a chest gui which only exists on the client. Unlike a {@link ChestGui}, no Bukkit inventory and no
+ * server-side container is created for this gui: the items are sent with packets and clicks are read from the incoming
+ * packets. This makes these guis cheap to keep open for many players at once, which suits read-only menus. Items can
+ * never be taken out of or put into this gui and the player's own inventory cannot be used by it. Virtual guis are
+ * only supported on versions 1.17 and up.
+ * <p>
+ * Click and close handlers receive events with a view made for the click: its top inventory is a copy of the items
+ * and the title of this gui, which is not shown to anyone. Changing items through the event has no effect on this gui.
+ * Since nothing can be picked up, the cursor is always empty, and the action of a click is derived as if it was.
+ *
+ * @since 0.10.19
+ */
+public class VirtualChestGui extends NamedGui implements MergedGui {
+
+    /**
+     * Represents the inventory component for the top of the gui
+     */
+    @NotNull
+    private InventoryComponent inventoryComponent;
+
+    /**
+     * The virtual inventory which sends the packets
+     */
+    @NotNull
+    private final VirtualChestInventory virtualChestInventory = VersionMatcher.newVirtualChestInventory(
+        Version.getVersion()
+    );
+
+    /**
+     * The current viewers of this gui by their unique id
+     */
+    @NotNull
+    private final Map<UUID, HumanEntity> viewers = new LinkedHashMap<>();
+
+    /**
+     * The amount of slots in the player's inventory before the hotbar, in a view
+     */
+    private static final int STORAGE_SIZE = 27;
+
+    /**
+     * The items as they were last rendered
+     */
+    @Nullable
+    private ItemStack @NotNull [] items;
+
+    /**
+     * Whether the amount of rows are dirty i.e. has been changed
+     */
+    private boolean dirtyRows = false;
+
+    /**
+     * Constructs a new virtual chest GUI
+     *
+     * @param rows the amount of rows this gui should contain, in range 1..6.
+     * @param title the title/name of this gui.
+     * @since 0.10.19
+     */
+    public VirtualChestGui(int rows, @NotNull String title) {
+        this(rows, StringHolder.of(title), JavaPlugin.getProvidingPlugin(VirtualChestGui.class));
+    }
+
+    /**
+     * Constructs a new virtual chest GUI
+     *
+     * @param rows the amount of rows this gui should contain, in range 1..6.
+     * @param title the title/name of this gui.
+     * @since 0.10.19
+     */
+    public VirtualChestGui(int rows, @NotNull TextHolder title) {
+        this(rows, title, JavaPlugin.getProvidingPlugin(VirtualChestGui.class));
+    }
+
+    /**
+     * Constructs a new virtual chest gui for the given {@code plugin}.
+     *
+     * @param rows the amount of rows this gui should contain, in range 1..6.
+     * @param title the title/name of this gui.
+     * @param plugin the owning plugin of this gui
+     * @see #VirtualChestGui(int, String)
+     * @since 0.10.19
+     */
+    public VirtualChestGui(int rows, @NotNull String title, @NotNull Plugin plugin) {
+        this(rows, StringHolder.of(title), plugin);
+    }
+
+    /**
+     * Constructs a new virtual chest gui for the given {@code plugin}.
+     *
+     * @param rows the amount of rows this gui should contain, in range 1..6.
+     * @param title the title/name of this gui.
+     * @param plugin the owning plugin of this gui
+     * @see #VirtualChestGui(int, TextHolder)
+     * @since 0.10.19
+     */
+    public VirtualChestGui(int rows, @NotNull TextHolder title, @NotNull Plugin plugin) {
+        super(title, plugin);
+
+        if (!(rows >= 1 && rows <= 6)) {
+            throw new IllegalArgumentException("Rows should be between 1 and 6");
+        }
+
+        this.inventoryComponent = new InventoryComponent(9, rows);
+        this.items = new ItemStack[rows * 9];
+
+        this.virtualChestInventory.setOnClick(this::handleClick);
+        this.virtualChestInventory.setOnClose(this::handleClose);
+    }
+
+    @Override
+    public void show(@NotNull HumanEntity humanEntity) {
+        if (!(humanEntity instanceof Player)) {
+            throw new IllegalArgumentException("Virtual guis can only be shown to players");
+        }
+
+        render();
+
+        if (isDirty() || this.dirtyRows) {
+            reopen();
+        }
+
+        UUID uniqueId = humanEntity.getUniqueId();
+
+        if (this.virtualChestInventory.getContainerId(uniqueId) == -1) {
+            open((Player) humanEntity);
+        } else {
+            this.virtualChestInventory.sendItems(uniqueId, this.items);
+        }
+    }
+
+    /**
+     * Sends the current items to every viewer, without reopening the gui. If the title or the amount of rows changed,
+     * the gui is reopened instead.
+     */
+    @Override
+    public void update() {
+        render();
+
+        if (isDirty() || this.dirtyRows) {
+            reopen();
+            return;
+        }
+
+        for (UUID viewer : this.viewers.keySet()) {
+            this.virtualChestInventory.sendItems(viewer, this.items);
+        }
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public VirtualChestGui copy() {
+        VirtualChestGui gui = new VirtualChestGui(getRows(), getTitleHolder(), super.plugin);
+
+        gui.inventoryComponent = inventoryComponent.copy();
+
+        gui.setOnTopClick(this.onTopClick);
+        gui.setOnBottomClick(this.onBottomClick);
+        gui.setOnGlobalClick(this.onGlobalClick);
+        gui.setOnOutsideClick(this.onOutsideClick);
+        gui.setOnClose(this.onClose);
+
+        return gui;
+    }
+
+    @Override
+    public void click(@NotNull InventoryClickEvent event) {
+        getInventoryComponent().click(this, event, event.getRawSlot());
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Collection<InventoryComponent> getInventoryComponents() {
+        return Collections.singletonList(this.inventoryComponent);
+    }
+
+    @Contract(pure = true, value = "-> false")
+    @Override
+    public boolean isPlayerInventoryUsed() {
+        return false;
+    }
+
+    /**
+     * Closes this gui for the specified human entity. This does not call the close handler.
+     *
+     * @param humanEntity the human entity to close the gui for
+     * @since 0.10.19
+     */
+    public void close(@NotNull HumanEntity humanEntity) {
+        UUID uniqueId = humanEntity.getUniqueId();
+
+        this.virtualChestInventory.closeInventory(uniqueId);
+        this.viewers.remove(uniqueId);
+    }
+
+    /**
+     * Sets the amount of rows for this inventory. The new amount of rows will be shown to the viewers once the gui is
+     * shown or updated again.
+     *
+     * @param rows the amount of rows in range 1..6.
+     * @since 0.10.19
+     */
+    public void setRows(int rows) {
+        if (!(rows >= 1 && rows <= 6)) {
+            throw new IllegalArgumentException("Rows should be between 1 and 6");
+        }
+
+        InventoryComponent inventoryComponent = new InventoryComponent(9, rows);
+
+        for (Pane pane : this.inventoryComponent.getPanes()) {
+            inventoryComponent.addPane(pane);
+        }
+
+        this.inventoryComponent = inventoryComponent;
+        this.items = new ItemStack[rows * 9];
+        this.dirtyRows = true;
+    }
+
+    /**
+     * Returns the amount of rows this gui currently has
+     *
+     * @return the amount of rows
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public int getRows() {
+        return getInventoryComponent().getHeight();
+    }
+
+    @Override
+    public void addPane(@NotNull Pane pane) {
+        this.inventoryComponent.addPane(pane);
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public List<Pane> getPanes() {
+        return this.inventoryComponent.getPanes();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Collection<GuiItem> getItems() {
+        return getPanes().stream().flatMap(pane -> pane.getItems().stream()).collect(Collectors.toSet());
+    }
+
+    @Contract(pure = true)
+    @Override
+    public int getViewerCount() {
+        return this.viewers.size();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public List<HumanEntity> getViewers() {
+        return new ArrayList<>(this.viewers.values());
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public InventoryComponent getInventoryComponent() {
+        return inventoryComponent;
+    }
+
+    /**
+     * Opens this gui for the specified player. The items should already have been rendered.
+     *
+     * @param player the player to open the gui for
+     * @since 0.10.19
+     */
+    private void open(@NotNull Player player) {
+        //the server would otherwise still think the previous inventory is open
+        if (player.getOpenInventory().getType() != InventoryType.CRAFTING) {
+            player.closeInventory();
+        }
+
+        this.virtualChestInventory.openInventory(player, getTitleHolder(), this.items);
+        this.viewers.put(player.getUniqueId(), player);
+    }
+
+    /**
+     * Opens this gui again for every viewer, so a changed title or amount of rows is shown, and accepts the changes.
+     *
+     * @since 0.10.19
+     */
+    private void reopen() {
+        for (HumanEntity viewer : getViewers()) {
+            open((Player) viewer);
+        }
+
+        this.dirtyRows = false;
+
+        markChanges();
+    }
+
+    /**
+     * Renders the panes into the item array that is sent to the viewers.
+     *
+     * @since 0.10.19
+     */
+    private void render() {
+        InventoryComponent inventoryComponent = getInventoryComponent();
+
+        inventoryComponent.display();
+
+        int length = inventoryComponent.getLength();
+
+        for (int x = 0; x < length; x++) {
+            for (int y = 0; y < inventoryComponent.getHeight(); y++) {
+                this.items[y * length + x] = inventoryComponent.getItem(x, y);
+            }
+        }
+    }
+
+    /**
+     * Handles a click of the specified viewer by calling the click handlers in the same order as for other guis.
+     *
+     * @param viewer the viewer who clicked
+     * @param slot the raw slot that was clicked
+     * @param clickType the type of click
+     * @param button the button number of the click
+     * @since 0.10.19
+     */
+    private void handleClick(@NotNull UUID viewer, int slot, @NotNull ClickType clickType, int button) {
+        HumanEntity humanEntity = this.viewers.get(viewer);
+
+        if (humanEntity == null) {
+            return;
+        }
+
+        InventoryView view = createView(humanEntity);
+        int topSize = this.items.length;
+        InventoryType.SlotType slotType = slot == VirtualChestInventory.OUTSIDE_SLOT ? InventoryType.SlotType.OUTSIDE :
+            InventoryViewUtil.getInstance().getSlotType(view, slot);
+
+        PlayerInventory playerInventory = humanEntity.getInventory();
+        ItemStack currentItem = null;
+
+        if (slot >= 0 && slot < topSize) {
+            currentItem = this.items[slot];
+        } else if (slot >= topSize) {
+            int index = slot - topSize;
+
+            //the player's storage comes first in a view, the hotbar comes first in the player's inventory
+            currentItem = playerInventory.getItem(index < STORAGE_SIZE ? index + 9 : index - STORAGE_SIZE);
+        }
+
+        ItemStack hotbarItem = null;
+
+        if (clickType == ClickType.SWAP_OFFHAND) {
+            hotbarItem = playerInventory.getItemInOffHand();
+        } else if (clickType == ClickType.NUMBER_KEY) {
+            hotbarItem = playerInventory.getItem(button);
+        }
+
+        InventoryAction action = getAction(
+            clickType, currentItem, hotbarItem, humanEntity.getGameMode() == GameMode.CREATIVE
+        );
+        int hotbarKey = clickType == ClickType.NUMBER_KEY ? button : -1;
+        InventoryClickEvent event = new InventoryClickEvent(view, slotType, slot, clickType, action, hotbarKey);
+
+        if (slotType == InventoryType.SlotType.OUTSIDE) {
+            callOnOutsideClick(event);
+            return;
+        }
+
+        callOnGlobalClick(event);
+
+        if (slot < topSize) {
+            callOnTopClick(event);
+
+            click(event);
+        } else {
+            callOnBottomClick(event);
+        }
+    }
+
+    /**
+     * Handles the closing of the gui by the specified viewer.
+     *
+     * @param viewer the viewer who closed the gui
+     * @since 0.10.19
+     */
+    private void handleClose(@NotNull UUID viewer) {
+        HumanEntity humanEntity = this.viewers.remove(viewer);
+
+        if (humanEntity == null || isUpdating()) {
+            return;
+        }
+
+        callOnClose(new InventoryCloseEvent(createView(humanEntity)));
+
+        Bukkit.getScheduler().runTask(super.plugin, () -> navigateToParent(humanEntity));
+    }
+
+    /**
+     * Creates a view of this gui for the specified viewer, to pass to event handlers. The top inventory of the view is
+     * a new inventory with the title and a copy of the items of this gui, which is never opened.
+     *
+     * @param humanEntity the viewer
+     * @return the view
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private InventoryView createView(@NotNull HumanEntity humanEntity) {
+        Inventory topInventory = getTitleHolder().asInventoryTitle(null, this.items.length);
+
+        topInventory.setContents(this.items);
+
+        return InventoryViewUtil.getInstance().createView(
+            topInventory, humanEntity, getTitleHolder().asLegacyString()
+        );
+    }
+
+    /**
+     * Loads a virtual chest gui from an XML file.
+     *
+     * @param instance the instance on which to reference fields and methods
+     * @param inputStream the input stream containing the XML data
+     * @param plugin the plugin that will be the owner of the created gui
+     * @return the loaded virtual chest gui
+     * @see #load(Object, InputStream)
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static VirtualChestGui load(@NotNull Object instance, @NotNull InputStream inputStream,
+                                       @NotNull Plugin plugin) {
+        try {
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(inputStream);
+            Element documentElement = document.getDocumentElement();
+
+            documentElement.normalize();
+
+            return load(instance, documentElement, plugin);
+        } catch (SAXException | ParserConfigurationException | IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Loads a virtual chest gui from the specified element, applying code references to the provided instance.
+     *
+     * @param instance the instance on which to reference fields and methods
+     * @param element the element to load the gui from
+     * @param plugin the plugin that will be the owner of the created gui
+     * @return the loaded virtual chest gui
+     * @see #load(Object, Element)
+     * @since 0.10.19
+     */
+    @NotNull
+    public static VirtualChestGui load(@NotNull Object instance, @NotNull Element element, @NotNull Plugin plugin) {
+        if (!element.hasAttribute("title")) {
+            throw new XMLLoadException("Provided XML element's gui tag doesn't have the mandatory title attribute set");
+        }
+
+        if (!element.hasAttribute("rows")) {
+            throw new XMLLoadException("Provided XML element's gui tag doesn't have the mandatory rows attribute set");
+        }
+
+        int rows;
+
+        try {
+            rows = Integer.parseInt(element.getAttribute("rows"));
+        } catch (NumberFormatException exception) {
+            throw new XMLLoadException("Rows attribute is not an integer", exception);
+        }
+
+        VirtualChestGui virtualChestGui = new VirtualChestGui(rows, element.getAttribute("title"), plugin);
+        virtualChestGui.initializeOrThrow(instance, element);
+
+        if (element.hasAttribute("populate")) {
+            return virtualChestGui;
+        }
+
+        NodeList childNodes = element.getChildNodes();
+
+        for (int index = 0; index < childNodes.getLength(); index++) {
+            Node item = childNodes.item(index);
+
+            if (item.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+
+            Element componentElement = (Element) item;
+            InventoryComponent inventoryComponent = virtualChestGui.getInventoryComponent();
+
+            if (componentElement.getTagName().equalsIgnoreCase("component")) {
+                inventoryComponent.load(instance, componentElement, plugin);
+            } else {
+                inventoryComponent.load(instance, element, plugin);
+            }
+
+            break;
+        }
+
+        return virtualChestGui;
+    }
+
+    /**
+     * Loads a virtual chest gui from an XML file.
+     *
+     * @param instance the instance on which to reference fields and methods
+     * @param inputStream the input stream containing the XML data
+     * @return the loaded virtual chest gui
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static VirtualChestGui load(@NotNull Object instance, @NotNull InputStream inputStream) {
+        return load(instance, inputStream, JavaPlugin.getProvidingPlugin(VirtualChestGui.class));
+    }
+
+    /**
+     * Loads a virtual chest gui from the specified element, applying code references to the provided instance.
+     *
+     * @param instance the instance on which to reference fields and methods
+     * @param element the element to load the gui from
+     * @return the loaded virtual chest gui
+     * @since 0.10.19
+     */
+    @NotNull
+    public static VirtualChestGui load(@NotNull Object instance, @NotNull Element element) {
+        return load(instance, element, JavaPlugin.getProvidingPlugin(VirtualChestGui.class));
+    }
+
+    /**
+     * Gets the action of a click in a virtual gui. The cursor of a virtual gui is always empty, so the action is the
+     * action a click of the specified type has with an empty cursor, in the same way the server determines it.
+     *
+     * @param clickType the type of click
+     * @param currentItem the item in the clicked slot
+     * @param hotbarItem the item in the hotbar slot or off hand that was swapped with, if any
+     * @param creative whether the player who clicked is in creative mode
+     * @return the action of the click
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    static InventoryAction getAction(@NotNull ClickType clickType, @Nullable ItemStack currentItem,
+                                     @Nullable ItemStack hotbarItem, boolean creative) {
+        boolean hasItem = currentItem != null && !currentItem.getType().isAir();
+
+        switch (clickType) {
+            case LEFT:
+                return hasItem ? InventoryAction.PICKUP_ALL : InventoryAction.NOTHING;
+            case RIGHT:
+                return hasItem ? InventoryAction.PICKUP_HALF : InventoryAction.NOTHING;
+            case SHIFT_LEFT:
+            case SHIFT_RIGHT:
+                return hasItem ? InventoryAction.MOVE_TO_OTHER_INVENTORY : InventoryAction.NOTHING;
+            case NUMBER_KEY:
+            case SWAP_OFFHAND:
+                boolean hasHotbarItem = hotbarItem != null && !hotbarItem.getType().isAir();
+
+                return hasItem || hasHotbarItem ? InventoryAction.HOTBAR_SWAP : InventoryAction.NOTHING;
+            case MIDDLE:
+                return hasItem && creative ? InventoryAction.CLONE_STACK : InventoryAction.NOTHING;
+            case DROP:
+                return hasItem ? InventoryAction.DROP_ONE_SLOT : InventoryAction.NOTHING;
+            case CONTROL_DROP:
+                return hasItem ? InventoryAction.DROP_ALL_SLOT : InventoryAction.NOTHING;
+            case DOUBLE_CLICK:
+            case WINDOW_BORDER_LEFT:
+            case WINDOW_BORDER_RIGHT:
+                return InventoryAction.NOTHING;
+            default:
+                return InventoryAction.UNKNOWN;
+        }
+    }
+}
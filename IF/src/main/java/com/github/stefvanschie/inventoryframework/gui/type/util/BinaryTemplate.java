@@ -0,0 +1,338 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact binary form of the XML of a {@link GuiTemplate}, so templates can be stored and read again without parsing
+ * the XML. Only elements, attributes and text are kept, which is all the loaders look at.
+ * <p>
+ * The format starts with a magic number and a version, followed by a table of all distinct strings and the tree of
+ * nodes, which refers to strings by their index in the table. Names and values that occur many times, such as tag
+ * names and materials, are therefore only stored once. All numbers are stored as unsigned variable-length integers.
+ *
+ * @since 0.10.19
+ */
+final class BinaryTemplate {
+
+    /**
+     * The magic number every binary template starts with
+     */
+    private static final int MAGIC = 0x49465450;
+
+    /**
+     * The version of the format, which should be increased whenever the format changes
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The marker of an element node
+     */
+    private static final int ELEMENT = 0;
+
+    /**
+     * The marker of a text node
+     */
+    private static final int TEXT = 1;
+
+    /**
+     * The factory for the documents read templates are created in
+     */
+    @Nullable
+    private static DocumentBuilderFactory documentBuilderFactory;
+
+    /**
+     * A private constructor to prevent construction.
+     */
+    private BinaryTemplate() {}
+
+    /**
+     * Writes the specified element and all its descendants in the binary format.
+     *
+     * @param element the element
+     * @return the binary form
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    static byte[] write(@NotNull Element element) {
+        Map<String, Integer> indices = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        ByteArrayOutputStream nodes = new ByteArrayOutputStream();
+
+        writeNode(element, nodes, indices, strings);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(nodes.size() * 2);
+
+        writeInt(output, MAGIC);
+        writeVarInt(output, VERSION);
+        writeVarInt(output, strings.size());
+
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+            writeVarInt(output, bytes.length);
+            output.write(bytes, 0, bytes.length);
+        }
+
+        byte[] nodeBytes = nodes.toByteArray();
+
+        output.write(nodeBytes, 0, nodeBytes.length);
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads an element in the binary format from the specified buffer. The element is the document element of a new
+     * document.
+     *
+     * @param buffer the buffer
+     * @return the element
+     * @throws XMLLoadException if the buffer doesn't contain a binary template of the current version
+     * @since 0.10.19
+     */
+    @NotNull
+    static Element read(@NotNull ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new XMLLoadException("Data is not a binary template");
+            }
+
+            int version = readVarInt(buffer);
+
+            if (version != VERSION) {
+                throw new XMLLoadException("Binary template has version " + version + ", expected " + VERSION);
+            }
+
+            String[] strings = new String[readVarInt(buffer)];
+
+            for (int index = 0; index < strings.length; index++) {
+                byte[] bytes = new byte[readVarInt(buffer)];
+
+                buffer.get(bytes);
+                strings[index] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            Document document = getDocumentBuilderFactory().newDocumentBuilder().newDocument();
+
+            if (readVarInt(buffer) != ELEMENT) {
+                throw new XMLLoadException("Binary template does not start with an element");
+            }
+
+            Element element = readElement(buffer, document, strings);
+
+            document.appendChild(element);
+
+            return element;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException exception) {
+            throw new XMLLoadException("Binary template is truncated or corrupt", exception);
+        } catch (ParserConfigurationException exception) {
+            throw new XMLLoadException(exception);
+        }
+    }
+
+    /**
+     * Writes the specified element and its children. Adjacent text and CDATA sections are written as a single text
+     * node, so the text of elements stays the same. Other nodes are skipped.
+     *
+     * @param element the element
+     * @param output the output for the nodes
+     * @param indices the indices of the strings written so far
+     * @param strings the strings written so far
+     * @since 0.10.19
+     */
+    private static void writeNode(@NotNull Element element, @NotNull ByteArrayOutputStream output,
+                                  @NotNull Map<String, Integer> indices, @NotNull List<String> strings) {
+        NamedNodeMap attributes = element.getAttributes();
+
+        writeVarInt(output, ELEMENT);
+        writeString(element.getTagName(), output, indices, strings);
+        writeVarInt(output, attributes.getLength());
+
+        for (int index = 0; index < attributes.getLength(); index++) {
+            Node attribute = attributes.item(index);
+
+            writeString(attribute.getNodeName(), output, indices, strings);
+            writeString(attribute.getNodeValue(), output, indices, strings);
+        }
+
+        NodeList childNodes = element.getChildNodes();
+        List<Object> children = new ArrayList<>(childNodes.getLength());
+        StringBuilder text = null;
+
+        for (int index = 0; index < childNodes.getLength(); index++) {
+            Node child = childNodes.item(index);
+            short type = child.getNodeType();
+
+            if (type == Node.TEXT_NODE || type == Node.CDATA_SECTION_NODE) {
+                if (text == null) {
+                    text = new StringBuilder();
+                    children.add(text);
+                }
+
+                text.append(child.getNodeValue());
+            } else if (type == Node.ELEMENT_NODE) {
+                text = null;
+                children.add(child);
+            }
+        }
+
+        writeVarInt(output, children.size());
+
+        for (Object child : children) {
+            if (child instanceof Element) {
+                writeNode((Element) child, output, indices, strings);
+            } else {
+                writeVarInt(output, TEXT);
+                writeString(child.toString(), output, indices, strings);
+            }
+        }
+    }
+
+    /**
+     * Reads an element, after its marker has been read.
+     *
+     * @param buffer the buffer
+     * @param document the document to create the nodes in
+     * @param strings the string table
+     * @return the element
+     * @since 0.10.19
+     */
+    @NotNull
+    private static Element readElement(@NotNull ByteBuffer buffer, @NotNull Document document,
+                                       @NotNull String[] strings) {
+        Element element = document.createElement(strings[readVarInt(buffer)]);
+        int attributes = readVarInt(buffer);
+
+        for (int index = 0; index < attributes; index++) {
+            element.setAttribute(strings[readVarInt(buffer)], strings[readVarInt(buffer)]);
+        }
+
+        int children = readVarInt(buffer);
+
+        for (int index = 0; index < children; index++) {
+            int type = readVarInt(buffer);
+
+            if (type == ELEMENT) {
+                element.appendChild(readElement(buffer, document, strings));
+            } else if (type == TEXT) {
+                element.appendChild(document.createTextNode(strings[readVarInt(buffer)]));
+            } else {
+                throw new XMLLoadException("Binary template contains unknown node type " + type);
+            }
+        }
+
+        return element;
+    }
+
+    /**
+     * Writes the index of the specified string, adding the string to the table if it isn't in there yet.
+     *
+     * @param string the string
+     * @param output the output for the nodes
+     * @param indices the indices of the strings written so far
+     * @param strings the strings written so far
+     * @since 0.10.19
+     */
+    private static void writeString(@NotNull String string, @NotNull ByteArrayOutputStream output,
+                                    @NotNull Map<String, Integer> indices, @NotNull List<String> strings) {
+        Integer index = indices.get(string);
+
+        if (index == null) {
+            index = strings.size();
+
+            indices.put(string, index);
+            strings.add(string);
+        }
+
+        writeVarInt(output, index);
+    }
+
+    /**
+     * Writes the specified integer as four bytes, most significant byte first.
+     *
+     * @param output the output
+     * @param value the integer
+     * @since 0.10.19
+     */
+    private static void writeInt(@NotNull ByteArrayOutputStream output, int value) {
+        output.write(value >>> 24);
+        output.write(value >>> 16);
+        output.write(value >>> 8);
+        output.write(value);
+    }
+
+    /**
+     * Writes the specified non-negative integer in seven bit groups, least significant group first. The highest bit of
+     * every byte is set when more bytes follow.
+     *
+     * @param output the output
+     * @param value the integer
+     * @since 0.10.19
+     */
+    private static void writeVarInt(@NotNull ByteArrayOutputStream output, int value) {
+        while ((value & ~0x7F) != 0) {
+            output.write(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+
+        output.write(value);
+    }
+
+    /**
+     * Reads an integer written by {@link #writeVarInt(ByteArrayOutputStream, int)}.
+     *
+     * @param buffer the buffer
+     * @return the integer
+     * @throws XMLLoadException if the integer is too long
+     * @since 0.10.19
+     */
+    private static int readVarInt(@NotNull ByteBuffer buffer) {
+        int value = 0;
+
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte current = buffer.get();
+
+            value |= (current & 0x7F) << shift;
+
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new XMLLoadException("Binary template contains a malformed number");
+    }
+
+    /**
+     * Gets the factory for the documents read templates are created in
+     *
+     * @return the factory
+     * @since 0.10.19
+     */
+    @NotNull
+    private static synchronized DocumentBuilderFactory getDocumentBuilderFactory() {
+        if (documentBuilderFactory == null) {
+            documentBuilderFactory = DocumentBuilderFactory.newInstance();
+        }
+
+        return documentBuilderFactory;
+    }
+}
@@ -1,13 +1,17 @@
 package com.github.stefvanschie.inventoryframework.gui.type.util;
 
 import com.github.stefvanschie.inventoryframework.HumanEntityCache;
+import com.github.stefvanschie.inventoryframework.exception.UnsupportedVersionException;
 import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
 import com.github.stefvanschie.inventoryframework.gui.GuiListener;
+import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
 import com.github.stefvanschie.inventoryframework.gui.type.*;
 import com.github.stefvanschie.inventoryframework.pane.*;
 import com.github.stefvanschie.inventoryframework.pane.component.*;
 import com.github.stefvanschie.inventoryframework.util.TriFunction;
 import com.github.stefvanschie.inventoryframework.util.XMLUtil;
+import com.github.stefvanschie.inventoryframework.util.version.Version;
+import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -31,10 +35,18 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
@@ -142,15 +154,24 @@ public abstract class Gui {
     @NotNull
     private static final Map<Inventory, Gui> GUI_INVENTORIES = new WeakHashMap<>();
 
+    /**
+     * The key of the user data holding a pane which was already loaded from an element, see
+     * {@link StreamingGuiLoader}
+     */
+    @NotNull
+    static final String LOADED_PANE_KEY = "inventoryframework-loaded-pane";
+
     /**
      * Whether listeners have ben registered by some gui
      */
     private static boolean hasRegisteredListeners;
 
     /**
-     * Constructs a new gui with the provided plugin.
+     * Constructs a new gui with the provided plugin. The first gui created also initializes the version specific
+     * implementations, so incorrect mappings for the running server are reported once, when this gui is created.
      *
      * @param plugin the plugin
+     * @throws IllegalStateException if the version specific implementations could not be initialized
      * @since 0.10.8
      */
     public Gui(@NotNull Plugin plugin) {
@@ -160,6 +181,17 @@ public abstract class Gui {
             Bukkit.getPluginManager().registerEvents(new GuiListener(plugin), plugin);
 
             hasRegisteredListeners = true;
+
+            Version version;
+
+            try {
+                version = Version.getVersion();
+            } catch (UnsupportedVersionException exception) {
+                //guis which don't need version specific implementations can still be used
+                return;
+            }
+
+            VersionMatcher.initializeImplementations(version);
         }
     }
 
@@ -223,6 +255,32 @@ public abstract class Gui {
     @Contract(pure = true)
     public abstract List<HumanEntity> getViewers();
 
+    /**
+     * Gets all inventory components of this gui. The returned collection is a snapshot and cannot be modified. Guis
+     * that do not consist of inventory components return an empty collection.
+     *
+     * @return the inventory components
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Collection<InventoryComponent> getInventoryComponents() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Sets the locale to render the items of this gui for, on all its inventory components. See
+     * {@link InventoryComponent#setLocale(String)}.
+     *
+     * @param locale the locale, or null to display items as they are
+     * @since 0.10.19
+     */
+    public void setLocale(@Nullable String locale) {
+        for (InventoryComponent inventoryComponent : getInventoryComponents()) {
+            inventoryComponent.setLocale(locale);
+        }
+    }
+
     /**
      * Update the gui for everyone
      */
@@ -333,6 +391,113 @@ public abstract class Gui {
         return load(instance, inputStream, JavaPlugin.getProvidingPlugin(Gui.class));
     }
 
+    /**
+     * Compiles templates for all the specified XML guis, for example all guis of a plugin when it is enabled. The XML
+     * is read and parsed in parallel on a bounded pool of worker threads. Afterwards the items of all templates are
+     * created on the main thread in a single task, since creating items isn't safe from other threads. The returned
+     * future completes with the templates by name once both steps are done; how long each step took for every gui is
+     * available via {@link GuiTemplateRegistry#getTiming(String)}.
+     * <p>
+     * The type of gui of every XML is determined by its type attribute, like for
+     * {@link #load(Object, InputStream, Plugin)}. If any of the guis cannot be loaded, the returned future completes
+     * exceptionally with an {@link XMLLoadException}.
+     *
+     * @param plugin the plugin to schedule the main thread task for
+     * @param sources the suppliers of the input streams containing the XML data, by name
+     * @return a future completing with the templates
+     * @since 0.10.19
+     */
+    @NotNull
+    public static CompletableFuture<GuiTemplateRegistry> preloadAll(
+        @NotNull Plugin plugin,
+        @NotNull Map<String, ? extends Supplier<? extends InputStream>> sources
+    ) {
+        return preloadAll(sources, task -> Bukkit.getScheduler().runTask(plugin, task));
+    }
+
+    /**
+     * Compiles templates for all the specified XML guis, like {@link #preloadAll(Plugin, Map)}.
+     *
+     * @param sources the suppliers of the input streams containing the XML data, by name
+     * @return a future completing with the templates
+     * @since 0.10.19
+     */
+    @NotNull
+    public static CompletableFuture<GuiTemplateRegistry> preloadAll(
+        @NotNull Map<String, ? extends Supplier<? extends InputStream>> sources
+    ) {
+        return preloadAll(JavaPlugin.getProvidingPlugin(Gui.class), sources);
+    }
+
+    /**
+     * Compiles templates for all the specified XML guis, like {@link #preloadAll(Plugin, Map)}, creating the items with
+     * the specified executor.
+     *
+     * @param sources the suppliers of the input streams containing the XML data, by name
+     * @param itemExecutor the executor to create the items with, which should run tasks on the main thread
+     * @return a future completing with the templates
+     * @since 0.10.19
+     */
+    @NotNull
+    static CompletableFuture<GuiTemplateRegistry> preloadAll(
+        @NotNull Map<String, ? extends Supplier<? extends InputStream>> sources,
+        @NotNull Executor itemExecutor
+    ) {
+        int threads = Math.max(1, Math.min(sources.size(), Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "InventoryFramework preloader #" + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        GuiTemplateRegistry registry = new GuiTemplateRegistry();
+        Map<String, Long> parseTimes = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(sources.size());
+
+        for (Map.Entry<String, ? extends Supplier<? extends InputStream>> source : sources.entrySet()) {
+            String name = source.getKey();
+            Supplier<? extends InputStream> supplier = source.getValue();
+
+            futures.add(CompletableFuture.runAsync(() -> {
+                long start = System.nanoTime();
+
+                try (InputStream inputStream = supplier.get()) {
+                    if (inputStream == null) {
+                        throw new XMLLoadException("Gui '" + name + "' cannot be found");
+                    }
+
+                    registry.register(name, GuiTemplate.compile(inputStream));
+                } catch (IOException | XMLLoadException exception) {
+                    throw new XMLLoadException("Unable to preload gui '" + name + "'", exception);
+                }
+
+                parseTimes.put(name, System.nanoTime() - start);
+            }, workers));
+        }
+
+        CompletableFuture<Void> parsed = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+
+        parsed.whenComplete((result, throwable) -> workers.shutdown());
+
+        return parsed.thenApplyAsync(result -> {
+            for (String name : registry.getNames()) {
+                long start = System.nanoTime();
+
+                Objects.requireNonNull(registry.get(name)).prepareItems();
+
+                Duration itemTime = Duration.ofNanos(System.nanoTime() - start);
+
+                registry.setTiming(name, new GuiTemplateRegistry.Timing(Duration.ofNanos(parseTimes.get(name)),
+                    itemTime));
+            }
+
+            return registry;
+        }, itemExecutor);
+    }
+
     /**
      * Initializes standard fields from a Gui from a given input stream.
      * Throws a {@link RuntimeException} instead of returning null in case of a failure.
@@ -703,6 +868,33 @@ public abstract class Gui {
         registerGui(name, (object, element, plugin) -> biFunction.apply(object, element));
     }
 
+    /**
+     * Gets the registered loader for the gui type with the specified name, or null if no such gui type is registered
+     *
+     * @param name the name of the gui type
+     * @return the loader or null
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    static TriFunction<? super Object, ? super Element, ? super Plugin, ? extends Gui> getGuiMapping(
+        @NotNull String name
+    ) {
+        return GUI_MAPPINGS.get(name);
+    }
+
+    /**
+     * Checks whether a pane with the specified name is registered
+     *
+     * @param name the name of the pane
+     * @return true if such a pane is registered, false otherwise
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    static boolean isPaneRegistered(@NotNull String name) {
+        return PANE_MAPPINGS.containsKey(name);
+    }
+
     /**
      * Loads a pane by the given instance and node
      *
@@ -715,6 +907,12 @@ public abstract class Gui {
      */
     @NotNull
     public static Pane loadPane(@NotNull Object instance, @NotNull Node node, @NotNull Plugin plugin) {
+        Object loadedPane = node.getUserData(LOADED_PANE_KEY);
+
+        if (loadedPane instanceof Pane) {
+            return (Pane) loadedPane;
+        }
+
         String name = node.getNodeName();
         TriFunction<? super Object, ? super Element, ? super Plugin, ? extends Pane> mapping = PANE_MAPPINGS.get(name);
 
@@ -801,5 +999,7 @@ public abstract class Gui {
                 (TriFunction<? super Object, ? super Element, ? super Plugin, ? extends Gui>) SmokerGui::load);
         registerGui("stonecutter",
                 (TriFunction<? super Object, ? super Element, ? super Plugin, ? extends Gui>) StonecutterGui::load);
+        registerGui("virtual-chest",
+                (TriFunction<? super Object, ? super Element, ? super Plugin, ? extends Gui>) VirtualChestGui::load);
     }
 }
@@ -0,0 +1,472 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import com.github.stefvanschie.inventoryframework.pane.Pane;
+import com.github.stefvanschie.inventoryframework.util.TriFunction;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A gui loaded from XML, which can be instantiated any amount of times. The XML is only parsed once, when the template
+ * is compiled. Items are built the first time the template is instantiated and copied on later instantiations, so
+ * their materials, enchantments and other item data are only looked up once. Code references, such as fields and
+ * click handlers, are bound to the instance the template is instantiated for.
+ * <p>
+ * Instantiation uses the same loaders as {@link Gui#load(Object, InputStream, Plugin)}, so custom panes registered via
+ * {@link Gui#registerPane(String, TriFunction)} can be used in templates as well.
+ *
+ * @param <T> the type of gui this template creates
+ * @since 0.10.19
+ */
+public final class GuiTemplate<T extends Gui> {
+
+    /**
+     * The key of the user data marking the document of a template
+     */
+    @NotNull
+    private static final String TEMPLATE_KEY = "inventoryframework-template";
+
+    /**
+     * The directory inside a plugin's data folder in which binary forms of templates are kept
+     */
+    @NotNull
+    private static final String CACHE_DIRECTORY = "inventoryframework-templates";
+
+    /**
+     * The factory for parsing templates, created once since looking up the implementation is expensive
+     */
+    @Nullable
+    private static DocumentBuilderFactory documentBuilderFactory;
+
+    /**
+     * The root element of the parsed XML
+     */
+    @NotNull
+    private final Element element;
+
+    /**
+     * The loader creating a gui from the root element
+     */
+    @NotNull
+    private final TriFunction<? super Object, ? super Element, ? super Plugin, ? extends T> loader;
+
+    /**
+     * Creates a new template
+     *
+     * @param element the root element of the parsed XML
+     * @param loader the loader creating a gui from the root element
+     * @since 0.10.19
+     */
+    private GuiTemplate(@NotNull Element element,
+                        @NotNull TriFunction<? super Object, ? super Element, ? super Plugin, ? extends T> loader) {
+        this.element = element;
+        this.loader = loader;
+    }
+
+    /**
+     * Creates a new gui from this template, applying code references to the provided instance.
+     *
+     * @param instance the instance on which to reference fields and methods
+     * @param plugin the plugin that will be the owner of the created gui
+     * @return the created gui
+     * @throws XMLLoadException if the gui could not be created
+     * @since 0.10.19
+     */
+    @NotNull
+    public T instantiate(@NotNull Object instance, @NotNull Plugin plugin) {
+        //the parsed XML is not safe for concurrent reads, so only a single gui is created at a time
+        synchronized (this.element) {
+            return this.loader.apply(instance, this.element, plugin);
+        }
+    }
+
+    /**
+     * Creates a new gui from this template, applying code references to the provided instance.
+     *
+     * @param instance the instance on which to reference fields and methods
+     * @return the created gui
+     * @throws XMLLoadException if the gui could not be created
+     * @since 0.10.19
+     */
+    @NotNull
+    public T instantiate(@NotNull Object instance) {
+        return instantiate(instance, JavaPlugin.getProvidingPlugin(GuiTemplate.class));
+    }
+
+    /**
+     * Creates the items of this template ahead of time, so the first instantiation doesn't have to. Since this creates
+     * item stacks, it should be called on the main thread.
+     *
+     * @throws XMLLoadException if an item is invalid
+     * @since 0.10.19
+     */
+    public void prepareItems() {
+        synchronized (this.element) {
+            prepareItems(this.element);
+        }
+    }
+
+    /**
+     * Compiles a template from the given input stream. The type of gui is determined by the type attribute, like for
+     * {@link Gui#load(Object, InputStream, Plugin)}.
+     *
+     * @param inputStream the input stream containing the XML data
+     * @return the compiled template
+     * @throws XMLLoadException if the XML is malformed or the type attribute is missing or invalid
+     * @since 0.10.19
+     */
+    @NotNull
+    public static GuiTemplate<Gui> compile(@NotNull InputStream inputStream) {
+        return create(parse(inputStream));
+    }
+
+    /**
+     * Compiles a template from the given input stream, like {@link #compile(InputStream)}, keeping a binary form of
+     * the template in the specified directory. The binary form is stored under the hash of the XML, so when the same
+     * XML is compiled again, for example when the plugin is enabled again, the binary form is read instead of parsing
+     * the XML. Binary forms that cannot be read, for example because they were written by another version, are
+     * replaced.
+     *
+     * @param inputStream the input stream containing the XML data
+     * @param cacheDirectory the directory to keep the binary forms in
+     * @return the compiled template
+     * @throws XMLLoadException if the XML is malformed or the type attribute is missing or invalid
+     * @since 0.10.19
+     */
+    @NotNull
+    public static GuiTemplate<Gui> compile(@NotNull InputStream inputStream, @NotNull Path cacheDirectory) {
+        return create(load(inputStream, cacheDirectory));
+    }
+
+    /**
+     * Compiles a template from the given input stream, like {@link #compile(InputStream, Path)}, keeping the binary
+     * form of the template in the data folder of the specified plugin.
+     *
+     * @param inputStream the input stream containing the XML data
+     * @param plugin the plugin in whose data folder to keep the binary forms
+     * @return the compiled template
+     * @throws XMLLoadException if the XML is malformed or the type attribute is missing or invalid
+     * @since 0.10.19
+     */
+    @NotNull
+    public static GuiTemplate<Gui> compile(@NotNull InputStream inputStream, @NotNull Plugin plugin) {
+        return compile(inputStream, plugin.getDataFolder().toPath().resolve(CACHE_DIRECTORY));
+    }
+
+    /**
+     * Compiles a template from the given input stream, which will be instantiated with the specified loader. This can
+     * be used with the load methods of specific guis, for example {@code GuiTemplate.compile(inputStream,
+     * ChestGui::load)}.
+     *
+     * @param inputStream the input stream containing the XML data
+     * @param loader the loader creating a gui from the root element
+     * @param <T> the type of gui
+     * @return the compiled template
+     * @throws XMLLoadException if the XML is malformed
+     * @since 0.10.19
+     */
+    @NotNull
+    public static <T extends Gui> GuiTemplate<T> compile(
+        @NotNull InputStream inputStream,
+        @NotNull TriFunction<? super Object, ? super Element, ? super Plugin, ? extends T> loader
+    ) {
+        return new GuiTemplate<>(parse(inputStream), loader);
+    }
+
+    /**
+     * Compiles a template from the given input stream, which will be instantiated with the specified loader, keeping a
+     * binary form of the template in the specified directory, like {@link #compile(InputStream, Path)}.
+     *
+     * @param inputStream the input stream containing the XML data
+     * @param cacheDirectory the directory to keep the binary forms in
+     * @param loader the loader creating a gui from the root element
+     * @param <T> the type of gui
+     * @return the compiled template
+     * @throws XMLLoadException if the XML is malformed
+     * @since 0.10.19
+     */
+    @NotNull
+    public static <T extends Gui> GuiTemplate<T> compile(
+        @NotNull InputStream inputStream,
+        @NotNull Path cacheDirectory,
+        @NotNull TriFunction<? super Object, ? super Element, ? super Plugin, ? extends T> loader
+    ) {
+        return new GuiTemplate<>(load(inputStream, cacheDirectory), loader);
+    }
+
+    /**
+     * Checks whether the specified node is part of a template. Loaders may store data on the nodes of templates, since
+     * those nodes are loaded again for every instantiation.
+     *
+     * @param node the node to check
+     * @return true if the node is part of a template, false otherwise
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public static boolean isTemplate(@NotNull Node node) {
+        Document document = node.getOwnerDocument();
+
+        return document != null && document.getUserData(TEMPLATE_KEY) != null;
+    }
+
+    /**
+     * Creates the items among the descendants of the specified element ahead of time. Only elements which are loaded
+     * as items are prepared: the children of outline panes, static panes, bindings of pattern panes and ingredients
+     * and results of trades. Other elements, such as custom panes, are only searched for these elements, since their
+     * children may not be items, even if they are called item.
+     *
+     * @param element the element to prepare the items of
+     * @throws XMLLoadException if an item is invalid
+     * @since 0.10.19
+     */
+    private static void prepareItems(@NotNull Element element) {
+        boolean containsItems = containsItems(element);
+        NodeList children = element.getChildNodes();
+
+        for (int index = 0; index < children.getLength(); index++) {
+            Node node = children.item(index);
+
+            if (node.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+
+            Element child = (Element) node;
+
+            if (!containsItems) {
+                prepareItems(child);
+            } else if (!child.getTagName().equals("empty")) {
+                Pane.prepareItem(child);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the children of the specified element are loaded as items. This mirrors the loaders of the
+     * built-in panes and of merchant guis.
+     *
+     * @param element the element
+     * @return true if the children of the element are items, false otherwise
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    private static boolean containsItems(@NotNull Element element) {
+        String name = element.getTagName();
+        Node parent = element.getParentNode();
+        String parentName = parent instanceof Element ? ((Element) parent).getTagName() : "";
+
+        switch (name) {
+            case "outlinepane":
+            case "staticpane":
+                //populated panes don't load their children
+                return !element.hasAttribute("populate");
+            case "binding":
+                return parentName.equals("patternpane");
+            default:
+                return (name.equalsIgnoreCase("ingredient") || name.equalsIgnoreCase("result")) &&
+                    parentName.equalsIgnoreCase("trade");
+        }
+    }
+
+    /**
+     * Creates a template for the specified root element, of which the type of gui is determined by the type attribute
+     *
+     * @param element the root element
+     * @return the template
+     * @throws XMLLoadException if the type attribute is missing or invalid
+     * @since 0.10.19
+     */
+    @NotNull
+    private static GuiTemplate<Gui> create(@NotNull Element element) {
+        if (!element.hasAttribute("type")) {
+            throw new XMLLoadException("Type attribute must be specified when compiling via GuiTemplate.compile");
+        }
+
+        String type = element.getAttribute("type");
+        TriFunction<? super Object, ? super Element, ? super Plugin, ? extends Gui> mapping = Gui.getGuiMapping(type);
+
+        if (mapping == null) {
+            throw new XMLLoadException("Type attribute '" + type + "' is invalid");
+        }
+
+        return new GuiTemplate<>(element, mapping);
+    }
+
+    /**
+     * Reads the given input stream and returns the root element, from the binary form in the cache directory if it
+     * exists and otherwise by parsing the XML, after which the binary form is written. Failing to write the binary form
+     * is ignored, since it only affects how fast the template is loaded next time.
+     *
+     * @param inputStream the input stream containing the XML data
+     * @param cacheDirectory the directory to keep the binary forms in
+     * @return the root element
+     * @throws XMLLoadException if the XML is malformed or cannot be read
+     * @since 0.10.19
+     */
+    @NotNull
+    private static Element load(@NotNull InputStream inputStream, @NotNull Path cacheDirectory) {
+        byte[] source = readAll(inputStream);
+        String hash = hash(source);
+        Path cacheFile = cacheDirectory.resolve(hash + ".bin");
+
+        if (Files.isRegularFile(cacheFile)) {
+            try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+                Element element = BinaryTemplate.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+
+                element.getOwnerDocument().setUserData(TEMPLATE_KEY, Boolean.TRUE, null);
+
+                return element;
+            } catch (IOException | XMLLoadException ignored) {
+                //the binary form is unreadable, so it is replaced below
+            }
+        }
+
+        Element element = parse(new ByteArrayInputStream(source));
+
+        try {
+            Files.createDirectories(cacheDirectory);
+
+            Path temporaryFile = Files.createTempFile(cacheDirectory, hash, ".tmp");
+
+            Files.write(temporaryFile, BinaryTemplate.write(element));
+
+            try {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ignored) {
+            //the template will be parsed again next time
+        }
+
+        return element;
+    }
+
+    /**
+     * Reads all bytes of the given input stream
+     *
+     * @param inputStream the input stream
+     * @return the bytes
+     * @throws XMLLoadException if the input stream cannot be read
+     * @since 0.10.19
+     */
+    @NotNull
+    private static byte[] readAll(@NotNull InputStream inputStream) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+
+            return output.toByteArray();
+        } catch (IOException exception) {
+            throw new XMLLoadException(exception);
+        }
+    }
+
+    /**
+     * Gets the SHA-256 hash of the specified bytes as hexadecimal string
+     *
+     * @param bytes the bytes
+     * @return the hash
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static String hash(@NotNull byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+
+            for (byte value : digest) {
+                builder.append(Character.forDigit(value >> 4 & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+            }
+
+            return builder.toString();
+        } catch (NoSuchAlgorithmException exception) {
+            //every Java platform supports SHA-256
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Parses the given input stream and returns the normalized root element
+     *
+     * @param inputStream the input stream containing the XML data
+     * @return the root element
+     * @throws XMLLoadException if the XML is malformed or cannot be read
+     * @since 0.10.19
+     */
+    @NotNull
+    private static Element parse(@NotNull InputStream inputStream) {
+        try {
+            DocumentBuilder documentBuilder;
+
+            synchronized (GuiTemplate.class) {
+                if (documentBuilderFactory == null) {
+                    documentBuilderFactory = createDocumentBuilderFactory();
+                }
+
+                documentBuilder = documentBuilderFactory.newDocumentBuilder();
+            }
+
+            Document document = documentBuilder.parse(inputStream);
+            Element documentElement = document.getDocumentElement();
+
+            documentElement.normalize();
+            document.setUserData(TEMPLATE_KEY, Boolean.TRUE, null);
+
+            return documentElement;
+        } catch (SAXException | ParserConfigurationException | IOException exception) {
+            throw new XMLLoadException(exception);
+        }
+    }
+
+    /**
+     * Creates the factory for parsing templates. Nodes are created while parsing, instead of when they are first
+     * accessed, since templates are kept around and read many times.
+     *
+     * @return the factory
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static DocumentBuilderFactory createDocumentBuilderFactory() {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+
+        try {
+            factory.setFeature("http://apache.org/xml/features/dom/defer-node-expansion", false);
+        } catch (ParserConfigurationException ignored) {
+            //this parser doesn't defer node creation
+        }
+
+        return factory;
+    }
+}
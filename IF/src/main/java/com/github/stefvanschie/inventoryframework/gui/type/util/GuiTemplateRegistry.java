@@ -0,0 +1,157 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A collection of gui templates by name, as created by {@link Gui#preloadAll(org.bukkit.plugin.Plugin, Map)}.
+ * Templates can be replaced at any time; guis that were already created from the previous template are not affected.
+ * This class is safe to use from multiple threads.
+ *
+ * @since 0.10.19
+ */
+public final class GuiTemplateRegistry {
+
+    /**
+     * The templates by name
+     */
+    @NotNull
+    private final Map<String, GuiTemplate<Gui>> templates = new ConcurrentHashMap<>();
+
+    /**
+     * How long loading the templates took, by name
+     */
+    @NotNull
+    private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the template with the specified name.
+     *
+     * @param name the name of the template
+     * @return the template, or null if no template with this name exists
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public GuiTemplate<Gui> get(@NotNull String name) {
+        return this.templates.get(name);
+    }
+
+    /**
+     * Adds the specified template under the specified name, replacing the template that had this name before.
+     *
+     * @param name the name of the template
+     * @param template the template
+     * @since 0.10.19
+     */
+    public void register(@NotNull String name, @NotNull GuiTemplate<Gui> template) {
+        this.templates.put(name, template);
+    }
+
+    /**
+     * Gets the names of all templates. The returned set is a view, which reflects later changes to this registry.
+     *
+     * @return the names of the templates
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(this.templates.keySet());
+    }
+
+    /**
+     * Gets how long loading the template with the specified name took.
+     *
+     * @param name the name of the template
+     * @return the timing, or null if no timing is known for this template
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public Timing getTiming(@NotNull String name) {
+        return this.timings.get(name);
+    }
+
+    /**
+     * Sets how long loading the template with the specified name took.
+     *
+     * @param name the name of the template
+     * @param timing the timing
+     * @since 0.10.19
+     */
+    void setTiming(@NotNull String name, @NotNull Timing timing) {
+        this.timings.put(name, timing);
+    }
+
+    /**
+     * How long the steps of loading a single template took.
+     *
+     * @since 0.10.19
+     */
+    public static final class Timing {
+
+        /**
+         * The time spent reading and parsing the XML
+         */
+        @NotNull
+        private final Duration parseTime;
+
+        /**
+         * The time spent creating the items
+         */
+        @NotNull
+        private final Duration itemTime;
+
+        /**
+         * Creates a new timing
+         *
+         * @param parseTime the time spent reading and parsing the XML
+         * @param itemTime the time spent creating the items
+         * @since 0.10.19
+         */
+        Timing(@NotNull Duration parseTime, @NotNull Duration itemTime) {
+            this.parseTime = parseTime;
+            this.itemTime = itemTime;
+        }
+
+        /**
+         * Gets the time spent reading and parsing the XML. This happened on a worker thread.
+         *
+         * @return the parse time
+         * @since 0.10.19
+         */
+        @NotNull
+        @Contract(pure = true)
+        public Duration getParseTime() {
+            return parseTime;
+        }
+
+        /**
+         * Gets the time spent creating the items. This happened on the main thread.
+         *
+         * @return the item time
+         * @since 0.10.19
+         */
+        @NotNull
+        @Contract(pure = true)
+        public Duration getItemTime() {
+            return itemTime;
+        }
+
+        @NotNull
+        @Contract(pure = true)
+        @Override
+        public String toString() {
+            return "parse " + parseTime.toNanos() / 1_000_000.0 + " ms, items " + itemTime.toNanos() / 1_000_000.0 +
+                " ms";
+        }
+    }
+}
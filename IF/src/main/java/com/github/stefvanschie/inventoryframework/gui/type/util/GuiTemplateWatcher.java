@@ -0,0 +1,238 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches a directory of XML guis and recompiles the guis whose files change into a {@link GuiTemplateRegistry}. Every
+ * file is registered under its name without the {@code .xml} extension. Only the changed files are compiled again and
+ * the new template replaces the old one once it has been compiled completely. Guis created from the old template,
+ * such as guis that are currently open, are not affected; the next gui created from the registry uses the new
+ * template. If a changed file cannot be compiled, the old template is kept.
+ * <p>
+ * This is meant for tuning guis on a running server; the watcher should be closed when the plugin is disabled.
+ *
+ * @since 0.10.19
+ */
+public final class GuiTemplateWatcher implements AutoCloseable {
+
+    /**
+     * How long to wait for more changes after a change, in milliseconds. Editors often write a file in several steps,
+     * each of which is reported as a change.
+     */
+    private static final long SETTLE_MILLIS = 100;
+
+    /**
+     * The directory being watched
+     */
+    @NotNull
+    private final Path directory;
+
+    /**
+     * The registry to put the compiled templates in
+     */
+    @NotNull
+    private final GuiTemplateRegistry registry;
+
+    /**
+     * The executor for creating the items of compiled templates, which runs tasks on the main thread
+     */
+    @NotNull
+    private final Executor itemExecutor;
+
+    /**
+     * The logger to report reloads and failures to
+     */
+    @NotNull
+    private final Logger logger;
+
+    /**
+     * The watch service watching the directory
+     */
+    @NotNull
+    private final WatchService watchService;
+
+    /**
+     * Creates a new watcher and starts watching the directory on a new thread
+     *
+     * @param directory the directory to watch
+     * @param registry the registry to put the compiled templates in
+     * @param itemExecutor the executor for creating the items of compiled templates
+     * @param logger the logger to report reloads and failures to
+     * @throws IOException if the directory cannot be watched
+     * @since 0.10.19
+     */
+    GuiTemplateWatcher(@NotNull Path directory, @NotNull GuiTemplateRegistry registry, @NotNull Executor itemExecutor,
+                       @NotNull Logger logger) throws IOException {
+        this.directory = directory;
+        this.registry = registry;
+        this.itemExecutor = itemExecutor;
+        this.logger = logger;
+        this.watchService = directory.getFileSystem().newWatchService();
+
+        directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread thread = new Thread(this::watch, "InventoryFramework template watcher");
+
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Starts watching the specified directory, putting the compiled templates of changed files in the specified
+     * registry. Files that already exist are not compiled until they change.
+     *
+     * @param directory the directory to watch
+     * @param registry the registry to put the compiled templates in
+     * @param plugin the plugin to create the items of compiled templates for on the main thread and to log with
+     * @return the watcher
+     * @throws IOException if the directory cannot be watched
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static GuiTemplateWatcher start(@NotNull Path directory, @NotNull GuiTemplateRegistry registry,
+                                           @NotNull Plugin plugin) throws IOException {
+        return new GuiTemplateWatcher(directory, registry, task -> Bukkit.getScheduler().runTask(plugin, task),
+            plugin.getLogger());
+    }
+
+    /**
+     * Stops watching the directory. Templates that are being compiled may still be put in the registry afterwards.
+     *
+     * @since 0.10.19
+     */
+    @Override
+    public void close() {
+        try {
+            this.watchService.close();
+        } catch (IOException exception) {
+            this.logger.log(Level.WARNING, "Unable to stop watching " + this.directory, exception);
+        }
+    }
+
+    /**
+     * Waits for changes and reloads the changed files, until this watcher is closed
+     *
+     * @since 0.10.19
+     */
+    private void watch() {
+        try {
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                WatchKey key = this.watchService.take();
+
+                do {
+                    collectChanges(key, changed);
+                } while ((key = this.watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null);
+
+                for (Path file : changed) {
+                    reload(file);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ignored) {
+            //the watcher has been closed
+        }
+    }
+
+    /**
+     * Adds the XML files that changed according to the specified key to the specified set. If changes were lost, all
+     * XML files in the directory are added.
+     *
+     * @param key the key
+     * @param changed the set of changed files
+     * @since 0.10.19
+     */
+    private void collectChanges(@NotNull WatchKey key, @NotNull Set<Path> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, "*.xml")) {
+                    for (Path file : files) {
+                        changed.add(file);
+                    }
+                } catch (IOException exception) {
+                    this.logger.log(Level.WARNING, "Unable to list " + this.directory, exception);
+                }
+
+                continue;
+            }
+
+            Path file = this.directory.resolve((Path) event.context());
+
+            if (file.getFileName().toString().endsWith(".xml")) {
+                changed.add(file);
+            }
+        }
+
+        key.reset();
+    }
+
+    /**
+     * Compiles the specified file and puts the template in the registry once its items have been created. Files that
+     * no longer exist are skipped.
+     *
+     * @param file the file
+     * @since 0.10.19
+     */
+    private void reload(@NotNull Path file) {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+
+        String fileName = file.getFileName().toString();
+        String name = fileName.substring(0, fileName.length() - ".xml".length());
+        long parseStart = System.nanoTime();
+        GuiTemplate<Gui> template;
+
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            template = GuiTemplate.compile(inputStream);
+        } catch (IOException | XMLLoadException exception) {
+            this.logger.log(Level.WARNING, "Unable to reload gui '" + name + "', keeping the previous version",
+                exception);
+            return;
+        }
+
+        Duration parseTime = Duration.ofNanos(System.nanoTime() - parseStart);
+
+        this.itemExecutor.execute(() -> {
+            long itemStart = System.nanoTime();
+
+            try {
+                template.prepareItems();
+            } catch (XMLLoadException exception) {
+                this.logger.log(Level.WARNING, "Unable to reload gui '" + name + "', keeping the previous version",
+                    exception);
+                return;
+            }
+
+            GuiTemplateRegistry.Timing timing = new GuiTemplateRegistry.Timing(parseTime,
+                Duration.ofNanos(System.nanoTime() - itemStart));
+
+            this.registry.register(name, template);
+            this.registry.setTiming(name, timing);
+            this.logger.info("Reloaded gui '" + name + "' (" + timing + ")");
+        });
+    }
+}
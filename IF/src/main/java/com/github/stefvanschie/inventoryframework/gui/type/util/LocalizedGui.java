@@ -0,0 +1,143 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A gui which is shown in the locale of its viewers. For every locale, a copy of the gui is made, which renders its
+ * items for that locale, see {@link GuiItem#setLocalizedDisplayName(Function)} and
+ * {@link GuiItem#setLocalizedLore(Function)}. All viewers with the same locale share the same copy, so the items and
+ * the title are rendered once per locale, instead of once per viewer. Since the rendered items are cached by the items
+ * themselves, items which are in multiple copies are also rendered only once per locale.
+ * <p>
+ * Changes made to the gui after a copy has been made for a locale are not visible in that copy. Call
+ * {@link #invalidate()} after changing the gui, to have the copies made again.
+ *
+ * @param <T> the type of gui
+ * @since 0.10.19
+ */
+public final class LocalizedGui<T extends Gui> {
+
+    /**
+     * The locale used for viewers whose locale is unknown
+     */
+    @NotNull
+    private static final String DEFAULT_LOCALE = "en_us";
+
+    /**
+     * The gui the copies are made from
+     */
+    @NotNull
+    private final T gui;
+
+    /**
+     * The copies of the gui by locale
+     */
+    @NotNull
+    private final Map<String, T> guis = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves the title for a locale, or null if the title isn't localized
+     */
+    @Nullable
+    private Function<? super String, ? extends TextHolder> title;
+
+    /**
+     * Creates a new localized gui from the specified gui.
+     *
+     * @param gui the gui to make the copies from
+     * @since 0.10.19
+     */
+    public LocalizedGui(@NotNull T gui) {
+        this.gui = gui;
+    }
+
+    /**
+     * Sets the title per locale. The gui must be a {@link NamedGui}. The copies made so far are discarded.
+     *
+     * @param title the resolver of the title, or null to use the title of the gui
+     * @throws IllegalStateException if the gui is not a named gui
+     * @since 0.10.19
+     */
+    public void setTitle(@Nullable Function<? super String, ? extends TextHolder> title) {
+        if (!(gui instanceof NamedGui)) {
+            throw new IllegalStateException("Gui of type " + gui.getClass().getSimpleName() + " does not have a title");
+        }
+
+        this.title = title;
+
+        invalidate();
+    }
+
+    /**
+     * Shows the copy of the gui for the locale of the specified human entity. If the locale of the human entity is
+     * unknown, {@code en_us} is used.
+     *
+     * @param humanEntity the human entity to show the gui to
+     * @since 0.10.19
+     */
+    public void show(@NotNull HumanEntity humanEntity) {
+        String locale = DEFAULT_LOCALE;
+
+        if (humanEntity instanceof Player) {
+            locale = ((Player) humanEntity).getLocale().toLowerCase(Locale.ROOT);
+        }
+
+        getGui(locale).show(humanEntity);
+    }
+
+    /**
+     * Gets the copy of the gui for the specified locale, making it if it doesn't exist yet.
+     *
+     * @param locale the locale
+     * @return the copy of the gui
+     * @since 0.10.19
+     */
+    @NotNull
+    public T getGui(@NotNull String locale) {
+        return guis.computeIfAbsent(locale, this::localize);
+    }
+
+    /**
+     * Discards all copies made so far, so they will be made again from the gui. Viewers of the discarded copies keep
+     * viewing them until they are shown the gui again.
+     *
+     * @since 0.10.19
+     */
+    public void invalidate() {
+        guis.clear();
+    }
+
+    /**
+     * Makes a copy of the gui for the specified locale
+     *
+     * @param locale the locale
+     * @return the copy
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private T localize(@NotNull String locale) {
+        //copy returns the same type of gui as the gui it is called on
+        @SuppressWarnings("unchecked")
+        T copy = (T) gui.copy();
+
+        copy.setLocale(locale);
+
+        if (title != null) {
+            ((NamedGui) copy).setTitle(title.apply(locale));
+        }
+
+        return copy;
+    }
+}
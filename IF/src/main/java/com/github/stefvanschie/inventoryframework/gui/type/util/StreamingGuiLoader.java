@@ -0,0 +1,258 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import com.github.stefvanschie.inventoryframework.util.TriFunction;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Loads guis from XML with a streaming parser, for large gui definitions. Unlike
+ * {@link Gui#load(Object, InputStream, Plugin)}, the XML is never held in memory in its entirety. Every pane is
+ * loaded as soon as its end tag has been read, after which its contents are discarded; the panes containing it are
+ * handed the already loaded pane via {@link Gui#loadPane(Object, Node, Plugin)}. At any point only the elements of
+ * the panes that are still being read are kept, so the memory needed depends on the size of the largest pane, rather
+ * than on the size of the whole file.
+ * <p>
+ * Panes, guis and properties registered via {@link Gui#registerPane(String, TriFunction)},
+ * {@link Gui#registerGui(String, TriFunction)} and {@link Gui#registerProperty(String, java.util.function.Function)}
+ * can be used as usual. Custom panes containing other panes should load those via
+ * {@link Gui#loadPane(Object, Node, Plugin)}, since the elements of inner panes are empty by the time the outer pane
+ * is loaded.
+ *
+ * @since 0.10.19
+ */
+public final class StreamingGuiLoader {
+
+    /**
+     * The factory for the stream readers, created once since looking up the implementation is expensive
+     */
+    @Nullable
+    private static XMLInputFactory inputFactory;
+
+    /**
+     * The factory for the documents the elements are created in
+     */
+    @Nullable
+    private static DocumentBuilderFactory documentBuilderFactory;
+
+    /**
+     * A private constructor to prevent construction.
+     */
+    private StreamingGuiLoader() {}
+
+    /**
+     * Loads a gui from the given input stream. The type of gui is determined by the type attribute, like for
+     * {@link Gui#load(Object, InputStream, Plugin)}.
+     *
+     * @param instance the class instance for all reflection lookups
+     * @param inputStream the input stream containing the XML data
+     * @param plugin the plugin that will be the owner of the created gui
+     * @return the loaded gui
+     * @throws XMLLoadException if the XML is malformed, or if the gui could not be loaded
+     * @since 0.10.19
+     */
+    @NotNull
+    public static Gui load(@NotNull Object instance, @NotNull InputStream inputStream, @NotNull Plugin plugin) {
+        Element element = read(inputStream, Gui::isPaneRegistered, paneElement ->
+            paneElement.setUserData(Gui.LOADED_PANE_KEY, Gui.loadPane(instance, paneElement, plugin), null));
+
+        if (!element.hasAttribute("type")) {
+            throw new XMLLoadException("Type attribute must be specified when loading via StreamingGuiLoader.load");
+        }
+
+        String type = element.getAttribute("type");
+        TriFunction<? super Object, ? super Element, ? super Plugin, ? extends Gui> mapping = Gui.getGuiMapping(type);
+
+        if (mapping == null) {
+            throw new XMLLoadException("Type attribute '" + type + "' is invalid");
+        }
+
+        return mapping.apply(instance, element, plugin);
+    }
+
+    /**
+     * Loads a gui from the given input stream. The type of gui is determined by the type attribute, like for
+     * {@link Gui#load(Object, InputStream)}.
+     *
+     * @param instance the class instance for all reflection lookups
+     * @param inputStream the input stream containing the XML data
+     * @return the loaded gui
+     * @throws XMLLoadException if the XML is malformed, or if the gui could not be loaded
+     * @since 0.10.19
+     */
+    @NotNull
+    public static Gui load(@NotNull Object instance, @NotNull InputStream inputStream) {
+        return load(instance, inputStream, JavaPlugin.getProvidingPlugin(StreamingGuiLoader.class));
+    }
+
+    /**
+     * Reads the XML from the given input stream into elements. Whenever the end tag of a pane has been read, the pane
+     * consumer is called with the element of the pane, after which the children of the element are removed. The
+     * children of the root element and of panes with a populate attribute are skipped, since those are not loaded.
+     *
+     * @param inputStream the input stream containing the XML data
+     * @param isPane whether an element with the given name is a pane
+     * @param onPane called with the element of every pane once it has been read completely
+     * @return the root element
+     * @throws XMLLoadException if the XML is malformed
+     * @since 0.10.19
+     */
+    @NotNull
+    static Element read(@NotNull InputStream inputStream, @NotNull Predicate<? super String> isPane,
+                        @NotNull Consumer<? super Element> onPane) {
+        XMLStreamReader reader = null;
+
+        try {
+            reader = getInputFactory().createXMLStreamReader(inputStream);
+
+            Document document = getDocumentBuilderFactory().newDocumentBuilder().newDocument();
+            Deque<Element> openElements = new ArrayDeque<>();
+            Element root = null;
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        Element element = document.createElement(reader.getLocalName());
+
+                        for (int index = 0; index < reader.getAttributeCount(); index++) {
+                            element.setAttribute(reader.getAttributeLocalName(index), reader.getAttributeValue(index));
+                        }
+
+                        Element parent = openElements.peek();
+
+                        if (parent == null) {
+                            document.appendChild(element);
+                            root = element;
+                        } else {
+                            parent.appendChild(element);
+                        }
+
+                        boolean pane = parent != null && isPane.test(element.getTagName());
+
+                        if ((parent == null || pane) && element.hasAttribute("populate")) {
+                            skipChildren(reader);
+
+                            if (pane) {
+                                onPane.accept(element);
+                            }
+
+                            break;
+                        }
+
+                        openElements.push(element);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        Element closed = openElements.pop();
+
+                        if (!openElements.isEmpty() && isPane.test(closed.getTagName())) {
+                            onPane.accept(closed);
+
+                            //the pane has been loaded, so its contents are no longer needed
+                            while (closed.getFirstChild() != null) {
+                                closed.removeChild(closed.getFirstChild());
+                            }
+                        }
+
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        Element current = openElements.peek();
+
+                        if (current != null) {
+                            current.appendChild(document.createTextNode(reader.getText()));
+                        }
+
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            if (root == null) {
+                throw new XMLLoadException("Document does not have a root element");
+            }
+
+            return root;
+        } catch (XMLStreamException | ParserConfigurationException exception) {
+            throw new XMLLoadException(exception);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {}
+            }
+        }
+    }
+
+    /**
+     * Skips the children of the element the reader is currently at, up to and including its end tag
+     *
+     * @param reader the reader
+     * @throws XMLStreamException if the XML is malformed
+     * @since 0.10.19
+     */
+    private static void skipChildren(@NotNull XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+
+        while (depth > 0) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Gets the factory for the stream readers. Namespaces are not processed, so names are read as they are written,
+     * like the document builders used elsewhere do. Adjacent text is merged into a single node.
+     *
+     * @return the factory
+     * @since 0.10.19
+     */
+    @NotNull
+    private static synchronized XMLInputFactory getInputFactory() {
+        if (inputFactory == null) {
+            inputFactory = XMLInputFactory.newInstance();
+            inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+            inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        }
+
+        return inputFactory;
+    }
+
+    /**
+     * Gets the factory for the documents the elements are created in
+     *
+     * @return the factory
+     * @since 0.10.19
+     */
+    @NotNull
+    private static synchronized DocumentBuilderFactory getDocumentBuilderFactory() {
+        if (documentBuilderFactory == null) {
+            documentBuilderFactory = DocumentBuilderFactory.newInstance();
+        }
+
+        return documentBuilderFactory;
+    }
+}
@@ -3,16 +3,15 @@ package com.github.stefvanschie.inventoryframework.pane;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
 import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import com.github.stefvanschie.inventoryframework.gui.type.util.GuiTemplate;
 import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
-import com.github.stefvanschie.inventoryframework.exception.XMLReflectionException;
 import com.github.stefvanschie.inventoryframework.pane.util.Mask;
 import com.github.stefvanschie.inventoryframework.pane.util.Slot;
 import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
 import com.github.stefvanschie.inventoryframework.util.SkullUtil;
 import com.github.stefvanschie.inventoryframework.util.UUIDTagType;
 import com.github.stefvanschie.inventoryframework.util.XMLUtil;
-import com.google.common.primitives.Primitives;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.enchantments.Enchantment;
@@ -30,9 +29,8 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import java.lang.UnsupportedOperationException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -86,6 +84,24 @@ public abstract class Pane {
     @NotNull
     private static final Map<String, Function<String, Object>> PROPERTY_MAPPINGS = new HashMap<>();
 
+    /**
+     * The materials by the id used for them in XML, so every id is only resolved once
+     */
+    @NotNull
+    private static final Map<String, Material> MATERIALS = new ConcurrentHashMap<>();
+
+    /**
+     * The enchantments by the id used for them in XML, so every id is only resolved once
+     */
+    @NotNull
+    private static final Map<String, Enchantment> ENCHANTMENTS = new ConcurrentHashMap<>();
+
+    /**
+     * The key under which the parsed item of an item element in a {@link GuiTemplate} is stored
+     */
+    @NotNull
+    private static final String PARSED_ITEM_KEY = "inventoryframework-parsed-item";
+
     /**
      * Constructs a new default pane
      *
@@ -374,8 +390,85 @@ public abstract class Pane {
     @NotNull
     @Contract(pure = true)
     public static GuiItem loadItem(@NotNull Object instance, @NotNull Element element, @NotNull Plugin plugin) {
+        ParsedItem parsedItem = (ParsedItem) element.getUserData(PARSED_ITEM_KEY);
+
+        if (parsedItem == null) {
+            parsedItem = parseItem(element);
+
+            //elements of templates are loaded again for every instantiation, so keep the parsed item around
+            if (GuiTemplate.isTemplate(element)) {
+                element.setUserData(PARSED_ITEM_KEY, parsedItem, null);
+            }
+        }
+
+        ItemStack itemStack = parsedItem.getItemStack().clone();
+        List<Object> properties = new ArrayList<>(parsedItem.getProperties());
+
+        Consumer<InventoryClickEvent> action = null;
+
+        if (element.hasAttribute("onClick")) {
+            action = XMLUtil.loadOnClickAttribute(instance, element, properties);
+        }
+
+        GuiItem item = new GuiItem(itemStack, action, plugin);
+
+        if (element.hasAttribute("field"))
+            XMLUtil.loadFieldAttribute(instance, element, item);
+
+        if (element.hasAttribute("populate")) {
+            XMLUtil.invokeMethod(instance, element.getAttribute("populate"), item, GuiItem.class);
+        }
+		
+		item.setProperties(properties);
+
+        return item;
+    }
+
+    /**
+     * Loads an item from an instance and an element
+     *
+     * @param instance the instance
+     * @param element the element
+     * @return the gui item
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static GuiItem loadItem(@NotNull Object instance, @NotNull Element element) {
+        return loadItem(instance, element, JavaPlugin.getProvidingPlugin(Pane.class));
+    }
+
+    /**
+     * Parses the item of the specified item element of a {@link GuiTemplate} ahead of time, so loading the item later
+     * doesn't have to. This creates item stacks, so it should be called on the main thread. Does nothing for elements
+     * that are not part of a template, or whose item has already been parsed.
+     *
+     * @param element the item element
+     * @throws XMLLoadException if the item is invalid
+     * @since 0.10.19
+     */
+    public static void prepareItem(@NotNull Element element) {
+        if (!GuiTemplate.isTemplate(element) || element.getUserData(PARSED_ITEM_KEY) != null) {
+            return;
+        }
+
+        element.setUserData(PARSED_ITEM_KEY, parseItem(element), null);
+    }
+
+    /**
+     * Parses the item stack and the properties of an item element. This does not look at any attributes referencing
+     * code.
+     *
+     * @param element the element
+     * @return the parsed item
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static ParsedItem parseItem(@NotNull Element element) {
         String id = element.getAttribute("id");
-        Material material = Material.matchMaterial(id.toUpperCase(Locale.getDefault()));
+        Material material = MATERIALS.computeIfAbsent(id, key -> Material.matchMaterial(
+            key.toUpperCase(Locale.getDefault())
+        ));
 
         if (material == null) {
             throw new XMLLoadException("Can't find material for '" + id + "'");
@@ -389,6 +482,10 @@ public abstract class Pane {
         //noinspection deprecation
         ItemStack itemStack = new ItemStack(material, amount, damage);
 
+        //every call to getItemMeta creates a copy, so all changes are made to a single meta which is set once
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        boolean metaChanged = false;
+
         List<Object> properties = new ArrayList<>();
 
         if (element.hasChildNodes()) {
@@ -415,7 +512,6 @@ public abstract class Pane {
                             continue;
 
                         Element innerElementChild = (Element) innerNode;
-                        ItemMeta itemMeta = Objects.requireNonNull(itemStack.getItemMeta());
 
                         switch (nodeName) {
                             case "properties":
@@ -434,16 +530,17 @@ public abstract class Pane {
                                     continue;
 
                                 TextHolder.deserialize(innerNode.getTextContent())
-                                        .asItemLoreAtEnd(itemMeta);
-                                itemStack.setItemMeta(itemMeta);
+                                        .asItemLoreAtEnd(Objects.requireNonNull(itemMeta));
+                                metaChanged = true;
                                 break;
                             case "enchantments":
                                 if (!innerNode.getNodeName().equals("enchantment"))
                                     continue;
 
-                                Enchantment enchantment = Enchantment.getByKey(NamespacedKey.minecraft(
-                                    innerElementChild.getAttribute("id").toUpperCase(Locale.getDefault())
-                                ));
+                                String enchantmentId = innerElementChild.getAttribute("id");
+                                Enchantment enchantment = ENCHANTMENTS.computeIfAbsent(enchantmentId, key ->
+                                    Enchantment.getByKey(NamespacedKey.minecraft(key.toUpperCase(Locale.getDefault())))
+                                );
 
                                 if (enchantment == null) {
                                     throw new XMLLoadException("Enchantment cannot be found");
@@ -451,26 +548,22 @@ public abstract class Pane {
 
                                 int level = Integer.parseInt(innerElementChild.getAttribute("level"));
 
-                                itemMeta.addEnchant(enchantment, level, true);
-                                itemStack.setItemMeta(itemMeta);
+                                Objects.requireNonNull(itemMeta).addEnchant(enchantment, level, true);
+                                metaChanged = true;
                                 break;
                         }
                     }
                 } else if (nodeName.equals("displayname")) {
-                    ItemMeta itemMeta = Objects.requireNonNull(itemStack.getItemMeta());
-
                     TextHolder.deserialize(item.getTextContent())
-                            .asItemDisplayName(itemMeta);
+                            .asItemDisplayName(Objects.requireNonNull(itemMeta));
 
-                    itemStack.setItemMeta(itemMeta);
+                    metaChanged = true;
                 } else if (nodeName.equals("modeldata")) {
-                    ItemMeta itemMeta = Objects.requireNonNull(itemStack.getItemMeta());
+                    Objects.requireNonNull(itemMeta).setCustomModelData(Integer.parseInt(item.getTextContent()));
 
-                    itemMeta.setCustomModelData(Integer.parseInt(item.getTextContent()));
-
-                    itemStack.setItemMeta(itemMeta);
-                } else if (nodeName.equals("skull") && itemStack.getItemMeta() instanceof SkullMeta) {
-                    SkullMeta skullMeta = (SkullMeta) itemStack.getItemMeta();
+                    metaChanged = true;
+                } else if (nodeName.equals("skull") && itemMeta instanceof SkullMeta) {
+                    SkullMeta skullMeta = (SkullMeta) itemMeta;
 
                     if (elementItem.hasAttribute("owner"))
                         //noinspection deprecation
@@ -479,104 +572,16 @@ public abstract class Pane {
                         SkullUtil.setSkull(skullMeta, elementItem.getAttribute("id"));
                     }
 
-                    itemStack.setItemMeta(skullMeta);
-                }
-            }
-        }
-
-        Consumer<InventoryClickEvent> action = null;
-
-        if (element.hasAttribute("onClick")) {
-            String methodName = element.getAttribute("onClick");
-            for (Method method : instance.getClass().getMethods()) {
-                if (!method.getName().equals(methodName))
-                    continue;
-
-                int parameterCount = method.getParameterCount();
-                Class<?>[] parameterTypes = method.getParameterTypes();
-
-                if (parameterCount == 0)
-                    action = event -> {
-                        try {
-                            //because reflection with lambdas is stupid
-                            method.setAccessible(true);
-                            method.invoke(instance);
-                        } catch (IllegalAccessException | InvocationTargetException exception) {
-                            throw new XMLReflectionException(exception);
-                        }
-                    };
-                else if (parameterTypes[0].isAssignableFrom(InventoryClickEvent.class)) {
-                    if (parameterCount == 1)
-                        action = event -> {
-                            try {
-                                //because reflection with lambdas is stupid
-                                method.setAccessible(true);
-                                method.invoke(instance, event);
-                            } catch (IllegalAccessException | InvocationTargetException exception) {
-                                throw new XMLReflectionException(exception);
-                            }
-                        };
-                    else if (parameterCount == properties.size() + 1) {
-                        boolean correct = true;
-
-                        for (int i = 0; i < properties.size(); i++) {
-                            Object attribute = properties.get(i);
-
-                            if (!(parameterTypes[1 + i].isPrimitive() &&
-                                    parameterTypes[1 + i].isAssignableFrom(Primitives.unwrap(attribute.getClass()))) &&
-                                    !parameterTypes[1 + i].isAssignableFrom(attribute.getClass()))
-                                correct = false;
-                        }
-
-                        if (correct) {
-                            action = event -> {
-                                try {
-                                    //don't ask me why we need to do this, just roll with it (actually I do know why, but it's stupid)
-                                    properties.add(0, event);
-
-                                    //because reflection with lambdas is stupid
-                                    method.setAccessible(true);
-                                    method.invoke(instance, properties.toArray(new Object[0]));
-
-                                    //since we'll append the event to the list next time again, we need to remove it here again
-                                    properties.remove(0);
-                                } catch (IllegalAccessException | InvocationTargetException exception) {
-                                    throw new XMLReflectionException(exception);
-                                }
-                            };
-                        }
-                    }
+                    metaChanged = true;
                 }
-
-                break;
             }
         }
 
-        GuiItem item = new GuiItem(itemStack, action, plugin);
-
-        if (element.hasAttribute("field"))
-            XMLUtil.loadFieldAttribute(instance, element, item);
-
-        if (element.hasAttribute("populate")) {
-            XMLUtil.invokeMethod(instance, element.getAttribute("populate"), item, GuiItem.class);
+        if (metaChanged) {
+            itemStack.setItemMeta(itemMeta);
         }
-		
-		item.setProperties(properties);
-
-        return item;
-    }
 
-    /**
-     * Loads an item from an instance and an element
-     *
-     * @param instance the instance
-     * @param element the element
-     * @return the gui item
-     */
-    @NotNull
-    @Contract(pure = true)
-    public static GuiItem loadItem(@NotNull Object instance, @NotNull Element element) {
-        return loadItem(instance, element, JavaPlugin.getProvidingPlugin(Pane.class));
+        return new ParsedItem(itemStack, properties);
     }
 
     public static void load(@NotNull Pane pane, @NotNull Object instance, @NotNull Element element) {
@@ -595,18 +600,7 @@ public abstract class Pane {
             pane.setOnClick(XMLUtil.loadOnEventAttribute(instance, element, InventoryClickEvent.class, "onClick"));
 
         if (element.hasAttribute("populate")) {
-            String attribute = element.getAttribute("populate");
-            for (Method method: instance.getClass().getMethods()) {
-                if (!method.getName().equals(attribute))
-                    continue;
-
-                try {
-                    method.setAccessible(true);
-                    method.invoke(instance, pane);
-                } catch (IllegalAccessException | InvocationTargetException exception) {
-                    throw new XMLLoadException(exception);
-                }
-            }
+            XMLUtil.invokeMethods(instance, element.getAttribute("populate"), pane);
         }
     }
 
@@ -938,6 +932,63 @@ public abstract class Pane {
         }
     }
 
+    /**
+     * The parsed item stack and properties of an item element. Instances are shared between all guis created from the
+     * same template, so the item stack must be cloned before use.
+     *
+     * @since 0.10.19
+     */
+    private static final class ParsedItem {
+
+        /**
+         * The item stack
+         */
+        @NotNull
+        private final ItemStack itemStack;
+
+        /**
+         * The properties of the item
+         */
+        @NotNull
+        private final List<Object> properties;
+
+        /**
+         * Creates a new parsed item
+         *
+         * @param itemStack the item stack
+         * @param properties the properties of the item
+         * @since 0.10.19
+         */
+        private ParsedItem(@NotNull ItemStack itemStack, @NotNull List<Object> properties) {
+            this.itemStack = itemStack;
+            this.properties = properties;
+        }
+
+        /**
+         * Gets the item stack. This should not be modified.
+         *
+         * @return the item stack
+         * @since 0.10.19
+         */
+        @NotNull
+        @Contract(pure = true)
+        private ItemStack getItemStack() {
+            return itemStack;
+        }
+
+        /**
+         * Gets the properties of the item. This should not be modified.
+         *
+         * @return the properties
+         * @since 0.10.19
+         */
+        @NotNull
+        @Contract(pure = true)
+        private List<Object> getProperties() {
+            return properties;
+        }
+    }
+
     static {
         PROPERTY_MAPPINGS.put("boolean", Boolean::parseBoolean);
         PROPERTY_MAPPINGS.put("byte", Byte::parseByte);
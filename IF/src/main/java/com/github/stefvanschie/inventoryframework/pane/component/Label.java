@@ -13,8 +13,12 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.Element;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiFunction;
 
 /**
@@ -42,6 +46,18 @@ public class Label extends OutlinePane {
     @NotNull
     private final Plugin plugin;
 
+    /**
+     * The processor used for the characters when no processor is specified
+     */
+    @NotNull
+    private final BiFunction<Character, ItemStack, GuiItem> defaultProcessor;
+
+    /**
+     * The processor that created the items of the current text, or null if the items weren't created by this label
+     */
+    @Nullable
+    private BiFunction<?, ?, ?> textProcessor;
+
     /**
      * Creates a new label
      *
@@ -62,6 +78,7 @@ public class Label extends OutlinePane {
         this.text = "";
 
         this.plugin = plugin;
+        this.defaultProcessor = (character, item) -> new GuiItem(item, this.plugin);
 
         setPriority(priority);
     }
@@ -210,20 +227,29 @@ public class Label extends OutlinePane {
     public void setText(@NotNull String text,
                         @NotNull BiFunction<? super @NotNull Character, ? super @NotNull ItemStack,
                                 ? extends @NotNull GuiItem> processor) {
+        String previousText = this.text;
+        List<GuiItem> previousItems = Collections.emptyList();
+
+        //only items created by the default processor are known to depend on nothing but their character
+        if (processor == this.defaultProcessor && this.textProcessor == processor &&
+            getItems().size() == previousText.length()) {
+            previousItems = new ArrayList<>(getItems());
+        }
+
         this.text = text;
+        this.textProcessor = processor;
 
         clear();
 
-        for (char character : text.toCharArray()) {
-            ItemStack item = font.toItem(character);
+        for (int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
 
-            if (item == null) {
-                item = font.toItem(Character.toUpperCase(character));
+            if (index < previousItems.size() && previousText.charAt(index) == character) {
+                addItem(previousItems.get(index));
+                continue;
             }
 
-            if (item == null) {
-                item = font.toItem(Character.toLowerCase(character));
-            }
+            ItemStack item = font.toItemIgnoreCase(character);
 
             if (item == null) {
                 item = font.getDefaultItem();
@@ -234,14 +260,16 @@ public class Label extends OutlinePane {
     }
 
     /**
-     * Sets the text to be displayed in this label. If this label already had text, this text will be overwritten.
+     * Sets the text to be displayed in this label. If this label already had text, this text will be overwritten. The
+     * items of characters that are at the same position in the previous text are kept, so updating text that changes
+     * in a few places only creates items for the changed characters.
      *
      * @param text the new text
      * @see #setText(String, BiFunction)
      * @since 0.5.0
      */
     public void setText(@NotNull String text) {
-        setText(text, (character, item) -> new GuiItem(item, this.plugin));
+        setText(text, this.defaultProcessor);
     }
 
     @NotNull
@@ -0,0 +1,208 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import com.github.stefvanschie.inventoryframework.abstraction.InventoryResync;
+import com.github.stefvanschie.inventoryframework.util.version.Version;
+import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+/**
+ * A utility class for undoing the client-side prediction of cancelled clicks. Instead of sending the entire window
+ * again, only the slots that the click's {@link InventoryAction} could have changed on the client are sent: the
+ * clicked slot, the cursor, the hotbar slot that was swapped with and the off hand.
+ *
+ * @since 0.10.19
+ */
+public final class ResyncUtil {
+
+    /**
+     * The value representing the cursor in the collection of desynced slots
+     */
+    public static final int CURSOR = -1;
+
+    /**
+     * The value representing the off hand in the collection of desynced slots
+     */
+    public static final int OFF_HAND = -2;
+
+    /**
+     * The hotbar button the client uses for swapping with the off hand
+     */
+    private static final int OFF_HAND_BUTTON = 40;
+
+    /**
+     * The amount of slots in the player's inventory before the hotbar, in a view
+     */
+    private static final int STORAGE_SIZE = 27;
+
+    /**
+     * The resync for the current version
+     */
+    @Nullable
+    private static InventoryResync resync;
+
+    /**
+     * A private constructor to prevent construction.
+     */
+    private ResyncUtil() {}
+
+    /**
+     * Sends the slots the specified click could have changed on the client back to the player. The top items are the
+     * items the gui wants to show; the items of the player's own inventory and the cursor are taken from the server. If
+     * the action of the click can change an unknown amount of slots, nothing is sent and false is returned, in which
+     * case the caller should send the entire window.
+     *
+     * @param event the click to undo
+     * @param topItems the items of the top inventory
+     * @return true if the slots were sent, false if the entire window should be sent instead
+     * @since 0.10.19
+     */
+    public static boolean resync(@NotNull InventoryClickEvent event, @Nullable ItemStack @NotNull [] topItems) {
+        HumanEntity humanEntity = event.getWhoClicked();
+
+        if (!(humanEntity instanceof Player)) {
+            return true;
+        }
+
+        Collection<Integer> slots = getDesyncedSlots(
+            event.getAction(), event.getClick(), event.getRawSlot(), event.getHotbarButton(), topItems.length
+        );
+
+        if (slots == null) {
+            return false;
+        }
+
+        Player player = (Player) humanEntity;
+        PlayerInventory playerInventory = player.getInventory();
+        InventoryResync resync = getResync();
+
+        for (int slot : slots) {
+            if (slot == CURSOR) {
+                resync.sendCursor(player, player.getItemOnCursor());
+            } else if (slot == OFF_HAND) {
+                resync.sendOffHand(player, playerInventory.getItemInOffHand());
+            } else if (slot < topItems.length) {
+                resync.sendSlot(player, slot, topItems[slot]);
+            } else {
+                int index = slot - topItems.length;
+
+                //the player's storage comes first in a view, the hotbar comes first in the player's inventory
+                int inventorySlot = index < STORAGE_SIZE ? index + 9 : index - STORAGE_SIZE;
+
+                resync.sendSlot(player, slot, playerInventory.getItem(inventorySlot));
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sends the player's off hand back to the player if the specified click could have changed it on the client. The
+     * other slots of regular inventories are already sent again by the server after a cancelled click, but the off hand
+     * is not part of those.
+     *
+     * @param event the click to undo
+     * @param topSize the size of the top inventory
+     * @since 0.10.19
+     */
+    public static void resyncOffHand(@NotNull InventoryClickEvent event, int topSize) {
+        HumanEntity humanEntity = event.getWhoClicked();
+
+        if (!(humanEntity instanceof Player)) {
+            return;
+        }
+
+        Collection<Integer> slots = getDesyncedSlots(
+            event.getAction(), event.getClick(), event.getRawSlot(), event.getHotbarButton(), topSize
+        );
+
+        if (slots == null || slots.contains(OFF_HAND)) {
+            Player player = (Player) humanEntity;
+
+            getResync().sendOffHand(player, player.getInventory().getItemInOffHand());
+        }
+    }
+
+    /**
+     * Gets the slots that a click with the specified properties could have changed on the client. The returned slots
+     * are raw slots of the view, or {@link #CURSOR} or {@link #OFF_HAND}. If the action can change an unknown amount of
+     * slots, such as moving items to the other inventory, null is returned.
+     *
+     * @param action the action of the click
+     * @param clickType the type of click
+     * @param rawSlot the raw slot that was clicked
+     * @param hotbarButton the hotbar button that was pressed, or -1
+     * @param topSize the size of the top inventory
+     * @return the desynced slots, or null if any slot may be desynced
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Collection<Integer> getDesyncedSlots(@NotNull InventoryAction action, @NotNull ClickType clickType,
+                                                       int rawSlot, int hotbarButton, int topSize) {
+        Collection<Integer> slots = new LinkedHashSet<>();
+
+        switch (action) {
+            case DROP_ALL_CURSOR:
+            case DROP_ONE_CURSOR:
+            case CLONE_STACK:
+                slots.add(CURSOR);
+                break;
+            case DROP_ALL_SLOT:
+            case DROP_ONE_SLOT:
+                slots.add(rawSlot);
+                break;
+            case HOTBAR_SWAP:
+            case HOTBAR_MOVE_AND_READD:
+                slots.add(rawSlot);
+
+                if (clickType == ClickType.SWAP_OFFHAND || hotbarButton == OFF_HAND_BUTTON || hotbarButton < 0) {
+                    slots.add(OFF_HAND);
+                } else {
+                    slots.add(topSize + STORAGE_SIZE + hotbarButton);
+                }
+
+                break;
+            case MOVE_TO_OTHER_INVENTORY:
+            case COLLECT_TO_CURSOR:
+            case UNKNOWN:
+                return null;
+            default:
+                if (rawSlot >= 0) {
+                    slots.add(rawSlot);
+                }
+
+                slots.add(CURSOR);
+                break;
+        }
+
+        return Collections.unmodifiableCollection(slots);
+    }
+
+    /**
+     * Gets the resync for the current version.
+     *
+     * @return the resync
+     * @since 0.10.19
+     */
+    @NotNull
+    private static InventoryResync getResync() {
+        if (resync == null) {
+            resync = VersionMatcher.newInventoryResync(Version.getVersion());
+        }
+
+        return resync;
+    }
+}
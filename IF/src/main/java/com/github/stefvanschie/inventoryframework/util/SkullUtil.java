@@ -5,12 +5,19 @@ import com.mojang.authlib.properties.Property;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -21,6 +28,35 @@ import java.util.UUID;
  */
 public final class SkullUtil {
 
+    /**
+     * The maximum amount of skulls kept in {@link #SKULLS}
+     */
+    private static final int MAX_CACHED_SKULLS = 512;
+
+    /**
+     * The accessors for the profile of skull metas, per meta class
+     */
+    @NotNull
+    private static final ClassValue<ProfileAccessor> PROFILE_ACCESSORS = new ClassValue<ProfileAccessor>() {
+        @NotNull
+        @Override
+        protected ProfileAccessor computeValue(@NotNull Class<?> type) {
+            return new ProfileAccessor(type);
+        }
+    };
+
+    /**
+     * The most recently used skulls by their encoded textures. These are never handed out directly, only copies of
+     * them.
+     */
+    @NotNull
+    private static final Map<String, ItemStack> SKULLS = new LinkedHashMap<String, ItemStack>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(@NotNull Map.Entry<String, ItemStack> eldest) {
+            return size() > MAX_CACHED_SKULLS;
+        }
+    };
+
     /**
      * A private constructor to ensure this class isn't instantiated
      *
@@ -38,42 +74,199 @@ public final class SkullUtil {
      */
     @NotNull
     public static ItemStack getSkull(@NotNull String id) {
-        ItemStack item = new ItemStack(Material.PLAYER_HEAD);
-        ItemMeta itemMeta = Objects.requireNonNull(item.getItemMeta());
-        setSkull(itemMeta, id);
-        item.setItemMeta(itemMeta);
-        return item;
+        return getSkullFromTextures(encodeTextures(id));
+    }
+
+    /**
+     * Gets a skull from the specified textures property, as created by {@link #encodeTextures(String)}. Recently used
+     * skulls are cached, so getting the same skull again only copies the cached skull.
+     *
+     * @param textures the encoded textures
+     * @return the skull item
+     * @since 0.10.19
+     */
+    @NotNull
+    public static ItemStack getSkullFromTextures(@NotNull String textures) {
+        return getCachedSkull(textures).clone();
     }
 
     /**
      * Sets the skull of an existing {@link ItemMeta} from the specified id.
      * The id is the value from the textures.minecraft.net website after the last '/' character.
+     * The profile is taken from the cached skull with the same textures, so it is only created once.
      *
      * @param meta the meta to change
      * @param id the skull id
      */
     public static void setSkull(@NotNull ItemMeta meta, @NotNull String id) {
-        GameProfile profile = new GameProfile(UUID.randomUUID(), "");
+        ItemMeta skullMeta = Objects.requireNonNull(getCachedSkull(encodeTextures(id)).getItemMeta());
+        Object profile;
+
+        try {
+            profile = PROFILE_ACCESSORS.get(skullMeta.getClass()).profileGetter.invokeExact((Object) skullMeta);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+
+        setProfile(meta, (GameProfile) profile);
+    }
+
+    /**
+     * Encodes the specified skull id into the value of the textures property of a skull's profile. The id is the value
+     * from the textures.minecraft.net website after the last '/' character.
+     *
+     * @param id the skull id
+     * @return the encoded textures
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static String encodeTextures(@NotNull String id) {
         byte[] encodedData = Base64.getEncoder().encode(String.format("{textures:{SKIN:{url:\"%s\"}}}",
             "http://textures.minecraft.net/texture/" + id).getBytes());
-        profile.getProperties().put("textures", new Property("textures", new String(encodedData)));
+
+        return new String(encodedData);
+    }
+
+    /**
+     * Sets the skull of an existing {@link ItemMeta} from the specified textures property, as created by
+     * {@link #encodeTextures(String)}. The profile's id is derived from the textures, so skulls with the same textures
+     * are similar to each other.
+     *
+     * @param meta the meta to change
+     * @param textures the encoded textures
+     * @since 0.10.19
+     */
+    public static void setSkullTextures(@NotNull ItemMeta meta, @NotNull String textures) {
+        UUID uuid = UUID.nameUUIDFromBytes(textures.getBytes(StandardCharsets.UTF_8));
+        GameProfile profile = new GameProfile(uuid, "");
+        profile.getProperties().put("textures", new Property("textures", textures));
+
+        setProfile(meta, profile);
+    }
+
+    /**
+     * Gets the cached skull with the specified textures, creating it if it isn't cached. The returned item must not be
+     * modified or handed out.
+     *
+     * @param textures the encoded textures
+     * @return the cached skull item
+     * @since 0.10.19
+     */
+    @NotNull
+    private static ItemStack getCachedSkull(@NotNull String textures) {
+        ItemStack item;
+
+        synchronized (SKULLS) {
+            item = SKULLS.get(textures);
+        }
+
+        if (item == null) {
+            item = new ItemStack(Material.PLAYER_HEAD);
+            ItemMeta itemMeta = Objects.requireNonNull(item.getItemMeta());
+            setSkullTextures(itemMeta, textures);
+            item.setItemMeta(itemMeta);
+
+            synchronized (SKULLS) {
+                SKULLS.put(textures, item);
+            }
+        }
+
+        return item;
+    }
+
+    /**
+     * Sets the profile of an existing {@link ItemMeta}, keeping its display name.
+     *
+     * @param meta the meta to change
+     * @param profile the profile
+     * @since 0.10.19
+     */
+    private static void setProfile(@NotNull ItemMeta meta, @NotNull GameProfile profile) {
         String itemDisplayName = meta.getDisplayName();
+        ProfileAccessor accessor = PROFILE_ACCESSORS.get(meta.getClass());
 
         try {
-            Field profileField = meta.getClass().getDeclaredField("profile");
-            profileField.setAccessible(true);
-            profileField.set(meta, profile);
+            accessor.profileSetter.invokeExact((Object) meta, (Object) profile);
 
             meta.setDisplayName(itemDisplayName);
 
-            // Sets serializedProfile field on meta
-            // If it does throw NoSuchMethodException this stops, and meta is correct.
-            // Else it has profile and will set the field.
-            Method setProfile = meta.getClass().getDeclaredMethod("setProfile", GameProfile.class);
-            setProfile.setAccessible(true);
-            setProfile.invoke(meta, profile);
-        } catch (NoSuchFieldException | SecurityException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        } catch (NoSuchMethodException ignored) {}
+            // Sets serializedProfile field on meta, if the meta has this method
+            if (accessor.setProfile != null) {
+                accessor.setProfile.invokeExact((Object) meta, profile);
+            }
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    /**
+     * The handles for setting the profile of a skull meta class, which are looked up once per class
+     *
+     * @since 0.10.19
+     */
+    private static final class ProfileAccessor {
+
+        /**
+         * The getter of the profile field, taking the meta as object and returning the profile as object
+         */
+        @NotNull
+        private final MethodHandle profileGetter;
+
+        /**
+         * The setter of the profile field, taking the meta and the profile as objects
+         */
+        @NotNull
+        private final MethodHandle profileSetter;
+
+        /**
+         * The setProfile method, taking the meta as object and the profile, or null if the class doesn't have this
+         * method
+         */
+        @Nullable
+        private final MethodHandle setProfile;
+
+        /**
+         * Looks up the handles for the specified meta class
+         *
+         * @param type the meta class
+         * @throws RuntimeException if the class doesn't have a profile field
+         * @since 0.10.19
+         */
+        private ProfileAccessor(@NotNull Class<?> type) {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            try {
+                Field profileField = type.getDeclaredField("profile");
+                profileField.setAccessible(true);
+
+                this.profileGetter = lookup.unreflectGetter(profileField)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+                this.profileSetter = lookup.unreflectSetter(profileField)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            } catch (NoSuchFieldException | SecurityException | IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+
+            MethodHandle setProfile = null;
+
+            try {
+                Method method = type.getDeclaredMethod("setProfile", GameProfile.class);
+                method.setAccessible(true);
+
+                setProfile = lookup.unreflect(method)
+                    .asType(MethodType.methodType(void.class, Object.class, GameProfile.class));
+            } catch (NoSuchMethodException ignored) {
+                //older versions don't have this method, setting the field is enough for them
+            } catch (SecurityException | IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+
+            this.setProfile = setProfile;
+        }
     }
 }
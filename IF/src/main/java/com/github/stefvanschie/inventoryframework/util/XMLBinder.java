@@ -0,0 +1,77 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import org.bukkit.event.Event;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Binds the code references of an XML gui to an instance without reflection. When an XML gui is loaded with a binder
+ * as its instance, {@link XMLUtil} asks the binder for fields and methods, instead of looking them up reflectively on
+ * the instance. Binders are normally generated at compile time by the annotation processor, so references that don't
+ * exist are found while compiling, rather than when the gui is loaded.
+ * <p>
+ * Custom pane loaders that look at the instance themselves should use {@link #getInstance()} to get the object the
+ * binder binds to.
+ *
+ * @since 0.10.19
+ */
+public interface XMLBinder {
+
+    /**
+     * Gets the instance this binder binds the code references to.
+     *
+     * @return the instance
+     * @since 0.10.19
+     */
+    @NotNull
+    Object getInstance();
+
+    /**
+     * Sets the field with the specified name to the given value.
+     *
+     * @param name the name of the field
+     * @param value the field's new value
+     * @throws XMLLoadException if no field with this name is bound
+     * @since 0.10.19
+     */
+    void setField(@NotNull String name, @Nullable Object value);
+
+    /**
+     * Gets the consumer calling the method with the specified name for events of the given type.
+     *
+     * @param name the name of the method
+     * @param eventType the type of the event
+     * @return the consumer, or null if no such method is bound
+     * @param <T> the type of the event
+     * @since 0.10.19
+     */
+    @Nullable
+    <T extends Event> Consumer<T> getEventHandler(@NotNull String name, @NotNull Class<T> eventType);
+
+    /**
+     * Gets the consumer calling the click handler of an item with the specified name. The properties of the item are
+     * passed to the method if it takes those.
+     *
+     * @param name the name of the method
+     * @param properties the properties of the item
+     * @return the consumer, or null if no such method is bound or it doesn't match the properties
+     * @since 0.10.19
+     */
+    @Nullable
+    Consumer<InventoryClickEvent> getClickHandler(@NotNull String name, @NotNull List<?> properties);
+
+    /**
+     * Invokes all methods with the specified name which have a single parameter accepting the provided argument.
+     *
+     * @param name the name of the methods
+     * @param argument the argument to provide for the invocations
+     * @throws XMLLoadException if no method with this name is bound
+     * @since 0.10.19
+     */
+    void invoke(@NotNull String name, @NotNull Object argument);
+}
@@ -2,19 +2,50 @@ package com.github.stefvanschie.inventoryframework.util;
 
 import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
 import com.github.stefvanschie.inventoryframework.exception.XMLReflectionException;
+import com.google.common.primitives.Primitives;
 import org.bukkit.event.Event;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.Element;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class XMLUtil {
 
+    /**
+     * The lookup used for turning methods and fields into method handles
+     */
+    @NotNull
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * The resolved method handles per class, by a description of what was looked up. The handles take the instance as
+     * their first argument. This is stored per class, so classes of unloaded plugins can still be unloaded.
+     */
+    @NotNull
+    private static final ClassValue<Map<String, List<MethodHandle>>> HANDLES =
+        new ClassValue<Map<String, List<MethodHandle>>>() {
+            @NotNull
+            @Override
+            protected Map<String, List<MethodHandle>> computeValue(@NotNull Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     /**
      * Loads an event consumer from the given instance and element
      *
@@ -29,37 +60,68 @@ public class XMLUtil {
     @Contract(pure = true)
     public static <T extends Event> Consumer<T> loadOnEventAttribute(@NotNull Object instance, @NotNull Element element,
                                                                      @NotNull Class<T> eventType, @NotNull String name) {
-        String attribute = element.getAttribute(name);
-        for (Method method : instance.getClass().getMethods()) {
-            if (!method.getName().equals(attribute))
-                continue;
+        String methodName = element.getAttribute(name);
 
-            int parameterCount = method.getParameterCount();
-            boolean eventParameter;
-            if (parameterCount == 0) {
-                eventParameter = false;
-            } else if (parameterCount == 1 &&
-                    eventType.isAssignableFrom(method.getParameterTypes()[0])) {
-                eventParameter = true;
-            } else {
-                continue;
-            }
+        if (instance instanceof XMLBinder) {
+            return ((XMLBinder) instance).getEventHandler(methodName, eventType);
+        }
 
-            return event -> {
-                try {
-                    method.setAccessible(true);
-                    if (eventParameter) {
-                        method.invoke(instance, event);
-                    } else {
-                        method.invoke(instance);
-                    }
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new XMLReflectionException(e);
-                }
-            };
+        List<MethodHandle> handles = getHandles(instance.getClass(), "event " + methodName + " " + eventType.getName(),
+            type -> findEventHandle(type, methodName, eventType));
+
+        if (handles.isEmpty()) {
+            return null;
         }
 
-        return null;
+        return toConsumer(handles.get(0).bindTo(instance));
+    }
+
+    /**
+     * Loads the click consumer of an item from the given instance and element. The method referenced by the onClick
+     * attribute may take no parameters, only the event, or the event followed by the properties of the item. The
+     * properties are bound to the consumer once, so they are not looked at again when the consumer is called.
+     *
+     * @param instance the object instance
+     * @param element the element
+     * @param properties the properties of the item
+     * @return the consumer to be called on click, or null if no matching method was found
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Consumer<InventoryClickEvent> loadOnClickAttribute(@NotNull Object instance,
+                                                                     @NotNull Element element,
+                                                                     @NotNull List<?> properties) {
+        String methodName = element.getAttribute("onClick");
+
+        if (instance instanceof XMLBinder) {
+            return ((XMLBinder) instance).getClickHandler(methodName, properties);
+        }
+
+        List<Class<?>> propertyTypes = new ArrayList<>(properties.size());
+        StringBuilder key = new StringBuilder("click ").append(methodName);
+
+        for (Object property : properties) {
+            Class<?> propertyType = property.getClass();
+
+            propertyTypes.add(propertyType);
+            key.append(' ').append(propertyType.getName());
+        }
+
+        List<MethodHandle> handles = getHandles(instance.getClass(), key.toString(),
+            type -> findClickHandle(type, methodName, propertyTypes));
+
+        if (handles.isEmpty()) {
+            return null;
+        }
+
+        MethodHandle handle = handles.get(0).bindTo(instance);
+
+        if (handle.type().parameterCount() > 1) {
+            handle = MethodHandles.insertArguments(handle, 1, properties.toArray());
+        }
+
+        return toConsumer(handle);
     }
 
     /**
@@ -76,13 +138,64 @@ public class XMLUtil {
      */
     public static void invokeMethod(@NotNull Object instance, @NotNull String methodName, @NotNull Object argument,
                                     @NotNull Class<?> parameter) {
+        if (instance instanceof XMLBinder) {
+            ((XMLBinder) instance).invoke(methodName, argument);
+            return;
+        }
+
+        List<MethodHandle> handles = getHandles(instance.getClass(), "method " + methodName + " " +
+            parameter.getName(), type -> {
+            try {
+                return Collections.singletonList(unreflect(type.getMethod(methodName, parameter), Object.class));
+            } catch (NoSuchMethodException exception) {
+                throw new XMLLoadException(exception);
+            }
+        });
+
         try {
-            Method method = instance.getClass().getMethod(methodName, parameter);
+            handles.get(0).invokeExact(instance, argument);
+        } catch (Throwable throwable) {
+            throw new XMLLoadException(throwable);
+        }
+    }
 
-            method.setAccessible(true);
-            method.invoke(instance, argument);
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException exception) {
-            throw new XMLLoadException(exception);
+    /**
+     * Invokes all methods by the given name on the given instance which have a single parameter accepting the provided
+     * argument. If no such method exists, this does nothing.
+     *
+     * @param instance the instance on which to call the methods
+     * @param methodName the name of the methods to invoke
+     * @param argument the argument to provide for the invocations
+     * @since 0.10.19
+     * @throws XMLLoadException if a method cannot be accessed or throws an exception
+     */
+    public static void invokeMethods(@NotNull Object instance, @NotNull String methodName, @NotNull Object argument) {
+        if (instance instanceof XMLBinder) {
+            ((XMLBinder) instance).invoke(methodName, argument);
+            return;
+        }
+
+        Class<?> argumentType = argument.getClass();
+        List<MethodHandle> handles = getHandles(instance.getClass(), "methods " + methodName + " " +
+            argumentType.getName(), type -> {
+            List<MethodHandle> found = new ArrayList<>();
+
+            for (Method method : type.getMethods()) {
+                if (method.getName().equals(methodName) && method.getParameterCount() == 1 &&
+                    method.getParameterTypes()[0].isAssignableFrom(argumentType)) {
+                    found.add(unreflect(method, Object.class));
+                }
+            }
+
+            return found;
+        });
+
+        for (MethodHandle handle : handles) {
+            try {
+                handle.invokeExact(instance, argument);
+            } catch (Throwable throwable) {
+                throw new XMLLoadException(throwable);
+            }
         }
     }
 
@@ -94,13 +207,192 @@ public class XMLUtil {
      * @param value the field's new value
      */
     public static void loadFieldAttribute(@NotNull Object instance, @NotNull Element element, @Nullable Object value) {
+        String fieldName = element.getAttribute("field");
+
+        if (instance instanceof XMLBinder) {
+            ((XMLBinder) instance).setField(fieldName, value);
+            return;
+        }
+
+        List<MethodHandle> handles = getHandles(instance.getClass(), "field " + fieldName, type -> {
+            try {
+                Field field = type.getField(fieldName);
+
+                field.setAccessible(true);
+
+                MethodHandle setter = LOOKUP.unreflectSetter(field);
+
+                if (Modifier.isStatic(field.getModifiers())) {
+                    setter = MethodHandles.dropArguments(setter, 0, Object.class);
+                }
+
+                return Collections.singletonList(
+                    setter.asType(MethodType.methodType(void.class, Object.class, Object.class))
+                );
+            } catch (NoSuchFieldException | IllegalAccessException exception) {
+                throw new XMLLoadException(exception);
+            }
+        });
+
+        try {
+            handles.get(0).invokeExact(instance, value);
+        } catch (Throwable throwable) {
+            throw new XMLLoadException(throwable);
+        }
+    }
+
+    /**
+     * Gets the cached handles for the specified class and key, resolving them if they are not cached yet. Resolution
+     * failures are not cached.
+     *
+     * @param type the class to get the handles for
+     * @param key the description of what is looked up
+     * @param resolver the function to resolve the handles with
+     * @return the handles, which may be empty
+     * @since 0.10.19
+     */
+    @NotNull
+    private static List<MethodHandle> getHandles(@NotNull Class<?> type, @NotNull String key,
+                                                 @NotNull Function<Class<?>, List<MethodHandle>> resolver) {
+        return HANDLES.get(type).computeIfAbsent(key, k -> resolver.apply(type));
+    }
+
+    /**
+     * Finds the first public method with the given name which has either no parameters or a single parameter of the
+     * specified event type. The returned handle takes the instance and an {@link Event}.
+     *
+     * @param type the class to search
+     * @param methodName the name of the method
+     * @param eventType the type of the event
+     * @return a list containing the handle, or an empty list if no such method exists
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static List<MethodHandle> findEventHandle(@NotNull Class<?> type, @NotNull String methodName,
+                                                      @NotNull Class<? extends Event> eventType) {
+        for (Method method : type.getMethods()) {
+            if (!method.getName().equals(methodName)) {
+                continue;
+            }
+
+            int parameterCount = method.getParameterCount();
+
+            if (parameterCount == 0) {
+                return Collections.singletonList(MethodHandles.dropArguments(unreflect(method), 1, Event.class));
+            }
+
+            if (parameterCount == 1 && eventType.isAssignableFrom(method.getParameterTypes()[0])) {
+                return Collections.singletonList(unreflect(method, Event.class));
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Finds the click handler of an item. Only the first public method with the given name is considered. The returned
+     * handle takes the instance and an {@link Event}, followed by the properties if the method takes those.
+     *
+     * @param type the class to search
+     * @param methodName the name of the method
+     * @param propertyTypes the types of the properties of the item
+     * @return a list containing the handle, or an empty list if the method doesn't exist or doesn't match
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static List<MethodHandle> findClickHandle(@NotNull Class<?> type, @NotNull String methodName,
+                                                      @NotNull List<Class<?>> propertyTypes) {
+        for (Method method : type.getMethods()) {
+            if (!method.getName().equals(methodName)) {
+                continue;
+            }
+
+            int parameterCount = method.getParameterCount();
+            Class<?>[] parameterTypes = method.getParameterTypes();
+
+            if (parameterCount == 0) {
+                return Collections.singletonList(MethodHandles.dropArguments(unreflect(method), 1, Event.class));
+            }
+
+            if (!parameterTypes[0].isAssignableFrom(InventoryClickEvent.class)) {
+                return Collections.emptyList();
+            }
+
+            if (parameterCount == 1) {
+                return Collections.singletonList(unreflect(method, Event.class));
+            }
+
+            if (parameterCount != propertyTypes.size() + 1) {
+                return Collections.emptyList();
+            }
+
+            for (int index = 0; index < propertyTypes.size(); index++) {
+                Class<?> parameterType = parameterTypes[1 + index];
+                Class<?> propertyType = propertyTypes.get(index);
+
+                if (!(parameterType.isPrimitive() && parameterType.isAssignableFrom(Primitives.unwrap(propertyType))) &&
+                    !parameterType.isAssignableFrom(propertyType)) {
+                    return Collections.emptyList();
+                }
+            }
+
+            Class<?>[] handleParameterTypes = parameterTypes.clone();
+
+            handleParameterTypes[0] = Event.class;
+
+            return Collections.singletonList(unreflect(method, handleParameterTypes));
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Turns the specified method into a handle which takes the instance, followed by the given parameter types, and
+     * returns nothing. Static methods ignore the instance.
+     *
+     * @param method the method
+     * @param parameterTypes the parameter types of the handle, after the instance
+     * @return the handle
+     * @throws XMLLoadException if the method cannot be accessed
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static MethodHandle unreflect(@NotNull Method method, @NotNull Class<?>... parameterTypes) {
         try {
-            Field field = instance.getClass().getField(element.getAttribute("field"));
+            method.setAccessible(true);
 
-            field.setAccessible(true);
-            field.set(instance, value);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new XMLLoadException(e);
+            MethodHandle handle = LOOKUP.unreflect(method);
+
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            return handle.asType(MethodType.methodType(void.class, Object.class, parameterTypes));
+        } catch (IllegalAccessException exception) {
+            throw new XMLLoadException(exception);
         }
     }
+
+    /**
+     * Creates a consumer calling the specified handle, which takes an {@link Event} and returns nothing.
+     *
+     * @param handle the handle
+     * @return the consumer
+     * @param <T> the type of the event
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static <T extends Event> Consumer<T> toConsumer(@NotNull MethodHandle handle) {
+        return event -> {
+            try {
+                handle.invokeExact((Event) event);
+            } catch (Throwable throwable) {
+                throw new XMLReflectionException(throwable);
+            }
+        };
+    }
 }
@@ -5,6 +5,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.inventory.InventoryView;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.EnumSet;
@@ -214,6 +215,25 @@ public enum Version {
             V1_21_0, V1_21_1, V1_21_2_3
     );
 
+    /**
+     * A collection of versions on which virtual inventories are available.
+     */
+    @NotNull
+    private static final Collection<@NotNull Version> VIRTUAL_INVENTORY_VERSIONS = EnumSet.of(
+            V1_17_0, V1_17_1,
+            V1_18_0, V1_18_1, V1_18_2,
+            V1_19_0, V1_19_1, V1_19_2, V1_19_3, V1_19_4,
+            V1_20_0, V1_20_1, V1_20_2, V1_20_3_4, V1_20_5, V1_20_6,
+            V1_21_0, V1_21_1, V1_21_2_3
+    );
+
+    /**
+     * The version currently being used, or null if it hasn't been determined yet. The server version cannot change
+     * while running, so it only has to be determined once.
+     */
+    @Nullable
+    private static volatile Version current;
+
     /**
      * Checks whether the {@link InventoryView} class is an interface on this version.
      *
@@ -225,6 +245,17 @@ public enum Version {
         return INTERFACE_INVENTORY_VIEW.contains(this);
     }
 
+    /**
+     * Checks whether virtual inventories, which only exist on the client, are supported on this version.
+     *
+     * @return true if virtual inventories are supported, false otherwise
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public boolean supportsVirtualInventories() {
+        return VIRTUAL_INVENTORY_VERSIONS.contains(this);
+    }
+
     /**
      * Checks whether modern smithing tables exist on this version. Returns true if they do, otherwise false.
      *
@@ -256,8 +287,27 @@ public enum Version {
     @NotNull
     @Contract(pure = true)
     public static Version getVersion() {
-        String version = Bukkit.getBukkitVersion().split("-")[0];
+        Version current = Version.current;
+
+        if (current == null) {
+            current = parseVersion(Bukkit.getBukkitVersion().split("-")[0]);
+            Version.current = current;
+        }
+
+        return current;
+    }
 
+    /**
+     * Gets the version corresponding to the specified Minecraft version. If the version is not supported, an
+     * {@link UnsupportedVersionException} will be thrown.
+     *
+     * @param version the Minecraft version, such as 1.20.4
+     * @return the version
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static Version parseVersion(@NotNull String version) {
         switch (version) {
             case "1.14":
             case "1.14.1":
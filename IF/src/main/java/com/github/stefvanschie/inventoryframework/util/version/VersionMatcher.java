@@ -2,13 +2,22 @@ package com.github.stefvanschie.inventoryframework.util.version;
 
 import com.github.stefvanschie.inventoryframework.abstraction.*;
 import com.github.stefvanschie.inventoryframework.exception.UnsupportedVersionException;
-import com.github.stefvanschie.inventoryframework.nms.v1_19_4.LegacySmithingTableInventoryImpl;
 import org.bukkit.inventory.InventoryHolder;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Utility class containing versioning related methods.
@@ -17,50 +26,147 @@ import java.util.EnumMap;
  */
 public class VersionMatcher {
 
+    /**
+     * The names of the packages containing the implementations for the different versions
+     */
+    @NotNull
+    private static final EnumMap<Version, String> PACKAGES;
+
     /**
      * The different anvil inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends AnvilInventory>> ANVIL_INVENTORIES;
+    @NotNull
+    private static final Implementations<AnvilInventory> ANVIL_INVENTORIES =
+        new Implementations<>(AnvilInventory.class, "AnvilInventoryImpl");
 
     /**
      * The different beacon inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends BeaconInventory>> BEACON_INVENTORIES;
+    @NotNull
+    private static final Implementations<BeaconInventory> BEACON_INVENTORIES =
+        new Implementations<>(BeaconInventory.class, "BeaconInventoryImpl");
 
     /**
      * The different cartography table inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends CartographyTableInventory>> CARTOGRAPHY_TABLE_INVENTORIES;
+    @NotNull
+    private static final Implementations<CartographyTableInventory> CARTOGRAPHY_TABLE_INVENTORIES =
+        new Implementations<>(CartographyTableInventory.class, "CartographyTableInventoryImpl");
 
     /**
      * The different enchanting table inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends EnchantingTableInventory>> ENCHANTING_TABLE_INVENTORIES;
+    @NotNull
+    private static final Implementations<EnchantingTableInventory> ENCHANTING_TABLE_INVENTORIES =
+        new Implementations<>(EnchantingTableInventory.class, "EnchantingTableInventoryImpl");
 
     /**
      * The different grindstone inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends GrindstoneInventory>> GRINDSTONE_INVENTORIES;
+    @NotNull
+    private static final Implementations<GrindstoneInventory> GRINDSTONE_INVENTORIES =
+        new Implementations<>(GrindstoneInventory.class, "GrindstoneInventoryImpl");
+
+    /**
+     * The different inventory resyncs for different versions
+     */
+    @NotNull
+    private static final Implementations<InventoryResync> INVENTORY_RESYNCS =
+        new Implementations<>(InventoryResync.class, "InventoryResyncImpl");
 
     /**
      * The different merchant inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends MerchantInventory>> MERCHANT_INVENTORIES;
+    @NotNull
+    private static final Implementations<MerchantInventory> MERCHANT_INVENTORIES =
+        new Implementations<>(MerchantInventory.class, "MerchantInventoryImpl");
 
     /**
      * The different smithing table inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends SmithingTableInventory>> SMITHING_TABLE_INVENTORIES;
+    @NotNull
+    private static final Implementations<SmithingTableInventory> SMITHING_TABLE_INVENTORIES =
+        new Implementations<>(SmithingTableInventory.class, "SmithingTableInventoryImpl");
 
     /**
      * The different legacy smithing table inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends SmithingTableInventory>> LEGACY_SMITHING_TABLE_INVENTORIES;
+    @NotNull
+    private static final Implementations<SmithingTableInventory> LEGACY_SMITHING_TABLE_INVENTORIES =
+        new Implementations<>(SmithingTableInventory.class, version ->
+            version == Version.V1_19_4 ? "LegacySmithingTableInventoryImpl" : "SmithingTableInventoryImpl");
 
     /**
      * The different stonecutter inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends StonecutterInventory>> STONECUTTER_INVENTORIES;
+    @NotNull
+    private static final Implementations<StonecutterInventory> STONECUTTER_INVENTORIES =
+        new Implementations<>(StonecutterInventory.class, "StonecutterInventoryImpl");
+
+    /**
+     * The different virtual chest inventories for different versions
+     */
+    @NotNull
+    private static final Implementations<VirtualChestInventory> VIRTUAL_CHEST_INVENTORIES =
+        new Implementations<>(VirtualChestInventory.class, "VirtualChestInventoryImpl");
+
+    /**
+     * All implementations, in no particular order
+     */
+    @NotNull
+    private static final List<Implementations<?>> IMPLEMENTATIONS = Arrays.asList(ANVIL_INVENTORIES,
+        BEACON_INVENTORIES, CARTOGRAPHY_TABLE_INVENTORIES, ENCHANTING_TABLE_INVENTORIES, GRINDSTONE_INVENTORIES,
+        INVENTORY_RESYNCS, MERCHANT_INVENTORIES, SMITHING_TABLE_INVENTORIES, LEGACY_SMITHING_TABLE_INVENTORIES,
+        STONECUTTER_INVENTORIES, VIRTUAL_CHEST_INVENTORIES);
+
+    /**
+     * The lookup used for finding the constructors of the implementations
+     */
+    @NotNull
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Factories creating instances from an inventory holder, by the implementation they create. The constructor of an
+     * implementation is looked up once, on first use, so creating instances afterwards doesn't involve reflection.
+     */
+    @NotNull
+    private static final ClassValue<Function<InventoryHolder, Object>> HOLDER_FACTORIES =
+        new ClassValue<Function<InventoryHolder, Object>>() {
+            @NotNull
+            @Override
+            protected Function<InventoryHolder, Object> computeValue(@NotNull Class<?> type) {
+                MethodHandle constructor = findConstructor(type, InventoryHolder.class);
+
+                return inventoryHolder -> {
+                    try {
+                        return constructor.invokeExact(inventoryHolder);
+                    } catch (Throwable throwable) {
+                        throw new IllegalStateException(throwable);
+                    }
+                };
+            }
+        };
+
+    /**
+     * Factories creating instances without any arguments, by the implementation they create. See
+     * {@link #HOLDER_FACTORIES}.
+     */
+    @NotNull
+    private static final ClassValue<Supplier<Object>> FACTORIES = new ClassValue<Supplier<Object>>() {
+        @NotNull
+        @Override
+        protected Supplier<Object> computeValue(@NotNull Class<?> type) {
+            MethodHandle constructor = findConstructor(type);
+
+            return () -> {
+                try {
+                    return constructor.invokeExact();
+                } catch (Throwable throwable) {
+                    throw new IllegalStateException(throwable);
+                }
+            };
+        }
+    };
 
     /**
      * Gets a new anvil inventory for the specified version of the specified inventory holder.
@@ -73,12 +179,7 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static AnvilInventory newAnvilInventory(@NotNull Version version, @NotNull InventoryHolder inventoryHolder) {
-        try {
-            return ANVIL_INVENTORIES.get(version).getConstructor(InventoryHolder.class).newInstance(inventoryHolder);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return newInventory(ANVIL_INVENTORIES, version, inventoryHolder);
     }
 
     /**
@@ -93,12 +194,7 @@ public class VersionMatcher {
     @Contract(pure = true)
     public static BeaconInventory newBeaconInventory(@NotNull Version version,
                                                      @NotNull InventoryHolder inventoryHolder) {
-        try {
-            return BEACON_INVENTORIES.get(version).getConstructor(InventoryHolder.class).newInstance(inventoryHolder);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return newInventory(BEACON_INVENTORIES, version, inventoryHolder);
     }
 
     /**
@@ -113,14 +209,7 @@ public class VersionMatcher {
     @Contract(pure = true)
     public static CartographyTableInventory newCartographyTableInventory(@NotNull Version version,
                                                                          @NotNull InventoryHolder inventoryHolder) {
-        try {
-            Class<? extends CartographyTableInventory> clazz = CARTOGRAPHY_TABLE_INVENTORIES.get(version);
-
-            return clazz.getConstructor(InventoryHolder.class).newInstance(inventoryHolder);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return newInventory(CARTOGRAPHY_TABLE_INVENTORIES, version, inventoryHolder);
     }
 
     /**
@@ -135,14 +224,7 @@ public class VersionMatcher {
     @Contract(pure = true)
     public static EnchantingTableInventory newEnchantingTableInventory(@NotNull Version version,
                                                                          @NotNull InventoryHolder inventoryHolder) {
-        try {
-            Class<? extends EnchantingTableInventory> clazz = ENCHANTING_TABLE_INVENTORIES.get(version);
-
-            return clazz.getConstructor(InventoryHolder.class).newInstance(inventoryHolder);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return newInventory(ENCHANTING_TABLE_INVENTORIES, version, inventoryHolder);
     }
 
     /**
@@ -157,14 +239,7 @@ public class VersionMatcher {
     @Contract(pure = true)
     public static GrindstoneInventory newGrindstoneInventory(@NotNull Version version,
                                                              @NotNull InventoryHolder inventoryHolder) {
-        try {
-            Class<? extends GrindstoneInventory> clazz = GRINDSTONE_INVENTORIES.get(version);
-
-            return clazz.getConstructor(InventoryHolder.class).newInstance(inventoryHolder);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return newInventory(GRINDSTONE_INVENTORIES, version, inventoryHolder);
     }
 
     /**
@@ -177,12 +252,20 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static MerchantInventory newMerchantInventory(@NotNull Version version) {
-        try {
-            return MERCHANT_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return newInventory(MERCHANT_INVENTORIES, version);
+    }
+
+    /**
+     * Gets a new inventory resync for the specified version.
+     *
+     * @param version the version to get the inventory resync of
+     * @return the inventory resync
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static InventoryResync newInventoryResync(@NotNull Version version) {
+        return newInventory(INVENTORY_RESYNCS, version);
     }
 
     /**
@@ -208,14 +291,7 @@ public class VersionMatcher {
             throw new UnsupportedVersionException("Modern smithing tables didn't exist in version " + version);
         }
 
-        try {
-            Class<? extends SmithingTableInventory> clazz = SMITHING_TABLE_INVENTORIES.get(version);
-
-            return clazz.getConstructor(InventoryHolder.class).newInstance(inventoryHolder);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return newInventory(SMITHING_TABLE_INVENTORIES, version, inventoryHolder);
     }
 
     /**
@@ -241,14 +317,7 @@ public class VersionMatcher {
             throw new UnsupportedVersionException("Legacy smithing tables don't exist in version " + version);
         }
 
-        try {
-            Class<? extends SmithingTableInventory> clazz = LEGACY_SMITHING_TABLE_INVENTORIES.get(version);
-
-            return clazz.getConstructor(InventoryHolder.class).newInstance(inventoryHolder);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                 NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return newInventory(LEGACY_SMITHING_TABLE_INVENTORIES, version, inventoryHolder);
     }
 
     /**
@@ -263,415 +332,251 @@ public class VersionMatcher {
     @Contract(pure = true)
     public static StonecutterInventory newStonecutterInventory(@NotNull Version version,
                                                                @NotNull InventoryHolder inventoryHolder) {
+        return newInventory(STONECUTTER_INVENTORIES, version, inventoryHolder);
+    }
+
+    /**
+     * Gets a new virtual chest inventory for the specified version. If a virtual chest is requested for a version that
+     * does not support virtual inventories, an {@link UnsupportedVersionException} is thrown.
+     *
+     * @param version the version to get the inventory of
+     * @return the virtual chest inventory
+     * @since 0.10.19
+     * @throws UnsupportedVersionException when a virtual chest is requested on a version without virtual inventories
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static VirtualChestInventory newVirtualChestInventory(@NotNull Version version) {
+        if (!version.supportsVirtualInventories()) {
+            throw new UnsupportedVersionException("Virtual inventories are not supported in version " + version);
+        }
+
+        return newInventory(VIRTUAL_CHEST_INVENTORIES, version);
+    }
+
+    /**
+     * Loads all implementations which exist for the specified version, without initializing them. This is what happens
+     * over time when guis are created; it is mainly useful for verifying that every implementation can be found.
+     *
+     * @param version the version to load the implementations of
+     * @return the loaded implementations
+     * @since 0.10.19
+     */
+    @NotNull
+    static Set<Class<?>> loadImplementations(@NotNull Version version) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+
+        for (Implementations<?> implementations : IMPLEMENTATIONS) {
+            try {
+                classes.add(implementations.get(version));
+            } catch (UnsupportedVersionException ignored) {
+                //this abstraction isn't available in this version
+            }
+        }
+
+        return classes;
+    }
+
+    /**
+     * Initializes all implementations which exist for the specified version. Implementations look up the server fields
+     * they need when they are initialized, so this makes incorrect mappings show up right away, instead of as an
+     * {@link ExceptionInInitializerError} when a gui using the implementation is first opened, followed by a
+     * {@link NoClassDefFoundError} every time afterwards. This should only be called once.
+     *
+     * @param version the version to initialize the implementations of
+     * @throws IllegalStateException if an implementation could not be initialized
+     * @since 0.10.19
+     */
+    public static void initializeImplementations(@NotNull Version version) {
+        for (Class<?> implementation : loadImplementations(version)) {
+            try {
+                Class.forName(implementation.getName(), true, implementation.getClassLoader());
+            } catch (ClassNotFoundException exception) {
+                //the class was loaded already, so it can always be found
+                throw new IllegalStateException(exception);
+            } catch (ExceptionInInitializerError error) {
+                Throwable cause = error.getCause();
+
+                if (cause instanceof IllegalStateException) {
+                    throw (IllegalStateException) cause;
+                }
+
+                throw new IllegalStateException("Unable to initialize " + implementation.getName(), cause);
+            }
+        }
+    }
+
+    /**
+     * Creates a new instance of the implementation for the specified version, for the specified inventory holder.
+     *
+     * @param implementations the implementations by version
+     * @param version the version to create the instance for
+     * @param inventoryHolder the inventory holder
+     * @return the new instance
+     * @param <T> the type of instance
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static <T> T newInventory(@NotNull Implementations<T> implementations, @NotNull Version version,
+                                      @NotNull InventoryHolder inventoryHolder) {
+        Class<? extends T> implementation = implementations.get(version);
+
+        return implementation.cast(HOLDER_FACTORIES.get(implementation).apply(inventoryHolder));
+    }
+
+    /**
+     * Creates a new instance of the implementation for the specified version.
+     *
+     * @param implementations the implementations by version
+     * @param version the version to create the instance for
+     * @return the new instance
+     * @param <T> the type of instance
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static <T> T newInventory(@NotNull Implementations<T> implementations, @NotNull Version version) {
+        Class<? extends T> implementation = implementations.get(version);
+
+        return implementation.cast(FACTORIES.get(implementation).get());
+    }
+
+    /**
+     * Finds the public constructor with the specified parameter types of the specified class. The returned handle
+     * takes the specified parameter types and returns an {@link Object}.
+     *
+     * @param type the class
+     * @param parameterTypes the parameter types of the constructor
+     * @return the handle of the constructor
+     * @throws IllegalStateException if the class doesn't have such a constructor
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static MethodHandle findConstructor(@NotNull Class<?> type, @NotNull Class<?>... parameterTypes) {
         try {
-            Class<? extends StonecutterInventory> clazz = STONECUTTER_INVENTORIES.get(version);
+            MethodHandle constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class, parameterTypes));
 
-            return clazz.getConstructor(InventoryHolder.class).newInstance(inventoryHolder);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
+            return constructor.asType(MethodType.methodType(Object.class, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
             throw new IllegalStateException(exception);
         }
     }
 
     static {
-        ANVIL_INVENTORIES = new EnumMap<>(Version.class);
-        ANVIL_INVENTORIES.put(Version.V1_14,
-            com.github.stefvanschie.inventoryframework.nms.v1_14.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_15,
-            com.github.stefvanschie.inventoryframework.nms.v1_15.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.AnvilInventoryImpl.class);
-
-        BEACON_INVENTORIES = new EnumMap<>(Version.class);
-        BEACON_INVENTORIES.put(Version.V1_14,
-            com.github.stefvanschie.inventoryframework.nms.v1_14.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_15,
-            com.github.stefvanschie.inventoryframework.nms.v1_15.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.BeaconInventoryImpl.class);
-
-        CARTOGRAPHY_TABLE_INVENTORIES = new EnumMap<>(Version.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_14,
-            com.github.stefvanschie.inventoryframework.nms.v1_14.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_15,
-            com.github.stefvanschie.inventoryframework.nms.v1_15.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.CartographyTableInventoryImpl.class);
-
-        ENCHANTING_TABLE_INVENTORIES = new EnumMap<>(Version.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_14,
-            com.github.stefvanschie.inventoryframework.nms.v1_14.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_15,
-            com.github.stefvanschie.inventoryframework.nms.v1_15.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.EnchantingTableInventoryImpl.class);
-
-        GRINDSTONE_INVENTORIES = new EnumMap<>(Version.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_14,
-            com.github.stefvanschie.inventoryframework.nms.v1_14.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_15,
-            com.github.stefvanschie.inventoryframework.nms.v1_15.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.GrindstoneInventoryImpl.class);
-
-        MERCHANT_INVENTORIES = new EnumMap<>(Version.class);
-        MERCHANT_INVENTORIES.put(Version.V1_14,
-            com.github.stefvanschie.inventoryframework.nms.v1_14.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_15,
-            com.github.stefvanschie.inventoryframework.nms.v1_15.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.MerchantInventoryImpl.class);
-
-        SMITHING_TABLE_INVENTORIES = new EnumMap<>(Version.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.SmithingTableInventoryImpl.class);
-
-        LEGACY_SMITHING_TABLE_INVENTORIES = new EnumMap<>(Version.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_4,
-            LegacySmithingTableInventoryImpl.class);
-
-        STONECUTTER_INVENTORIES = new EnumMap<>(Version.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_14,
-            com.github.stefvanschie.inventoryframework.nms.v1_14.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_15,
-            com.github.stefvanschie.inventoryframework.nms.v1_15.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.StonecutterInventoryImpl.class);
+        PACKAGES = new EnumMap<>(Version.class);
+        PACKAGES.put(Version.V1_14, "v1_14");
+        PACKAGES.put(Version.V1_15, "v1_15");
+        PACKAGES.put(Version.V1_16_1, "v1_16_1");
+        PACKAGES.put(Version.V1_16_2_3, "v1_16_2_3");
+        PACKAGES.put(Version.V1_16_4_5, "v1_16_4_5");
+        PACKAGES.put(Version.V1_17_0, "v1_17_0");
+        PACKAGES.put(Version.V1_17_1, "v1_17_1");
+        PACKAGES.put(Version.V1_18_0, "v1_18_0");
+        PACKAGES.put(Version.V1_18_1, "v1_18_1");
+        PACKAGES.put(Version.V1_18_2, "v1_18_2");
+        PACKAGES.put(Version.V1_19_0, "v1_19_0");
+        PACKAGES.put(Version.V1_19_1, "v1_19_1");
+        PACKAGES.put(Version.V1_19_2, "v1_19_2");
+        PACKAGES.put(Version.V1_19_3, "v1_19_3");
+        PACKAGES.put(Version.V1_19_4, "v1_19_4");
+        PACKAGES.put(Version.V1_20_0, "v1_20_0");
+        PACKAGES.put(Version.V1_20_1, "v1_20_1");
+        PACKAGES.put(Version.V1_20_2, "v1_20_2");
+        PACKAGES.put(Version.V1_20_3_4, "v1_20_3");
+        PACKAGES.put(Version.V1_20_5, "v1_20_5");
+        PACKAGES.put(Version.V1_20_6, "v1_20_6");
+        PACKAGES.put(Version.V1_21_0, "v1_21_0");
+        PACKAGES.put(Version.V1_21_1, "v1_21_1");
+        PACKAGES.put(Version.V1_21_2_3, "v1_21_2_3");
+    }
+
+    /**
+     * The implementations of an abstraction for the different versions. Implementations are found by their name and
+     * only loaded once they are needed, so the classes of versions other than the one the server runs on are never
+     * loaded.
+     *
+     * @param <T> the type of abstraction
+     * @since 0.10.19
+     */
+    private static final class Implementations<T> {
+
+        /**
+         * The abstraction the implementations implement
+         */
+        @NotNull
+        private final Class<T> type;
+
+        /**
+         * Gives the simple name of the implementation for a version
+         */
+        @NotNull
+        private final Function<Version, String> simpleName;
+
+        /**
+         * The implementations loaded so far by version
+         */
+        @NotNull
+        private final Map<Version, Class<? extends T>> classes = new ConcurrentHashMap<>();
+
+        /**
+         * Creates new implementations which have the same simple name in every version
+         *
+         * @param type the abstraction the implementations implement
+         * @param simpleName the simple name of the implementations
+         * @since 0.10.19
+         */
+        private Implementations(@NotNull Class<T> type, @NotNull String simpleName) {
+            this(type, version -> simpleName);
+        }
+
+        /**
+         * Creates new implementations
+         *
+         * @param type the abstraction the implementations implement
+         * @param simpleName gives the simple name of the implementation for a version
+         * @since 0.10.19
+         */
+        private Implementations(@NotNull Class<T> type, @NotNull Function<Version, String> simpleName) {
+            this.type = type;
+            this.simpleName = simpleName;
+        }
+
+        /**
+         * Gets the implementation for the specified version, loading it if this hasn't happened yet. The class is
+         * loaded, but not initialized.
+         *
+         * @param version the version
+         * @return the implementation
+         * @throws UnsupportedVersionException if there is no implementation for the version
+         * @since 0.10.19
+         */
+        @NotNull
+        private Class<? extends T> get(@NotNull Version version) {
+            return classes.computeIfAbsent(version, this::load);
+        }
+
+        /**
+         * Loads the implementation for the specified version
+         *
+         * @param version the version
+         * @return the implementation
+         * @throws UnsupportedVersionException if there is no implementation for the version
+         * @since 0.10.19
+         */
+        @NotNull
+        private Class<? extends T> load(@NotNull Version version) {
+            String name = "com.github.stefvanschie.inventoryframework.nms." + PACKAGES.get(version) + "." +
+                simpleName.apply(version);
+
+            try {
+                return Class.forName(name, false, VersionMatcher.class.getClassLoader()).asSubclass(type);
+            } catch (ClassNotFoundException | ClassCastException exception) {
+                //jar minimization removes these classes when IF is shaded, since they're only loaded by name
+                throw new UnsupportedVersionException("No " + type.getSimpleName() + " is available in version " +
+                    version + " (if IF is shaded with minimizeJar or minimize(), exclude it from the minimization)");
+            }
+        }
     }
 }
@@ -0,0 +1,138 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClientStateMirrorTest {
+
+    @Test
+    void testUpdate() {
+        ClientStateMirror mirror = new ClientStateMirror(3);
+
+        assertEquals(3, mirror.getSize());
+        assertTrue(mirror.update(0, null));
+        assertFalse(mirror.update(0, null));
+        assertTrue(mirror.update(1, null));
+    }
+
+    @Test
+    void testReset() {
+        ClientStateMirror mirror = new ClientStateMirror(2);
+
+        mirror.set(new ItemStack[2]);
+
+        assertFalse(mirror.update(1, null));
+
+        mirror.reset();
+
+        assertTrue(mirror.update(1, null));
+    }
+
+    @Test
+    void testCountChanges() {
+        ClientStateMirror mirror = new ClientStateMirror(4);
+
+        assertEquals(4, mirror.countChanges(new ItemStack[4]));
+
+        mirror.set(new ItemStack[2]);
+
+        assertEquals(2, mirror.countChanges(new ItemStack[4]));
+        assertEquals(0, mirror.countChanges(new ItemStack[2]));
+    }
+
+    @Test
+    void testFingerprint() {
+        assertEquals(ClientStateMirror.fingerprint(null), ClientStateMirror.fingerprint(null));
+        assertNotEquals(Long.MIN_VALUE, ClientStateMirror.fingerprint(null));
+    }
+
+    @Test
+    void testFingerprintWithoutMeta() {
+        long fingerprint = ClientStateMirror.fingerprint(new ItemStack(Material.STONE));
+
+        assertEquals(fingerprint, ClientStateMirror.fingerprint(new ItemStack(Material.STONE)));
+        assertNotEquals(fingerprint, ClientStateMirror.fingerprint(new ItemStack(Material.STONE, 2)));
+        assertNotEquals(fingerprint, ClientStateMirror.fingerprint(new MetaItem("first")));
+    }
+
+    @Test
+    void testCollision() {
+        ItemStack first = new MetaItem("first");
+        ItemStack second = new MetaItem("second");
+
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(ClientStateMirror.fingerprint(first), ClientStateMirror.fingerprint(second));
+
+        ClientStateMirror mirror = new ClientStateMirror(1);
+
+        assertTrue(mirror.update(0, first));
+        assertFalse(mirror.update(0, new MetaItem("first")));
+        assertEquals(1, mirror.countChanges(new ItemStack[] {second}));
+        assertTrue(mirror.update(0, second));
+        assertFalse(mirror.update(0, second));
+
+        mirror.set(new ItemStack[] {first});
+
+        assertEquals(0, mirror.countChanges(new ItemStack[] {first}));
+        assertTrue(mirror.update(0, second));
+    }
+
+    @Test
+    void testChangedAfterSending() {
+        MetaItem item = new MetaItem("first");
+        ClientStateMirror mirror = new ClientStateMirror(1);
+
+        assertTrue(mirror.update(0, item));
+
+        //the mirror keeps the fingerprint of the item as it was sent
+        item.name = "second";
+
+        assertTrue(mirror.update(0, item));
+    }
+
+    /**
+     * An item with a display name as its only meta, of which the hash code doesn't depend on its contents.
+     */
+    private static final class MetaItem extends ItemStack {
+
+        @NotNull
+        private String name;
+
+        private MetaItem(@NotNull String name) {
+            super(Material.STONE);
+
+            this.name = name;
+        }
+
+        @Override
+        public boolean hasItemMeta() {
+            return true;
+        }
+
+        @NotNull
+        @Override
+        public ItemMeta getItemMeta() {
+            Map<String, Object> serialized = Collections.singletonMap("display-name", name);
+
+            return (ItemMeta) Proxy.newProxyInstance(
+                ItemMeta.class.getClassLoader(),
+                new Class<?>[] {ItemMeta.class},
+                (proxy, method, arguments) -> method.getName().equals("serialize") ? serialized : null
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VirtualChestInventoryTest {
+
+    @Test
+    void testOpen() {
+        RecordingSink sink = new RecordingSink();
+        VirtualChestInventory inventory = new TestVirtualChestInventory(sink);
+        UUID viewer = UUID.randomUUID();
+
+        inventory.openInventory(viewer, StringHolder.of("Title"), new ItemStack[27]);
+
+        assertEquals(2, sink.packets.size());
+        assertEquals("open 1 3 Title", sink.packets.get(0));
+        assertEquals("content 1 1 27", sink.packets.get(1));
+        assertEquals(1, inventory.getContainerId(viewer));
+        assertEquals(-1, inventory.getContainerId(UUID.randomUUID()));
+    }
+
+    @Test
+    void testOpenInvalidSize() {
+        VirtualChestInventory inventory = new TestVirtualChestInventory(new RecordingSink());
+        UUID viewer = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> inventory.openInventory(viewer, StringHolder.of(""), new ItemStack[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> inventory.openInventory(viewer, StringHolder.of(""), new ItemStack[10]));
+        assertThrows(IllegalArgumentException.class,
+            () -> inventory.openInventory(viewer, StringHolder.of(""), new ItemStack[63]));
+    }
+
+    @Test
+    void testSendItems() {
+        RecordingSink sink = new RecordingSink();
+        VirtualChestInventory inventory = new TestVirtualChestInventory(sink);
+        UUID viewer = UUID.randomUUID();
+
+        inventory.sendItems(viewer, new ItemStack[9]);
+
+        assertTrue(sink.packets.isEmpty());
+
+        inventory.openInventory(viewer, StringHolder.of(""), new ItemStack[9]);
+        inventory.sendItems(viewer, new ItemStack[9]);
+        inventory.sendItem(viewer, 4, null);
+
+        //the viewer already has these items
+        assertEquals(2, sink.packets.size());
+        assertEquals(9, inventory.getSentSlotCount());
+        assertEquals(10, inventory.getSuppressedSlotCount());
+
+        inventory.handleClick(viewer, 1, 4, 0, 0);
+        inventory.sendItem(viewer, 4, null);
+
+        assertEquals("content 1 2 9", sink.packets.get(2));
+        assertEquals(3, sink.packets.size());
+        assertEquals(18, inventory.getSentSlotCount());
+        assertEquals(11, inventory.getSuppressedSlotCount());
+        assertThrows(IllegalArgumentException.class, () -> inventory.sendItems(viewer, new ItemStack[18]));
+        assertThrows(IllegalArgumentException.class, () -> inventory.sendItem(viewer, 9, null));
+    }
+
+    @Test
+    void testClick() {
+        RecordingSink sink = new RecordingSink();
+        VirtualChestInventory inventory = new TestVirtualChestInventory(sink);
+        UUID viewer = UUID.randomUUID();
+        List<ClickType> clicks = new ArrayList<>();
+
+        inventory.setOnClick((clicker, slot, clickType, button) -> {
+            assertEquals(viewer, clicker);
+            assertEquals(3, slot);
+
+            clicks.add(clickType);
+        });
+
+        inventory.openInventory(viewer, StringHolder.of(""), new ItemStack[9]);
+        inventory.handleClick(viewer, 2, 3, 0, 0);
+
+        assertTrue(clicks.isEmpty());
+        assertEquals(2, sink.packets.size());
+
+        inventory.handleClick(viewer, 1, 3, 0, 0);
+        inventory.handleClick(viewer, 1, 3, 0, 5);
+
+        assertEquals(1, clicks.size());
+        assertEquals(ClickType.LEFT, clicks.get(0));
+        assertEquals("content 1 2 9", sink.packets.get(2));
+        assertEquals("content 1 3 9", sink.packets.get(3));
+    }
+
+    @Test
+    void testClose() {
+        RecordingSink sink = new RecordingSink();
+        VirtualChestInventory inventory = new TestVirtualChestInventory(sink);
+        UUID viewer = UUID.randomUUID();
+        List<UUID> closed = new ArrayList<>();
+
+        inventory.setOnClose(closed::add);
+
+        inventory.openInventory(viewer, StringHolder.of(""), new ItemStack[9]);
+        inventory.handleClose(viewer, 2);
+
+        assertTrue(closed.isEmpty());
+
+        inventory.handleClose(viewer, 1);
+        inventory.handleClose(viewer, 1);
+
+        assertEquals(1, closed.size());
+        assertEquals(-1, inventory.getContainerId(viewer));
+
+        inventory.openInventory(viewer, StringHolder.of(""), new ItemStack[9]);
+        inventory.closeInventory(viewer);
+
+        assertEquals(1, closed.size());
+        assertEquals("close 2", sink.packets.get(sink.packets.size() - 1));
+    }
+
+    @Test
+    void testToClickType() {
+        assertEquals(ClickType.LEFT, VirtualChestInventory.toClickType(0, 0, 0));
+        assertEquals(ClickType.RIGHT, VirtualChestInventory.toClickType(0, 1, 0));
+        assertEquals(ClickType.WINDOW_BORDER_LEFT, VirtualChestInventory.toClickType(-999, 0, 0));
+        assertEquals(ClickType.SHIFT_RIGHT, VirtualChestInventory.toClickType(0, 1, 1));
+        assertEquals(ClickType.NUMBER_KEY, VirtualChestInventory.toClickType(0, 4, 2));
+        assertEquals(ClickType.SWAP_OFFHAND, VirtualChestInventory.toClickType(0, 40, 2));
+        assertEquals(ClickType.MIDDLE, VirtualChestInventory.toClickType(0, 2, 3));
+        assertEquals(ClickType.CONTROL_DROP, VirtualChestInventory.toClickType(0, 1, 4));
+        assertEquals(ClickType.DOUBLE_CLICK, VirtualChestInventory.toClickType(0, 0, 6));
+        assertNull(VirtualChestInventory.toClickType(0, 0, 5));
+    }
+
+    /**
+     * A virtual chest inventory which does not listen to any packets
+     */
+    private static class TestVirtualChestInventory extends VirtualChestInventory {
+
+        private TestVirtualChestInventory(@NotNull VirtualInventorySink sink) {
+            super(sink);
+        }
+
+        @Override
+        protected void listen(@NotNull Player player) {}
+    }
+
+    /**
+     * A sink which records the packets it would have sent and hands out increasing container ids
+     */
+    private static class RecordingSink implements VirtualInventorySink {
+
+        @NotNull
+        private final List<String> packets = new ArrayList<>();
+
+        private int containerId;
+
+        @Override
+        public int openScreen(@NotNull UUID viewer, int rows, @NotNull TextHolder title) {
+            containerId++;
+
+            packets.add("open " + containerId + " " + rows + " " + title.asLegacyString());
+
+            return containerId;
+        }
+
+        @Override
+        public void setContent(@NotNull UUID viewer, int containerId, int stateId,
+                               @Nullable ItemStack @NotNull [] items) {
+            packets.add("content " + containerId + " " + stateId + " " + items.length);
+        }
+
+        @Override
+        public void setSlot(@NotNull UUID viewer, int containerId, int stateId, int slot, @Nullable ItemStack item) {
+            packets.add("slot " + containerId + " " + stateId + " " + slot);
+        }
+
+        @Override
+        public void closeScreen(@NotNull UUID viewer, int containerId) {
+            packets.add("close " + containerId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.stefvanschie.inventoryframework.abstraction.util;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NMSItemCacheTest {
+
+    @Test
+    void testIdentity() {
+        AtomicInteger conversions = new AtomicInteger();
+        Function<ItemStack, Object> converter = counting(conversions);
+        ItemStack item = new ItemStack(Material.STONE);
+
+        Object converted = NMSItemCache.get(item, converter);
+
+        assertSame(converted, NMSItemCache.get(item, converter));
+        assertEquals(1, conversions.get());
+
+        //an equal item is a different key
+        assertNotSame(converted, NMSItemCache.get(new ItemStack(Material.STONE), converter));
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    void testNull() {
+        AtomicInteger conversions = new AtomicInteger();
+        Function<ItemStack, Object> converter = counting(conversions);
+
+        NMSItemCache.get(null, converter);
+        NMSItemCache.get(null, converter);
+
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    void testChange() {
+        AtomicInteger conversions = new AtomicInteger();
+        Function<ItemStack, Object> converter = counting(conversions);
+        ItemStack item = new ItemStack(Material.STONE);
+
+        Object converted = NMSItemCache.get(item, converter);
+
+        item.setAmount(2);
+
+        Object afterAmount = NMSItemCache.get(item, converter);
+
+        assertNotSame(converted, afterAmount);
+        assertSame(afterAmount, NMSItemCache.get(item, converter));
+        assertEquals(2, conversions.get());
+
+        item.setType(Material.DIRT);
+
+        assertNotSame(afterAmount, NMSItemCache.get(item, converter));
+        assertEquals(3, conversions.get());
+    }
+
+    @Test
+    void testInvalidate() {
+        AtomicInteger conversions = new AtomicInteger();
+        Function<ItemStack, Object> converter = counting(conversions);
+        ItemStack item = new ItemStack(Material.STONE);
+
+        Object converted = NMSItemCache.get(item, converter);
+
+        NMSItemCache.invalidate(item);
+
+        Object reconverted = NMSItemCache.get(item, converter);
+
+        assertNotSame(converted, reconverted);
+        assertSame(reconverted, NMSItemCache.get(item, converter));
+        assertEquals(2, conversions.get());
+
+        //invalidating an item which was never converted does nothing
+        NMSItemCache.invalidate(new ItemStack(Material.STONE));
+    }
+
+    @NotNull
+    private static Function<ItemStack, Object> counting(@NotNull AtomicInteger conversions) {
+        return item -> {
+            conversions.incrementAndGet();
+
+            return new Object();
+        };
+    }
+}
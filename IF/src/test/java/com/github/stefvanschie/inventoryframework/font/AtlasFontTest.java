@@ -0,0 +1,94 @@
+package com.github.stefvanschie.inventoryframework.font;
+
+import com.github.stefvanschie.inventoryframework.font.util.Font;
+import com.github.stefvanschie.inventoryframework.util.CSVUtil;
+import com.github.stefvanschie.inventoryframework.util.SkullUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AtlasFontTest {
+
+    @Test
+    void testLazyLoading() {
+        Font font = Font.fromName("light gray");
+
+        assertSame(Font.LIGHT_GRAY, font);
+        assertFalse(((AtlasFont) font).isLoaded());
+    }
+
+    @Test
+    void testReadWrite() throws IOException {
+        List<String[]> rows = Arrays.asList(new String[] {"a", "abc"}, new String[] {"\u2192", "def"});
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        AtlasFont.write(rows, outputStream);
+
+        Map<Character, String> textures = AtlasFont.read(ByteBuffer.wrap(outputStream.toByteArray()));
+
+        assertEquals(2, textures.size());
+        assertEquals(SkullUtil.encodeTextures("abc"), textures.get('a'));
+        assertEquals(SkullUtil.encodeTextures("def"), textures.get('\u2192'));
+    }
+
+    @Test
+    void testInvalid() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        AtlasFont.write(Arrays.<String[]>asList(new String[] {"a", "abc"}), outputStream);
+
+        byte[] bytes = outputStream.toByteArray();
+
+        assertThrows(IOException.class, () -> AtlasFont.read(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6})));
+        assertThrows(IOException.class, () -> AtlasFont.read(ByteBuffer.wrap(bytes, 0, bytes.length - 1)));
+    }
+
+    @Test
+    void testCsvFallback() throws IOException {
+        Map<Character, String> textures = AtlasFont.readTextures("/test-csv-file.atlas");
+
+        try (InputStream inputStream = getClass().getResourceAsStream("/test-csv-file.csv")) {
+            List<String[]> rows = CSVUtil.readAll(inputStream);
+
+            assertEquals(rows.size(), textures.size());
+
+            for (String[] row : rows) {
+                assertEquals(SkullUtil.encodeTextures(row[1]), textures.get(row[0].charAt(0)));
+            }
+        }
+
+        assertThrows(IOException.class, () -> AtlasFont.readTextures("/missing.atlas"));
+    }
+
+    @Test
+    void testGenerate(@TempDir Path directory) throws IOException {
+        Path fonts = Paths.get("src", "main", "resources", "fonts");
+
+        FontAtlasGenerator.generate(fonts, directory);
+
+        try (InputStream inputStream = Files.newInputStream(fonts.resolve("pumpkin.csv"))) {
+            List<String[]> rows = CSVUtil.readAll(inputStream);
+            Map<Character, String> textures = AtlasFont.read(ByteBuffer.wrap(Files.readAllBytes(
+                directory.resolve("pumpkin.atlas")
+            )));
+
+            assertEquals(rows.size(), textures.size());
+
+            for (String[] row : rows) {
+                assertEquals(SkullUtil.encodeTextures(row[1]), textures.get(row[0].charAt(0)));
+            }
+        }
+    }
+}
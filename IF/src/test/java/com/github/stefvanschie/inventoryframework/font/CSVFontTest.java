@@ -0,0 +1,53 @@
+package com.github.stefvanschie.inventoryframework.font;
+
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVFontTest {
+
+    @Test
+    void testLazyLoading() {
+        assertFalse(new CSVFont(' ', "/fonts/black.csv").isLoaded());
+    }
+
+    @Test
+    void testMissingFile() {
+        CSVFont font = new CSVFont(' ', "/fonts/missing.csv");
+
+        assertThrows(RuntimeException.class, () -> font.toItem('a'));
+        assertFalse(font.isLoaded());
+    }
+
+    @Test
+    void testGlyphs() {
+        ItemStack a = new ItemStack() {};
+        ItemStack b = new ItemStack() {};
+        ItemStack zhe = new ItemStack() {};
+        ItemStack arrow = new ItemStack() {};
+
+        Map<Character, ItemStack> items = new HashMap<>();
+
+        items.put('a', a);
+        items.put('B', b);
+        items.put('\u0436', zhe);
+        items.put('\u2192', arrow);
+
+        CSVFont.Glyphs glyphs = new CSVFont.Glyphs(items);
+
+        assertSame(a, glyphs.get('a'));
+        assertNull(glyphs.get('A'));
+        assertSame(a, glyphs.getIgnoreCase('A'));
+        assertSame(b, glyphs.getIgnoreCase('b'));
+        assertSame(b, glyphs.getIgnoreCase('B'));
+        assertSame(zhe, glyphs.getIgnoreCase('\u0416'));
+        assertSame(arrow, glyphs.get('\u2192'));
+        assertSame(arrow, glyphs.getIgnoreCase('\u2192'));
+        assertNull(glyphs.get('c'));
+        assertNull(glyphs.getIgnoreCase('c'));
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.stefvanschie.inventoryframework.font;
+
+import com.github.stefvanschie.inventoryframework.font.util.Font;
+import com.github.stefvanschie.inventoryframework.util.CSVUtil;
+import com.github.stefvanschie.inventoryframework.util.SkullUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the time needed to initialize the {@link Font} class, which used to read every built-in font, and the
+ * time needed to read all built-in fonts, which is now only done for the fonts that are used. Reading is measured both
+ * from the csv files, including encoding the textures, and from the font atlases generated from them. Creating the
+ * skulls for the glyphs requires a server and comes on top of the reading time. Only runs when the benchmark system
+ * property is set to true, for example via {@code mvn test -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class FontBenchmark {
+
+    private static final String[] FONTS = {
+        "birch-planks", "black", "blue", "brown", "cobblestone", "cyan", "diamond", "dirt", "gold", "gray", "green",
+        "jungle-planks", "letter-cube", "light-blue", "light-gray", "lime", "magenta", "monitor", "oak-log",
+        "oak-planks", "orange", "pink", "plush", "pumpkin", "purple", "quartz", "rainbow", "red", "spruce-planks",
+        "stone", "watermelon", "white", "yellow"
+    };
+
+    @Test
+    void benchmark() throws Exception {
+        long initTime;
+
+        //a separate class loader, so the class is initialized from scratch even if other tests used it already
+        ClassLoader parent = ClassLoader.getSystemClassLoader().getParent();
+
+        try (URLClassLoader classLoader = new URLClassLoader(classPath(), parent)) {
+            long initStart = System.nanoTime();
+
+            Class.forName(Font.class.getName(), true, classLoader);
+
+            initTime = System.nanoTime() - initStart;
+        }
+
+        long readStart = System.nanoTime();
+        int glyphs = 0;
+
+        for (String font : FONTS) {
+            try (InputStream inputStream = getClass().getResourceAsStream("/fonts/" + font + ".csv")) {
+                for (String[] row : CSVUtil.readAll(inputStream)) {
+                    assertNotNull(SkullUtil.encodeTextures(row[1]));
+                    glyphs++;
+                }
+            }
+        }
+
+        long readTime = System.nanoTime() - readStart;
+
+        long atlasStart = System.nanoTime();
+        int atlasGlyphs = 0;
+
+        for (String font : FONTS) {
+            try (InputStream inputStream = getClass().getResourceAsStream("/fonts/" + font + ".atlas")) {
+                atlasGlyphs += AtlasFont.read(readAll(inputStream)).size();
+            }
+        }
+
+        long atlasTime = System.nanoTime() - atlasStart;
+
+        assertTrue(glyphs > 0);
+        assertEquals(glyphs, atlasGlyphs);
+
+        for (String font : FONTS) {
+            assertFalse(((AtlasFont) Font.fromName(font.replace('-', '_'))).isLoaded());
+        }
+
+        System.out.println("Font class initialization: " + initTime / 1_000_000.0 + " ms, no fonts loaded");
+        System.out.println("Reading all " + FONTS.length + " fonts (" + glyphs + " glyphs, without creating skulls): " +
+            readTime / 1_000_000.0 + " ms from csv, " + atlasTime / 1_000_000.0 + " ms from atlas");
+    }
+
+    private static ByteBuffer readAll(InputStream inputStream) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+
+        while ((read = inputStream.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+
+        return ByteBuffer.wrap(output.toByteArray());
+    }
+
+    private static URL[] classPath() throws Exception {
+        List<URL> urls = new ArrayList<>();
+
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            urls.add(new File(entry).toURI().toURL());
+        }
+
+        return urls.toArray(new URL[0]);
+    }
+}
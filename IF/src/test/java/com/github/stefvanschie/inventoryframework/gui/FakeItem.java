@@ -0,0 +1,64 @@
+package com.github.stefvanschie.inventoryframework.gui;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An item with a simulated item meta, which doesn't require a server. Items are equal when their amount and meta
+ * are equal.
+ */
+class FakeItem extends ItemStack {
+
+    static int writes;
+
+    @NotNull
+    Map<String, Object> values = new HashMap<>();
+
+    @NotNull
+    @Override
+    public ItemMeta getItemMeta() {
+        return FakeMeta.create(new HashMap<>(values));
+    }
+
+    @Override
+    public boolean setItemMeta(ItemMeta itemMeta) {
+        writes++;
+        this.values = new HashMap<>(FakeMeta.values(itemMeta));
+        return true;
+    }
+
+    @Override
+    public boolean hasItemMeta() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public FakeItem clone() {
+        FakeItem item = (FakeItem) super.clone();
+
+        item.values = new HashMap<>(values);
+
+        return item;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FakeItem)) {
+            return false;
+        }
+
+        FakeItem item = (FakeItem) obj;
+
+        return getAmount() == item.getAmount() && values.equals(item.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode() * 31 + getAmount();
+    }
+}
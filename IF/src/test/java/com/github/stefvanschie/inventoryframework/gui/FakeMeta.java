@@ -0,0 +1,83 @@
+package com.github.stefvanschie.inventoryframework.gui;
+
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An item meta which stores its values in a map, which doesn't require a server
+ */
+final class FakeMeta implements InvocationHandler {
+
+    static int displayNameWrites;
+
+    static int loreWrites;
+
+    private static final PersistentDataContainer CONTAINER = (PersistentDataContainer) Proxy.newProxyInstance(
+        PersistentDataContainer.class.getClassLoader(), new Class<?>[] {PersistentDataContainer.class},
+        (proxy, method, args) -> null);
+
+    @NotNull
+    private final Map<String, Object> values;
+
+    private FakeMeta(@NotNull Map<String, Object> values) {
+        this.values = values;
+    }
+
+    @NotNull
+    static ItemMeta create(@NotNull Map<String, Object> values) {
+        return (ItemMeta) Proxy.newProxyInstance(ItemMeta.class.getClassLoader(), new Class<?>[] {ItemMeta.class},
+            new FakeMeta(values));
+    }
+
+    @NotNull
+    static Map<String, Object> values(@NotNull ItemMeta meta) {
+        return ((FakeMeta) Proxy.getInvocationHandler(meta)).values;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "clone":
+                return create(new HashMap<>(values));
+            case "getPersistentDataContainer":
+                return CONTAINER;
+            case "setDisplayName":
+                displayNameWrites++;
+                values.put("displayName", args[0]);
+                return null;
+            case "getDisplayName":
+                return values.get("displayName");
+            case "hasLore":
+                return values.containsKey("lore");
+            case "getLore":
+                Object lore = values.get("lore");
+                return lore == null ? null : new ArrayList<>((List<?>) lore);
+            case "setLore":
+                loreWrites++;
+
+                if (args[0] == null) {
+                    values.remove("lore");
+                } else {
+                    values.put("lore", new ArrayList<>((List<?>) args[0]));
+                }
+                return null;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return values.toString();
+            default:
+                return method.getReturnType() == boolean.class ? false : null;
+        }
+    }
+}
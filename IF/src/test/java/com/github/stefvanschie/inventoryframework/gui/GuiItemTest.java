@@ -0,0 +1,220 @@
+package com.github.stefvanschie.inventoryframework.gui;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuiItemTest {
+
+    private static final Plugin PLUGIN = (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(),
+        new Class<?>[] {Plugin.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return "test";
+                case "getLogger":
+                    return Logger.getLogger("test");
+                default:
+                    return null;
+            }
+        });
+
+    @Test
+    void testLocalizedRenderedOncePerLocale() {
+        AtomicInteger renders = new AtomicInteger();
+        GuiItem item = new GuiItem(new FakeItem(), PLUGIN);
+
+        item.setLocalizedDisplayName(counting(renders));
+
+        ItemStack english = item.getItem("en_us");
+
+        assertSame(english, item.getItem("en_us"));
+        assertEquals(1, renders.get());
+        assertEquals("name en_us", ((FakeItem) english).values.get("displayName"));
+
+        ItemStack german = item.getItem("de_de");
+
+        assertNotSame(english, german);
+        assertSame(german, item.getItem("de_de"));
+        assertEquals(2, renders.get());
+        assertEquals("name de_de", ((FakeItem) german).values.get("displayName"));
+    }
+
+    @Test
+    void testLocalizedSharedWithCopies() {
+        AtomicInteger renders = new AtomicInteger();
+        GuiItem item = new GuiItem(new FakeItem(), PLUGIN);
+
+        item.setLocalizedDisplayName(counting(renders));
+
+        ItemStack rendered = item.getItem("en_us");
+        GuiItem copy = item.copy();
+
+        assertSame(rendered, copy.getItem("en_us"));
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    void testLocalizedResetBySetters() {
+        AtomicInteger renders = new AtomicInteger();
+        GuiItem item = new GuiItem(new FakeItem(), PLUGIN);
+
+        item.setLocalizedDisplayName(counting(renders));
+
+        ItemStack rendered = item.getItem("en_us");
+
+        item.setItem(new FakeItem());
+
+        ItemStack afterSetItem = item.getItem("en_us");
+
+        assertNotSame(rendered, afterSetItem);
+        assertEquals(2, renders.get());
+
+        item.setLocalizedDisplayName(locale -> StringHolder.of("other " + locale));
+
+        ItemStack afterSetName = item.getItem("en_us");
+
+        assertNotSame(afterSetItem, afterSetName);
+        assertEquals("other en_us", ((FakeItem) afterSetName).values.get("displayName"));
+
+        item.setLocalizedLore(locale -> Collections.singletonList(StringHolder.of("lore " + locale)));
+
+        ItemStack afterSetLore = item.getItem("en_us");
+
+        assertNotSame(afterSetName, afterSetLore);
+        assertEquals(Collections.singletonList("lore en_us"), ((FakeItem) afterSetLore).values.get("lore"));
+    }
+
+    @Test
+    void testLocalizedResetByDirectChange() {
+        AtomicInteger renders = new AtomicInteger();
+        GuiItem item = new GuiItem(new FakeItem(), PLUGIN);
+
+        item.setLocalizedDisplayName(counting(renders));
+
+        ItemStack rendered = item.getItem("en_us");
+        GuiItem copy = item.copy();
+
+        item.getItem().setAmount(5);
+
+        ItemStack afterAmount = item.getItem("en_us");
+
+        assertNotSame(rendered, afterAmount);
+        assertEquals(5, afterAmount.getAmount());
+        assertEquals(2, renders.get());
+
+        //the copy didn't change, so it keeps the items it already had
+        assertSame(rendered, copy.getItem("en_us"));
+
+        ItemStack source = item.getItem();
+        ItemMeta meta = source.getItemMeta();
+
+        meta.setLore(Collections.singletonList("changed"));
+        source.setItemMeta(meta);
+
+        ItemStack afterMeta = item.getItem("en_us");
+
+        assertNotSame(afterAmount, afterMeta);
+        assertEquals(Collections.singletonList("changed"), ((FakeItem) afterMeta).values.get("lore"));
+        assertEquals(3, renders.get());
+    }
+
+    @Test
+    void testSetPlaceholder() {
+        GuiItem item = new GuiItem(new FakeItem(), PLUGIN);
+
+        assertThrows(IllegalStateException.class, () -> item.setPlaceholder("balance", "1"));
+
+        item.setTemplate(ItemTemplate.compile("Balance: {balance}", Collections.singletonList("{time}")));
+
+        assertTrue(item.setPlaceholder("balance", "1"));
+        assertFalse(item.setPlaceholder("balance", "1"));
+        assertTrue(item.setPlaceholder("balance", "2"));
+        assertThrows(IllegalArgumentException.class, () -> item.setPlaceholder("missing", "1"));
+    }
+
+    @Test
+    void testOnlyDirtyLinesRendered() {
+        GuiItem item = new GuiItem(new FakeItem(), PLUGIN);
+
+        item.setTemplate(ItemTemplate.compile("Balance: {balance}", Arrays.asList("Ends in {time}", "Click")));
+        item.setPlaceholder("balance", "1");
+        item.setPlaceholder("time", "00:10");
+
+        FakeItem rendered = (FakeItem) item.getItem();
+
+        assertEquals("Balance: 1", rendered.values.get("displayName"));
+        assertEquals(Arrays.asList("Ends in 00:10", "Click"), rendered.values.get("lore"));
+
+        FakeMeta.displayNameWrites = 0;
+        FakeMeta.loreWrites = 0;
+        FakeItem.writes = 0;
+
+        item.getItem();
+
+        assertEquals(0, FakeItem.writes);
+
+        item.setPlaceholder("time", "00:09");
+        item.getItem();
+
+        assertEquals(0, FakeMeta.displayNameWrites);
+        assertEquals(1, FakeMeta.loreWrites);
+        assertEquals(1, FakeItem.writes);
+        assertEquals("Balance: 1", rendered.values.get("displayName"));
+        assertEquals(Arrays.asList("Ends in 00:09", "Click"), rendered.values.get("lore"));
+
+        item.setPlaceholder("balance", "2");
+        item.getItem();
+
+        assertEquals(1, FakeMeta.displayNameWrites);
+        assertEquals(1, FakeMeta.loreWrites);
+        assertEquals("Balance: 2", rendered.values.get("displayName"));
+    }
+
+    @Test
+    void testCopyKeepsRenderedState() {
+        GuiItem item = new GuiItem(new FakeItem(), PLUGIN);
+
+        item.setTemplate(ItemTemplate.compile("Balance: {balance}", Arrays.asList("Ends in {time}", "{balance}")));
+        item.setPlaceholder("balance", "1");
+        item.setPlaceholder("time", "00:10");
+
+        GuiItem copy = item.copy();
+        FakeItem rendered = (FakeItem) copy.getItem();
+
+        assertNotSame(item.getItem(), rendered);
+        assertEquals("Balance: 1", rendered.values.get("displayName"));
+        assertEquals(Arrays.asList("Ends in 00:10", "1"), rendered.values.get("lore"));
+        assertFalse(copy.setPlaceholder("balance", "1"));
+
+        assertTrue(copy.setPlaceholder("time", "00:09"));
+        copy.getItem();
+
+        assertEquals("Balance: 1", rendered.values.get("displayName"));
+        assertEquals(Arrays.asList("Ends in 00:09", "1"), rendered.values.get("lore"));
+
+        //the original is not affected by changes to the copy
+        assertEquals(Arrays.asList("Ends in 00:10", "1"), ((FakeItem) item.getItem()).values.get("lore"));
+    }
+
+    @NotNull
+    private static Function<String, TextHolder> counting(@NotNull AtomicInteger renders) {
+        return locale -> {
+            renders.incrementAndGet();
+
+            return StringHolder.of("name " + locale);
+        };
+    }
+}
@@ -45,6 +45,18 @@ public class InventoryComponentTest {
         assertEquals(original.getPanes().size(), copy.getPanes().size());
     }
 
+    @Test
+    void testLocale() {
+        InventoryComponent original = new InventoryComponent(0, 6);
+
+        assertNull(original.getLocale());
+
+        original.setLocale("nl_nl");
+
+        assertEquals("nl_nl", original.copy().getLocale());
+        assertEquals("nl_nl", original.excludeRows(4, 4).getLocale());
+    }
+
     @Test
     void testExcludeRowsValid() {
         InventoryComponent original = new InventoryComponent(0, 6);
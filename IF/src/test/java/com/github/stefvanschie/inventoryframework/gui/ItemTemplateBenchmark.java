@@ -0,0 +1,144 @@
+package com.github.stefvanschie.inventoryframework.gui;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares updating 45 items per tick by building new items, the way this had to be done before templates existed,
+ * with updating the placeholders of templated items. Every tick the balance of one item changes and once per second
+ * the countdown of all items changes. Items and item meta are simulated, since real ones require a server, so the
+ * absolute times are lower than on a server, where retrieving and writing item meta is more expensive. Only runs when
+ * the benchmark system property is set to true, for example via {@code mvn test -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ItemTemplateBenchmark {
+
+    private static final int ITEMS = 45;
+
+    private static final int TICKS = 20 * 60 * 5;
+
+    private static final Plugin PLUGIN = (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(),
+        new Class<?>[] {Plugin.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return "benchmark";
+                case "getLogger":
+                    return Logger.getLogger("benchmark");
+                default:
+                    return null;
+            }
+        });
+
+    @Test
+    void benchmark() {
+        long[] balances = new long[ITEMS];
+
+        //warm up both ways of updating, so neither is measured while being compiled
+        rebuild(balances, TICKS);
+        template(balances, TICKS);
+
+        long rebuildStart = System.nanoTime();
+        int rebuildWrites = rebuild(balances, TICKS);
+        long rebuildTime = System.nanoTime() - rebuildStart;
+
+        long templateStart = System.nanoTime();
+        int templateWrites = template(balances, TICKS);
+        long templateTime = System.nanoTime() - templateStart;
+
+        assertTrue(templateWrites < rebuildWrites);
+
+        System.out.println("Updating " + ITEMS + " items for " + TICKS + " ticks");
+        System.out.println("Rebuilding items: " + rebuildTime / 1_000_000.0 + " ms (" +
+            rebuildTime / TICKS / 1000.0 + " us per tick, " + rebuildWrites + " meta writes)");
+        System.out.println("Templated items: " + templateTime / 1_000_000.0 + " ms (" +
+            templateTime / TICKS / 1000.0 + " us per tick, " + templateWrites + " meta writes)");
+    }
+
+    /**
+     * Updates the items by building a new item and gui item for every item every tick and copying them as the
+     * inventory component does.
+     *
+     * @return the amount of item meta writes
+     */
+    private int rebuild(long @NotNull [] balances, int ticks) {
+        FakeItem.writes = 0;
+
+        for (int tick = 0; tick < ticks; tick++) {
+            balances[tick % ITEMS]++;
+
+            for (int index = 0; index < ITEMS; index++) {
+                ItemStack item = new FakeItem();
+                ItemMeta meta = item.getItemMeta();
+                List<String> lore = new ArrayList<>();
+
+                meta.setDisplayName("Reward #" + index);
+                lore.add("Balance: " + balances[index] + " coins");
+                lore.add("Ends in " + countdown(tick));
+                lore.add("");
+                lore.add("Click to claim");
+                meta.setLore(lore);
+                item.setItemMeta(meta);
+
+                GuiItem copy = new GuiItem(item, PLUGIN).copy();
+                copy.applyUUID();
+
+                assertNotNull(copy.getItem());
+            }
+        }
+
+        return FakeItem.writes;
+    }
+
+    /**
+     * Updates the placeholders of templated items every tick and retrieves the items as the inventory component does.
+     *
+     * @return the amount of item meta writes
+     */
+    private int template(long @NotNull [] balances, int ticks) {
+        ItemTemplate template = ItemTemplate.compile("Reward #{index}",
+            Arrays.asList("Balance: {balance} coins", "Ends in {time}", "", "Click to claim"));
+        GuiItem[] items = new GuiItem[ITEMS];
+
+        for (int index = 0; index < ITEMS; index++) {
+            items[index] = new GuiItem(new FakeItem(), PLUGIN);
+            items[index].setTemplate(template);
+            items[index].setPlaceholder("index", String.valueOf(index));
+        }
+
+        FakeItem.writes = 0;
+
+        for (int tick = 0; tick < ticks; tick++) {
+            balances[tick % ITEMS]++;
+
+            for (int index = 0; index < ITEMS; index++) {
+                GuiItem item = items[index];
+
+                item.setPlaceholder("balance", String.valueOf(balances[index]));
+                item.setPlaceholder("time", countdown(tick));
+
+                assertNotNull(item.getItem());
+            }
+        }
+
+        return FakeItem.writes;
+    }
+
+    @NotNull
+    private static String countdown(int tick) {
+        int seconds = 3600 - tick / 20;
+
+        return String.format("%02d:%02d", seconds / 60, seconds % 60);
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.stefvanschie.inventoryframework.gui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemTemplateTest {
+
+    @Test
+    void testPlaceholders() {
+        ItemTemplate template = ItemTemplate.compile("Balance: {balance}",
+            Arrays.asList("Ends in {time}", "{not a placeholder}", "{balance} coins"));
+
+        assertEquals(Arrays.asList("balance", "time"), Arrays.asList(template.getPlaceholders().toArray()));
+        assertTrue(template.hasDisplayName());
+        assertEquals(4, template.getLineCount());
+        assertEquals(-1, template.indexOf("missing"));
+        assertArrayEquals(new int[] {0, 3}, template.getLines(template.indexOf("balance")));
+        assertArrayEquals(new int[] {1}, template.getLines(template.indexOf("time")));
+    }
+
+    @Test
+    void testRender() {
+        ItemTemplate template = ItemTemplate.compile("Balance: {balance}",
+            Arrays.asList("Ends in {time}", "{not a placeholder}", "{balance}/{balance}"));
+        String[] values = template.createValues();
+
+        assertEquals("Balance: {balance}", template.render(0, values));
+
+        values[template.indexOf("balance")] = "1,234";
+        values[template.indexOf("time")] = "00:42";
+
+        assertEquals("Balance: 1,234", template.render(0, values));
+        assertEquals("Ends in 00:42", template.render(1, values));
+        assertEquals("{not a placeholder}", template.render(2, values));
+        assertEquals("1,234/1,234", template.render(3, values));
+    }
+
+    @Test
+    void testNoDisplayName() {
+        ItemTemplate template = ItemTemplate.compile(null, Collections.singletonList("{a}{b}"));
+        String[] values = template.createValues();
+
+        assertFalse(template.hasDisplayName());
+        assertNull(template.render(0, values));
+        assertEquals("{a}{b}", template.render(1, values));
+        assertArrayEquals(new int[] {1}, template.getLines(template.indexOf("a")));
+    }
+}
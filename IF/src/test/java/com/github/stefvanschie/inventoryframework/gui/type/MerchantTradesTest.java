@@ -0,0 +1,115 @@
+package com.github.stefvanschie.inventoryframework.gui.type;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.MerchantRecipe;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MerchantTradesTest {
+
+    @Test
+    void testAddCopiesRecipe() {
+        MerchantTrades trades = new MerchantTrades();
+        MerchantRecipe recipe = recipe();
+
+        MerchantRecipe snapshot = trades.add(recipe, 0);
+
+        recipe.setUses(5);
+        recipe.setMaxUses(6);
+
+        assertNotSame(recipe, snapshot);
+        assertNotSame(recipe.getResult(), snapshot.getResult());
+        assertSame(snapshot, trades.getRecipe(0));
+        assertEquals(0, snapshot.getUses());
+        assertEquals(10, snapshot.getMaxUses());
+        assertEquals(1, snapshot.getIngredients().size());
+    }
+
+    @Test
+    void testSetUses() {
+        MerchantTrades trades = new MerchantTrades();
+        MerchantRecipe original = trades.add(recipe(), 2);
+
+        MerchantRecipe recipe = trades.setUses(0, 4);
+
+        assertNotSame(original, recipe);
+        assertSame(recipe, trades.getRecipe(0));
+        assertEquals(4, recipe.getUses());
+        assertEquals(10, recipe.getMaxUses());
+        assertEquals(0, original.getUses());
+        assertSame(original.getResult(), recipe.getResult());
+        assertEquals(-2, trades.getPriceDifference(0));
+    }
+
+    @Test
+    void testSetMaxUses() {
+        MerchantTrades trades = new MerchantTrades();
+        MerchantRecipe original = trades.add(recipe(), 0);
+
+        MerchantRecipe recipe = trades.setMaxUses(0, 3);
+
+        assertNotSame(original, recipe);
+        assertEquals(3, recipe.getMaxUses());
+        assertEquals(10, original.getMaxUses());
+        assertEquals(0, recipe.getUses());
+    }
+
+    @Test
+    void testSetDiscount() {
+        MerchantTrades trades = new MerchantTrades();
+        MerchantRecipe original = trades.add(recipe(), 3);
+
+        assertEquals(-3, trades.getPriceDifference(0));
+        assertTrue(trades.hasPriceDifference());
+
+        assertSame(original, trades.setDiscount(0, 5));
+        assertEquals(-5, trades.getPriceDifference(0));
+        assertEquals(-5, trades.getTrades().get(0).getValue());
+
+        trades.setDiscount(0, 0);
+
+        assertFalse(trades.hasPriceDifference());
+    }
+
+    @Test
+    void testIndexBounds() {
+        MerchantTrades trades = new MerchantTrades();
+
+        trades.add(recipe(), 0);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> trades.setUses(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> trades.setMaxUses(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> trades.setDiscount(2, 1));
+    }
+
+    @Test
+    void testAddAll() {
+        MerchantTrades trades = new MerchantTrades();
+        MerchantRecipe original = trades.add(recipe(), 1);
+        MerchantTrades copy = new MerchantTrades();
+
+        copy.addAll(trades);
+
+        assertSame(original, copy.getRecipe(0));
+        assertEquals(-1, copy.getPriceDifference(0));
+
+        copy.setUses(0, 7);
+        copy.setDiscount(0, 4);
+
+        assertSame(original, trades.getRecipe(0));
+        assertEquals(0, trades.getRecipe(0).getUses());
+        assertEquals(-1, trades.getPriceDifference(0));
+        assertEquals(Collections.singletonList(original), trades.getRecipes());
+    }
+
+    private static MerchantRecipe recipe() {
+        MerchantRecipe recipe = new MerchantRecipe(new ItemStack() {}, 0, 10, false, 0, 0);
+
+        recipe.addIngredient(new ItemStack() {});
+
+        return recipe;
+    }
+}
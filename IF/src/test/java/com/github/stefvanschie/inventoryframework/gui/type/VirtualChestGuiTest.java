@@ -0,0 +1,62 @@
+package com.github.stefvanschie.inventoryframework.gui.type;
+
+import org.bukkit.Material;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VirtualChestGuiTest {
+
+    @Test
+    void testGetActionEmptySlot() {
+        ItemStack air = new ItemStack(Material.AIR);
+
+        assertEquals(InventoryAction.NOTHING, VirtualChestGui.getAction(ClickType.LEFT, null, null, false));
+        assertEquals(InventoryAction.NOTHING, VirtualChestGui.getAction(ClickType.RIGHT, air, null, false));
+        assertEquals(InventoryAction.NOTHING, VirtualChestGui.getAction(ClickType.SHIFT_LEFT, null, null, false));
+        assertEquals(InventoryAction.NOTHING, VirtualChestGui.getAction(ClickType.DROP, air, null, false));
+        assertEquals(InventoryAction.NOTHING, VirtualChestGui.getAction(ClickType.NUMBER_KEY, null, air, false));
+    }
+
+    @Test
+    void testGetActionItem() {
+        ItemStack item = new ItemStack(Material.STONE);
+
+        assertEquals(InventoryAction.PICKUP_ALL, VirtualChestGui.getAction(ClickType.LEFT, item, null, false));
+        assertEquals(InventoryAction.PICKUP_HALF, VirtualChestGui.getAction(ClickType.RIGHT, item, null, false));
+        assertEquals(
+            InventoryAction.MOVE_TO_OTHER_INVENTORY,
+            VirtualChestGui.getAction(ClickType.SHIFT_RIGHT, item, null, false)
+        );
+        assertEquals(InventoryAction.DROP_ONE_SLOT, VirtualChestGui.getAction(ClickType.DROP, item, null, false));
+        assertEquals(
+            InventoryAction.DROP_ALL_SLOT,
+            VirtualChestGui.getAction(ClickType.CONTROL_DROP, item, null, false)
+        );
+        assertEquals(InventoryAction.NOTHING, VirtualChestGui.getAction(ClickType.DOUBLE_CLICK, item, null, false));
+    }
+
+    @Test
+    void testGetActionHotbarSwap() {
+        ItemStack item = new ItemStack(Material.STONE);
+
+        assertEquals(InventoryAction.HOTBAR_SWAP, VirtualChestGui.getAction(ClickType.NUMBER_KEY, item, null, false));
+        assertEquals(InventoryAction.HOTBAR_SWAP, VirtualChestGui.getAction(ClickType.NUMBER_KEY, null, item, false));
+        assertEquals(
+            InventoryAction.HOTBAR_SWAP,
+            VirtualChestGui.getAction(ClickType.SWAP_OFFHAND, null, item, false)
+        );
+    }
+
+    @Test
+    void testGetActionMiddle() {
+        ItemStack item = new ItemStack(Material.STONE);
+
+        assertEquals(InventoryAction.NOTHING, VirtualChestGui.getAction(ClickType.MIDDLE, item, null, false));
+        assertEquals(InventoryAction.CLONE_STACK, VirtualChestGui.getAction(ClickType.MIDDLE, item, null, true));
+        assertEquals(InventoryAction.NOTHING, VirtualChestGui.getAction(ClickType.MIDDLE, null, null, true));
+    }
+}
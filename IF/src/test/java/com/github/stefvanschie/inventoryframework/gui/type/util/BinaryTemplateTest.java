@@ -0,0 +1,117 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryTemplateTest {
+
+    private static final String[] GUI_TYPES = {"anvil", "barrel", "beacon", "blast-furnace", "brewing-stand",
+        "cartography-table", "chest", "crafting-table", "dispenser", "dropper", "enchanting-table", "ender-chest",
+        "furnace", "grindstone", "hopper", "merchant", "shulker-box", "smithing-table", "smoker", "stonecutter",
+        "virtual-chest"};
+
+    private static final String PANES =
+        "<staticpane x=\"0\" y=\"0\" length=\"9\" height=\"1\" field=\"pane\" onClick=\"click\">\n" +
+        "  <item id=\"diamond_sword\" amount=\"2\" x=\"0\" y=\"0\" onClick=\"buy\">\n" +
+        "    <displayname>&amp;6Sword ✓</displayname>\n" +
+        "    <lore><line>First</line><line></line><line>Third</line></lore>\n" +
+        "    <enchantments><enchantment id=\"sharpness\" level=\"5\"/></enchantments>\n" +
+        "    <properties><property type=\"integer\">5</property><property>five</property></properties>\n" +
+        "    <modeldata>12</modeldata>\n" +
+        "  </item>\n" +
+        "  <item id=\"player_head\" x=\"1\" y=\"0\"><skull owner=\"Notch\"/></item>\n" +
+        "</staticpane>\n" +
+        "<outlinepane x=\"0\" y=\"1\" length=\"9\" height=\"1\" orientation=\"vertical\" gap=\"1\" repeat=\"true\">\n" +
+        "  <item id=\"stone\"/><empty/><item id=\"stone\"/>\n" +
+        "</outlinepane>\n" +
+        "<paginatedpane id=\"pages\" x=\"0\" y=\"2\" length=\"9\" height=\"1\">\n" +
+        "  <page><staticpane length=\"9\" height=\"1\" x=\"0\" y=\"0\"/></page>\n" +
+        "  <page><outlinepane length=\"9\" height=\"1\" x=\"0\" y=\"0\" populate=\"fill\"/></page>\n" +
+        "</paginatedpane>\n" +
+        "<masonrypane x=\"0\" y=\"3\" length=\"9\" height=\"1\"><outlinepane length=\"1\" height=\"1\"/></masonrypane>\n" +
+        "<patternpane x=\"0\" y=\"4\" length=\"3\" height=\"2\" flipHorizontally=\"true\" rotation=\"90\">\n" +
+        "  <pattern><row>010</row><row>101</row></pattern>\n" +
+        "  <binding char=\"0\"><item id=\"black_stained_glass_pane\"/></binding>\n" +
+        "  <binding char=\"1\"><item id=\"white_stained_glass_pane\"/></binding>\n" +
+        "</patternpane>\n" +
+        "<outlinepane x=\"0\" y=\"5\" length=\"9\" height=\"1\">\n" +
+        "  <mask>110011001</mask><item id=\"stone\"/>\n" +
+        "</outlinepane>\n" +
+        "<cyclebutton x=\"0\" y=\"0\" length=\"1\" height=\"1\"><staticpane length=\"1\" height=\"1\"/></cyclebutton>\n" +
+        "<label x=\"1\" y=\"0\" length=\"3\" height=\"1\" font=\"space\">ABC</label>\n" +
+        "<pagingbuttons x=\"4\" y=\"0\" length=\"9\" pages=\"pages\"><previousbutton><item id=\"arrow\"/>" +
+        "</previousbutton><nextbutton><item id=\"arrow\"/></nextbutton></pagingbuttons>\n" +
+        "<percentagebar x=\"0\" y=\"0\" length=\"9\" height=\"1\" percentage=\"0.5\"><fill><item id=\"lime_wool\"/>" +
+        "</fill><background><item id=\"red_wool\"/></background></percentagebar>\n" +
+        "<slider x=\"0\" y=\"0\" length=\"9\" height=\"1\" value=\"0.25\"/>\n" +
+        "<togglebutton x=\"0\" y=\"0\" length=\"1\" height=\"1\" enabled=\"true\"/>\n";
+
+    @Test
+    void testRoundTrip() throws Exception {
+        for (String type : GUI_TYPES) {
+            String xml = "<gui type=\"" + type + "\" title=\"Title &lt;1&gt;\" rows=\"6\" field=\"gui\" " +
+                "onTopClick=\"top\" onClose=\"close\">\n<component name=\"input\">\n" + PANES + "</component>\n" +
+                PANES + "</gui>";
+            Element element = parse(xml);
+            Element read = BinaryTemplate.read(ByteBuffer.wrap(BinaryTemplate.write(element)));
+
+            assertTrue(element.isEqualNode(read), type);
+            assertEquals(read, read.getOwnerDocument().getDocumentElement());
+        }
+    }
+
+    @Test
+    void testRoundTripPopulate() throws Exception {
+        Element element = parse("<gui type=\"chest\" title=\"\" rows=\"1\" populate=\"populate\"/>");
+
+        assertTrue(element.isEqualNode(BinaryTemplate.read(ByteBuffer.wrap(BinaryTemplate.write(element)))));
+    }
+
+    @Test
+    void testStringTable() throws Exception {
+        StringBuilder xml = new StringBuilder("<gui type=\"chest\"><outlinepane length=\"9\" height=\"6\">");
+
+        for (int index = 0; index < 54; index++) {
+            xml.append("<item id=\"black_stained_glass_pane\"><displayname>Filler</displayname></item>");
+        }
+
+        xml.append("</outlinepane></gui>");
+
+        byte[] binary = BinaryTemplate.write(parse(xml.toString()));
+
+        assertTrue(binary.length < xml.length() / 4);
+    }
+
+    @Test
+    void testReadInvalid() throws Exception {
+        byte[] binary = BinaryTemplate.write(parse("<gui type=\"chest\"><staticpane length=\"1\"/></gui>"));
+
+        byte[] otherVersion = binary.clone();
+        otherVersion[4] = (byte) (BinaryTemplate.VERSION + 1);
+
+        assertThrows(XMLLoadException.class, () -> BinaryTemplate.read(ByteBuffer.wrap(otherVersion)));
+        assertThrows(XMLLoadException.class,
+            () -> BinaryTemplate.read(ByteBuffer.wrap(Arrays.copyOf(binary, binary.length - 1))));
+        assertThrows(XMLLoadException.class,
+            () -> BinaryTemplate.read(ByteBuffer.wrap("<gui/>".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static Element parse(String xml) throws Exception {
+        Element element = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)))
+            .getDocumentElement();
+
+        element.normalize();
+
+        return element;
+    }
+}
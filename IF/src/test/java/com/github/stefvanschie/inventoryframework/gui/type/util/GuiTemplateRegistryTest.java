@@ -0,0 +1,86 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuiTemplateRegistryTest {
+
+    @Test
+    void testPreloadAll() throws Exception {
+        Map<String, Supplier<InputStream>> sources = new HashMap<>();
+
+        for (int index = 0; index < 20; index++) {
+            sources.put("gui" + index, () -> toStream("<gui type=\"chest\" title=\"\" rows=\"1\"/>"));
+        }
+
+        List<Runnable> mainThreadTasks = new CopyOnWriteArrayList<>();
+        CompletableFuture<GuiTemplateRegistry> future = Gui.preloadAll(sources, mainThreadTasks::add);
+
+        //the items are only created once the main thread runs the task
+        while (mainThreadTasks.isEmpty()) {
+            Thread.sleep(1);
+        }
+
+        assertFalse(future.isDone());
+
+        mainThreadTasks.forEach(Runnable::run);
+
+        GuiTemplateRegistry registry = future.get();
+
+        assertEquals(sources.keySet(), new HashSet<>(registry.getNames()));
+
+        for (String name : sources.keySet()) {
+            assertNotNull(registry.get(name));
+            assertNotNull(registry.getTiming(name));
+        }
+    }
+
+    @Test
+    void testPreloadAllInvalid() {
+        Map<String, Supplier<InputStream>> sources = new HashMap<>();
+
+        sources.put("valid", () -> toStream("<gui type=\"chest\" title=\"\" rows=\"1\"/>"));
+        sources.put("malformed", () -> toStream("<gui"));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+            () -> Gui.preloadAll(sources, Runnable::run).get());
+
+        assertInstanceOf(XMLLoadException.class, exception.getCause());
+        assertThrows(ExecutionException.class,
+            () -> Gui.preloadAll(Collections.<String, Supplier<InputStream>>singletonMap("missing", () -> null),
+                Runnable::run).get());
+    }
+
+    @Test
+    void testRegister() {
+        GuiTemplateRegistry registry = new GuiTemplateRegistry();
+        GuiTemplate<Gui> first = GuiTemplate.compile(toStream("<gui type=\"chest\" title=\"\" rows=\"1\"/>"));
+        GuiTemplate<Gui> second = GuiTemplate.compile(toStream("<gui type=\"chest\" title=\"\" rows=\"2\"/>"));
+
+        registry.register("gui", first);
+        registry.register("gui", second);
+
+        assertSame(second, registry.get("gui"));
+        assertEquals(1, registry.getNames().size());
+        assertNull(registry.get("other"));
+    }
+
+    private static InputStream toStream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuiTemplateTest {
+
+    @Test
+    void testCompileMalformed() {
+        assertThrows(XMLLoadException.class, () -> GuiTemplate.compile(toStream("<chestgui")));
+        assertThrows(XMLLoadException.class, () -> GuiTemplate.compile(toStream("<chestgui"), (instance, element,
+            plugin) -> null));
+    }
+
+    @Test
+    void testCompileType() {
+        assertThrows(XMLLoadException.class, () -> GuiTemplate.compile(toStream("<gui title=\"\" rows=\"1\"/>")));
+        assertThrows(XMLLoadException.class, () -> GuiTemplate.compile(toStream("<gui type=\"unknown\"/>")));
+        assertDoesNotThrow(() -> GuiTemplate.compile(toStream("<gui type=\"chest\" title=\"\" rows=\"1\"/>")));
+    }
+
+    @Test
+    void testCompileCached(@TempDir Path cacheDirectory) throws Exception {
+        String xml = "<chestgui title=\"\" rows=\"1\"><outlinepane length=\"9\" height=\"1\"/></chestgui>";
+        List<Element> elements = new ArrayList<>();
+
+        GuiTemplate.compile(toStream(xml), cacheDirectory, (instance, element, plugin) -> {
+            elements.add(element);
+            return null;
+        }).instantiate(new Object(), null);
+
+        List<Path> files;
+
+        try (Stream<Path> stream = Files.list(cacheDirectory)) {
+            files = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(1, files.size());
+        assertTrue(files.get(0).toString().endsWith(".bin"));
+
+        GuiTemplate.compile(toStream(xml), cacheDirectory, (instance, element, plugin) -> {
+            elements.add(element);
+            return null;
+        }).instantiate(new Object(), null);
+
+        Files.write(files.get(0), new byte[] {1, 2, 3});
+
+        GuiTemplate.compile(toStream(xml), cacheDirectory, (instance, element, plugin) -> {
+            elements.add(element);
+            return null;
+        }).instantiate(new Object(), null);
+
+        assertEquals(3, elements.size());
+
+        for (Element element : elements) {
+            assertTrue(elements.get(0).isEqualNode(element));
+            assertTrue(GuiTemplate.isTemplate(element));
+        }
+
+        assertTrue(Files.size(files.get(0)) > 3);
+    }
+
+    @Test
+    void testIsTemplate() throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(toStream("<chestgui><outlinepane/></chestgui>"));
+
+        assertFalse(GuiTemplate.isTemplate(document.getDocumentElement()));
+        assertFalse(GuiTemplate.isTemplate(document));
+    }
+
+    @Test
+    void testPrepareItems() {
+        //items with an unknown material fail before any item stack is created
+        String item = "<item id=\"unknown\" x=\"0\" y=\"0\"/>";
+
+        assertThrows(XMLLoadException.class, () -> prepare("<outlinepane>" + item + "</outlinepane>"));
+        assertThrows(XMLLoadException.class, () -> prepare("<custompane><staticpane>" + item +
+            "</staticpane></custompane>"));
+        assertThrows(XMLLoadException.class, () -> prepare("<patternpane><binding char=\"a\">" + item +
+            "</binding></patternpane>"));
+        assertThrows(XMLLoadException.class, () -> prepare("<trade><result>" + item + "</result></trade>"));
+
+        //these elements are not loaded as items
+        assertDoesNotThrow(() -> prepare("<custompane>" + item + "</custompane>"));
+        assertDoesNotThrow(() -> prepare("<custompane><binding>" + item + "</binding></custompane>"));
+        assertDoesNotThrow(() -> prepare("<outlinepane populate=\"populate\">" + item + "</outlinepane>"));
+        assertDoesNotThrow(() -> prepare("<outlinepane><empty/></outlinepane>"));
+    }
+
+    private static void prepare(String contents) {
+        GuiTemplate.compile(toStream("<chestgui title=\"\" rows=\"1\">" + contents + "</chestgui>"),
+            (instance, element, plugin) -> null).prepareItems();
+    }
+
+    private static InputStream toStream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
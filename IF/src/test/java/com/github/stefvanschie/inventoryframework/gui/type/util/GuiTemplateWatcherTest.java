@@ -0,0 +1,69 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuiTemplateWatcherTest {
+
+    @Test
+    void testReload(@TempDir Path directory) throws Exception {
+        GuiTemplateRegistry registry = new GuiTemplateRegistry();
+        GuiTemplate<Gui> initial;
+
+        try (InputStream inputStream = Files.newInputStream(write(directory, "menu.xml", 1))) {
+            initial = GuiTemplate.compile(inputStream);
+        }
+
+        Logger logger = Logger.getAnonymousLogger();
+
+        logger.setLevel(Level.OFF);
+        registry.register("menu", initial);
+
+        try (GuiTemplateWatcher ignored = new GuiTemplateWatcher(directory, registry, Runnable::run, logger)) {
+            write(directory, "menu.xml", 2);
+
+            await(() -> registry.get("menu") != initial);
+
+            GuiTemplate<Gui> reloaded = registry.get("menu");
+
+            assertNotNull(registry.getTiming("menu"));
+
+            Files.write(directory.resolve("menu.xml"), "<gui".getBytes(StandardCharsets.UTF_8));
+            write(directory, "other.xml", 1);
+            Files.write(directory.resolve("notes.txt"), "notes".getBytes(StandardCharsets.UTF_8));
+
+            await(() -> registry.get("other") != null);
+
+            //the malformed file was skipped, so the previous template is still used
+            assertSame(reloaded, registry.get("menu"));
+            assertNull(registry.get("notes"));
+        }
+    }
+
+    private static Path write(Path directory, String fileName, int rows) throws Exception {
+        String xml = "<gui type=\"chest\" title=\"\" rows=\"" + rows + "\"/>";
+
+        return Files.write(directory.resolve(fileName), xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+
+            Thread.sleep(10);
+        }
+    }
+}
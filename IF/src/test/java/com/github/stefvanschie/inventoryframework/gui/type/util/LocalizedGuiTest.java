@@ -0,0 +1,141 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
+import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalizedGuiTest {
+
+    private static final Plugin PLUGIN = (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(),
+        new Class<?>[] {Plugin.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return "test";
+                case "getLogger":
+                    return Logger.getLogger("test");
+                default:
+                    return null;
+            }
+        });
+
+    @BeforeAll
+    static void setUp() throws ReflectiveOperationException {
+        //registering the listeners requires a server
+        Field field = Gui.class.getDeclaredField("hasRegisteredListeners");
+
+        field.setAccessible(true);
+        field.set(null, true);
+    }
+
+    @Test
+    void testOneCopyPerLocale() {
+        TestGui gui = new TestGui();
+        LocalizedGui<TestGui> localizedGui = new LocalizedGui<>(gui);
+
+        TestGui english = localizedGui.getGui("en_us");
+        TestGui german = localizedGui.getGui("de_de");
+
+        assertNotSame(gui, english);
+        assertNotSame(english, german);
+        assertSame(english, localizedGui.getGui("en_us"));
+        assertSame(german, localizedGui.getGui("de_de"));
+        assertEquals(2, gui.copies);
+
+        assertNull(gui.component.getLocale());
+        assertEquals("en_us", english.component.getLocale());
+        assertEquals("de_de", german.component.getLocale());
+    }
+
+    @Test
+    void testInvalidate() {
+        LocalizedGui<TestGui> localizedGui = new LocalizedGui<>(new TestGui());
+        TestGui english = localizedGui.getGui("en_us");
+
+        localizedGui.invalidate();
+
+        TestGui newEnglish = localizedGui.getGui("en_us");
+
+        assertNotSame(english, newEnglish);
+        assertSame(newEnglish, localizedGui.getGui("en_us"));
+    }
+
+    @Test
+    void testTitleRequiresNamedGui() {
+        LocalizedGui<TestGui> localizedGui = new LocalizedGui<>(new TestGui());
+
+        assertThrows(IllegalStateException.class, () -> localizedGui.setTitle(StringHolder::of));
+    }
+
+    /**
+     * A gui with a single inventory component, which doesn't require a server
+     */
+    private static final class TestGui extends Gui {
+
+        @NotNull
+        private InventoryComponent component = new InventoryComponent(1, 1);
+
+        /**
+         * The amount of copies made of this gui
+         */
+        private int copies;
+
+        private TestGui() {
+            super(PLUGIN);
+        }
+
+        @Override
+        public void show(@NotNull HumanEntity humanEntity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @NotNull
+        @Override
+        public TestGui copy() {
+            TestGui gui = new TestGui();
+
+            gui.component = component.copy();
+            copies++;
+
+            return gui;
+        }
+
+        @Override
+        public void click(@NotNull InventoryClickEvent event) {}
+
+        @Override
+        public boolean isPlayerInventoryUsed() {
+            return false;
+        }
+
+        @Override
+        public int getViewerCount() {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public List<HumanEntity> getViewers() {
+            return Collections.emptyList();
+        }
+
+        @NotNull
+        @Override
+        public Collection<InventoryComponent> getInventoryComponents() {
+            return Collections.singletonList(component);
+        }
+    }
+}
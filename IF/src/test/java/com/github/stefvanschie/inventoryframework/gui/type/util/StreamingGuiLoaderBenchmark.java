@@ -0,0 +1,148 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the time and memory needed to read a large gui definition with a regular document builder and with the
+ * {@link StreamingGuiLoader}. Only runs when the benchmark system property is set to true, for example via
+ * {@code mvn test -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class StreamingGuiLoaderBenchmark {
+
+    private static final int PAGES = 900;
+
+    private static final int ITEMS_PER_PAGE = 45;
+
+    private static Path fixture;
+
+    @BeforeAll
+    static void generateFixture() throws Exception {
+        fixture = Files.createTempFile("inventoryframework-benchmark", ".xml");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(fixture, StandardCharsets.UTF_8)) {
+            writer.write("<chestgui title=\"Benchmark\" rows=\"6\">\n  <paginatedpane x=\"0\" y=\"0\" length=\"9\" height=\"5\">\n");
+
+            for (int page = 0; page < PAGES; page++) {
+                writer.write("    <page>\n      <staticpane x=\"0\" y=\"0\" length=\"9\" height=\"5\">\n");
+
+                for (int item = 0; item < ITEMS_PER_PAGE; item++) {
+                    writer.write("        <item id=\"diamond_sword\" x=\"" + item % 9 + "\" y=\"" + item / 9 + "\">\n");
+                    writer.write("          <displayname>Item " + page + "-" + item + "</displayname>\n");
+                    writer.write("          <lore>\n            <line>Page " + page + "</line>\n");
+                    writer.write("            <line>A somewhat longer line of lore to give the item some weight</line>\n");
+                    writer.write("          </lore>\n        </item>\n");
+                }
+
+                writer.write("      </staticpane>\n    </page>\n");
+            }
+
+            writer.write("  </paginatedpane>\n</chestgui>\n");
+        }
+
+        System.out.println("Fixture size: " + Files.size(fixture) / 1024 + " KiB");
+    }
+
+    @AfterAll
+    static void deleteFixture() throws Exception {
+        Files.deleteIfExists(fixture);
+    }
+
+    @Test
+    void benchmark() throws Exception {
+        //warm up both parsers before measuring
+        readDocument();
+        readStreaming();
+
+        long documentStart = System.nanoTime();
+        int documentItems = readDocument();
+        long documentTime = System.nanoTime() - documentStart;
+
+        long streamingStart = System.nanoTime();
+        int streamingItems = readStreaming();
+        long streamingTime = System.nanoTime() - streamingStart;
+
+        assertEquals(PAGES * ITEMS_PER_PAGE, documentItems);
+        assertEquals(documentItems, streamingItems);
+
+        System.out.println("Document builder: " + documentTime / 1_000_000 + " ms, " + retainedByDocument() / 1024 +
+            " KiB retained");
+        System.out.println("Streaming loader: " + streamingTime / 1_000_000 + " ms, " + retainedByStreaming() / 1024 +
+            " KiB retained at the largest pane");
+    }
+
+    private static int readDocument() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(fixture)) {
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(inputStream);
+
+            return document.getElementsByTagName("item").getLength();
+        }
+    }
+
+    private static int readStreaming() throws Exception {
+        AtomicInteger items = new AtomicInteger();
+
+        try (InputStream inputStream = Files.newInputStream(fixture)) {
+            StreamingGuiLoader.read(inputStream, name -> name.endsWith("pane"),
+                element -> items.addAndGet(element.getElementsByTagName("item").getLength()));
+        }
+
+        return items.get();
+    }
+
+    private static long retainedByDocument() throws Exception {
+        long before = usedMemory();
+
+        try (InputStream inputStream = Files.newInputStream(fixture)) {
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(inputStream);
+            long after = usedMemory();
+
+            //keep the document reachable until it has been measured
+            assertNotNull(document.getDocumentElement());
+
+            return after - before;
+        }
+    }
+
+    private static long retainedByStreaming() throws Exception {
+        long before = usedMemory();
+        long[] peak = new long[1];
+
+        try (InputStream inputStream = Files.newInputStream(fixture)) {
+            Element root = StreamingGuiLoader.read(inputStream, name -> name.endsWith("pane"), element -> {
+                if (element.getTagName().equals("staticpane") && peak[0] == 0) {
+                    peak[0] = usedMemory() - before;
+                }
+            });
+
+            assertNotNull(root);
+        }
+
+        return peak[0];
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
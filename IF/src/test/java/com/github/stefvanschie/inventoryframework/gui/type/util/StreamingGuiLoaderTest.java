@@ -0,0 +1,74 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StreamingGuiLoaderTest {
+
+    @Test
+    void testRead() {
+        List<String> panes = new ArrayList<>();
+        Element root = StreamingGuiLoader.read(toStream(
+            "<gui type=\"chest\"><paginatedpane id=\"pages\"><page><staticpane><item id=\"stone\"/>" +
+                "<item id=\"dirt\"/></staticpane></page></paginatedpane></gui>"
+        ), name -> name.endsWith("pane"), element ->
+            panes.add(element.getTagName() + " " + element.getElementsByTagName("item").getLength()));
+
+        assertEquals(Arrays.asList("staticpane 2", "paginatedpane 0"), panes);
+        assertEquals("chest", root.getAttribute("type"));
+
+        Element paginatedPane = (Element) root.getFirstChild();
+
+        assertEquals("pages", paginatedPane.getAttribute("id"));
+        assertFalse(paginatedPane.hasChildNodes());
+    }
+
+    @Test
+    void testReadText() {
+        List<String> texts = new ArrayList<>();
+
+        StreamingGuiLoader.read(toStream(
+            "<gui><staticpane><item id=\"stone\"><lore><line>first &amp; <![CDATA[second]]></line></lore></item>" +
+                "</staticpane></gui>"
+        ), name -> name.equals("staticpane"), element -> texts.add(element.getTextContent()));
+
+        assertEquals(Collections.singletonList("first & second"), texts);
+    }
+
+    @Test
+    void testReadPopulate() {
+        List<String> panes = new ArrayList<>();
+
+        StreamingGuiLoader.read(toStream("<gui populate=\"populate\"><staticpane/></gui>"),
+            name -> name.equals("staticpane"), element -> panes.add(element.getTagName()));
+
+        assertTrue(panes.isEmpty());
+
+        StreamingGuiLoader.read(toStream(
+            "<gui><paginatedpane populate=\"populate\"><page><staticpane/></page></paginatedpane></gui>"
+        ), name -> name.endsWith("pane"), element -> panes.add(element.getTagName()));
+
+        assertEquals(Collections.singletonList("paginatedpane"), panes);
+    }
+
+    @Test
+    void testReadMalformed() {
+        assertThrows(XMLLoadException.class,
+            () -> StreamingGuiLoader.read(toStream("<gui><staticpane></gui>"), name -> true, element -> {}));
+    }
+
+    private static InputStream toStream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
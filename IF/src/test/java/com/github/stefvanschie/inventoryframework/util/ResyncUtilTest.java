@@ -0,0 +1,78 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResyncUtilTest {
+
+    @Test
+    void testPickupAndPlace() {
+        Collection<Integer> slots = ResyncUtil.getDesyncedSlots(
+            InventoryAction.PICKUP_ALL, ClickType.LEFT, 5, -1, 2
+        );
+
+        assertEquals(new HashSet<>(Arrays.asList(5, ResyncUtil.CURSOR)), new HashSet<>(slots));
+
+        slots = ResyncUtil.getDesyncedSlots(InventoryAction.PLACE_ONE, ClickType.RIGHT, 0, -1, 2);
+
+        assertEquals(new HashSet<>(Arrays.asList(0, ResyncUtil.CURSOR)), new HashSet<>(slots));
+    }
+
+    @Test
+    void testDrop() {
+        assertEquals(Collections.singleton(ResyncUtil.CURSOR), new HashSet<>(ResyncUtil.getDesyncedSlots(
+            InventoryAction.DROP_ALL_CURSOR, ClickType.WINDOW_BORDER_LEFT, -999, -1, 2
+        )));
+        assertEquals(Collections.singleton(7), new HashSet<>(ResyncUtil.getDesyncedSlots(
+            InventoryAction.DROP_ONE_SLOT, ClickType.DROP, 7, -1, 2
+        )));
+    }
+
+    @Test
+    void testHotbarSwap() {
+        Collection<Integer> slots = ResyncUtil.getDesyncedSlots(
+            InventoryAction.HOTBAR_SWAP, ClickType.NUMBER_KEY, 1, 3, 2
+        );
+
+        assertEquals(new HashSet<>(Arrays.asList(1, 2 + 27 + 3)), new HashSet<>(slots));
+    }
+
+    @Test
+    void testOffHandSwap() {
+        Collection<Integer> slots = ResyncUtil.getDesyncedSlots(
+            InventoryAction.HOTBAR_SWAP, ClickType.SWAP_OFFHAND, 1, 40, 2
+        );
+
+        assertEquals(new HashSet<>(Arrays.asList(1, ResyncUtil.OFF_HAND)), new HashSet<>(slots));
+    }
+
+    @Test
+    void testLinkedSlots() {
+        //clicking the input of a stonecutter changes its result as well, which is not part of the desynced slots
+        Collection<Integer> slots = ResyncUtil.getDesyncedSlots(
+            InventoryAction.PICKUP_ALL, ClickType.LEFT, 0, -1, 2
+        );
+
+        assertEquals(new HashSet<>(Arrays.asList(0, ResyncUtil.CURSOR)), new HashSet<>(slots));
+        assertFalse(slots.contains(1));
+
+        slots = ResyncUtil.getDesyncedSlots(InventoryAction.HOTBAR_SWAP, ClickType.NUMBER_KEY, 0, 3, 2);
+
+        assertFalse(slots.contains(1));
+    }
+
+    @Test
+    void testUnknownAmount() {
+        assertNull(ResyncUtil.getDesyncedSlots(InventoryAction.MOVE_TO_OTHER_INVENTORY, ClickType.SHIFT_LEFT, 4, -1, 2));
+        assertNull(ResyncUtil.getDesyncedSlots(InventoryAction.COLLECT_TO_CURSOR, ClickType.DOUBLE_CLICK, 4, -1, 2));
+        assertNull(ResyncUtil.getDesyncedSlots(InventoryAction.UNKNOWN, ClickType.UNKNOWN, 4, -1, 2));
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class XMLUtilTest {
+
+    @Test
+    void testLoadOnEventAttribute() throws Exception {
+        Listener listener = new Listener();
+        Element element = parse("<gui onClose=\"close\" onTopClick=\"missing\"/>");
+
+        Consumer<InventoryCloseEvent> consumer = XMLUtil.loadOnEventAttribute(listener, element,
+            InventoryCloseEvent.class, "onClose");
+
+        assertNotNull(consumer);
+        assertNull(XMLUtil.loadOnEventAttribute(listener, element, InventoryClickEvent.class, "onTopClick"));
+
+        consumer.accept(null);
+        consumer.accept(null);
+
+        assertEquals(Arrays.asList("close", "close"), listener.calls);
+    }
+
+    @Test
+    void testLoadOnClickAttribute() throws Exception {
+        Listener listener = new Listener();
+        Element element = parse("<item onClick=\"click\"/>");
+
+        Consumer<InventoryClickEvent> consumer = XMLUtil.loadOnClickAttribute(listener, element,
+            Arrays.asList(5, "five"));
+
+        assertNotNull(consumer);
+
+        consumer.accept(null);
+        consumer.accept(null);
+
+        assertEquals(Arrays.asList("click 5 five", "click 5 five"), listener.calls);
+        assertNull(XMLUtil.loadOnClickAttribute(listener, element, Collections.singletonList("five")));
+    }
+
+    @Test
+    void testInvokeMethods() {
+        Listener listener = new Listener();
+
+        XMLUtil.invokeMethods(listener, "populate", "value");
+        XMLUtil.invokeMethod(listener, "populate", "other", String.class);
+
+        assertEquals(Arrays.asList("populate value", "populate other"), listener.calls);
+    }
+
+    @Test
+    void testLoadFieldAttribute() throws Exception {
+        Listener listener = new Listener();
+
+        XMLUtil.loadFieldAttribute(listener, parse("<item field=\"field\"/>"), "value");
+
+        assertEquals("value", listener.field);
+    }
+
+    @Test
+    void testBinder() throws Exception {
+        Listener listener = new Listener();
+        XMLBinder binder = new ListenerBinder(listener);
+
+        XMLUtil.loadFieldAttribute(binder, parse("<item field=\"field\"/>"), "value");
+        XMLUtil.invokeMethods(binder, "populate", "value");
+
+        Consumer<InventoryCloseEvent> consumer = XMLUtil.loadOnEventAttribute(binder, parse("<gui onClose=\"close\"/>"),
+            InventoryCloseEvent.class, "onClose");
+
+        assertNotNull(consumer);
+
+        consumer.accept(null);
+
+        assertEquals("value", listener.field);
+        assertEquals(Arrays.asList("populate value", "close"), listener.calls);
+        assertNull(XMLUtil.loadOnClickAttribute(binder, parse("<item onClick=\"click\"/>"), Collections.emptyList()));
+    }
+
+    private static Element parse(String xml) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)))
+            .getDocumentElement();
+    }
+
+    public static class Listener {
+
+        public String field;
+
+        private final List<String> calls = new ArrayList<>();
+
+        public void close() {
+            calls.add("close");
+        }
+
+        public void click(InventoryClickEvent event, int amount, String name) {
+            calls.add("click " + amount + " " + name);
+        }
+
+        public void populate(String value) {
+            calls.add("populate " + value);
+        }
+    }
+
+    private static class ListenerBinder implements XMLBinder {
+
+        private final Listener listener;
+
+        private ListenerBinder(Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public Object getInstance() {
+            return listener;
+        }
+
+        @Override
+        public void setField(String name, Object value) {
+            listener.field = (String) value;
+        }
+
+        @Override
+        public <T extends Event> Consumer<T> getEventHandler(String name, Class<T> eventType) {
+            return event -> listener.close();
+        }
+
+        @Override
+        public Consumer<InventoryClickEvent> getClickHandler(String name, List<?> properties) {
+            return null;
+        }
+
+        @Override
+        public void invoke(String name, Object argument) {
+            listener.populate((String) argument);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.stefvanschie.inventoryframework.util.version;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares loading the implementations of every version, which used to happen when the {@link VersionMatcher} class
+ * was initialized, with loading only the implementations of the version the server runs on. Both are measured in a
+ * fresh class loader, reporting the time, the amount of loaded classes and the growth of the metaspace. Linking and
+ * initializing the implementations requires a server and comes on top of this. Only runs when the benchmark system
+ * property is set to true, for example via {@code mvn test -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class VersionMatcherBenchmark {
+
+    @Test
+    void benchmark() throws Exception {
+        long[] all = load(Version.values());
+        long[] current = load(Version.V1_21_2_3);
+
+        assertTrue(current[1] < all[1]);
+
+        System.out.println("All versions: " + all[0] / 1_000_000.0 + " ms, " + all[1] + " classes, " +
+            all[2] / 1024 + " KiB metaspace");
+        System.out.println("Single version: " + current[0] / 1_000_000.0 + " ms, " + current[1] + " classes, " +
+            current[2] / 1024 + " KiB metaspace");
+    }
+
+    /**
+     * Loads the implementations of the specified versions in a fresh class loader.
+     *
+     * @return the time in nanoseconds, the amount of loaded classes and the growth of the metaspace in bytes
+     */
+    private static long[] load(Version... versions) throws Exception {
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+
+        //a separate class loader, so no implementation has been loaded yet, even if other tests loaded them already
+        ClassLoader parent = ClassLoader.getSystemClassLoader().getParent();
+
+        try (URLClassLoader classLoader = new URLClassLoader(classPath(), parent)) {
+            long classes = classLoading.getTotalLoadedClassCount();
+            long metaspace = metaspace();
+            long start = System.nanoTime();
+
+            Class<?> versionMatcher = Class.forName(VersionMatcher.class.getName(), true, classLoader);
+            Class<?> version = Class.forName(Version.class.getName(), true, classLoader);
+            Method loadImplementations = versionMatcher.getDeclaredMethod("loadImplementations", version);
+
+            loadImplementations.setAccessible(true);
+
+            for (Version value : versions) {
+                Object loaded = loadImplementations.invoke(null, version.getField(value.name()).get(null));
+
+                assertFalse(((Set<?>) loaded).isEmpty());
+            }
+
+            long time = System.nanoTime() - start;
+
+            return new long[] {
+                time, classLoading.getTotalLoadedClassCount() - classes, metaspace() - metaspace
+            };
+        }
+    }
+
+    private static long metaspace() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getName().equals("Metaspace")) {
+                return pool.getUsage().getUsed();
+            }
+        }
+
+        return 0;
+    }
+
+    private static URL[] classPath() throws Exception {
+        List<URL> urls = new ArrayList<>();
+
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            urls.add(new File(entry).toURI().toURL());
+        }
+
+        return urls.toArray(new URL[0]);
+    }
+}
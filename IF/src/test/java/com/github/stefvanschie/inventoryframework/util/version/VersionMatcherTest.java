@@ -0,0 +1,37 @@
+package com.github.stefvanschie.inventoryframework.util.version;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VersionMatcherTest {
+
+    @Test
+    void testLoadImplementations() {
+        for (Version version : Version.values()) {
+            int expected = 8;
+
+            if (version.existsModernSmithingTable()) {
+                expected++;
+            }
+
+            if (version.existsLegacySmithingTable() && version != Version.V1_14 && version != Version.V1_15) {
+                expected++;
+            }
+
+            if (version.supportsVirtualInventories()) {
+                expected++;
+            }
+
+            Set<Class<?>> implementations = VersionMatcher.loadImplementations(version);
+
+            assertEquals(expected, implementations.size(), version.name());
+
+            for (Class<?> implementation : implementations) {
+                assertTrue(implementation.getName().startsWith("com.github.stefvanschie.inventoryframework.nms."));
+            }
+        }
+    }
+}
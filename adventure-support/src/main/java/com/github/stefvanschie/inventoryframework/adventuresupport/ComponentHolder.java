@@ -115,6 +115,19 @@ public abstract class ComponentHolder extends TextHolder {
     @NotNull
     protected final Component value;
     
+    /**
+     * The wrapped value as a legacy string, or null if it hasn't been serialized yet. Since the wrapped value never
+     * changes, it only has to be serialized once.
+     */
+    @Nullable
+    private volatile String legacyString;
+    
+    /**
+     * The hash code of the wrapped value, or zero if it hasn't been computed yet. Computing the hash code of a
+     * component visits all of its children, which is relevant since holders are used as keys of caches.
+     */
+    private int hashCode;
+    
     /**
      * Creates and initializes a new instance.
      *
@@ -149,6 +162,20 @@ public abstract class ComponentHolder extends TextHolder {
         return GsonComponentSerializer.gson().serializeToTree(value);
     }
     
+    /**
+     * Gets the wrapped Adventure component as a component of the server itself, without going through JSON. This is
+     * only possible on platforms which natively support Adventure and expose a conversion, such as Paper. The returned
+     * object is an instance of the server's own component class, so its type depends on the server version.
+     *
+     * @return the contained Adventure component as a server component, or null if no direct conversion is available
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public Object asVanillaComponent() {
+        return null;
+    }
+    
     @NotNull
     @Contract(pure = true)
     @Override
@@ -158,7 +185,14 @@ public abstract class ComponentHolder extends TextHolder {
     
     @Override
     public int hashCode() {
-        return value.hashCode();
+        int hashCode = this.hashCode;
+        
+        if (hashCode == 0) {
+            hashCode = value.hashCode();
+            this.hashCode = hashCode;
+        }
+        
+        return hashCode;
     }
     
     @Override
@@ -171,6 +205,13 @@ public abstract class ComponentHolder extends TextHolder {
     @Contract(pure = true)
     @Override
     public String asLegacyString() {
-        return getLegacySerializer().serialize(value);
+        String legacyString = this.legacyString;
+        
+        if (legacyString == null) {
+            legacyString = getLegacySerializer().serialize(value);
+            this.legacyString = legacyString;
+        }
+        
+        return legacyString;
     }
 }
@@ -9,10 +9,16 @@ import org.bukkit.inventory.Merchant;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * A {@link ComponentHolder} implementation for platforms where Adventure is natively supported.
@@ -23,6 +29,14 @@ import java.util.Objects;
  */
 class NativeComponentHolder extends ComponentHolder {
     
+    /**
+     * The handle of Paper's method for converting Adventure components to server components, taking and returning an
+     * object. A null value indicates that we haven't looked for the method yet.
+     * This field should not be used directly, use {@link #getAsVanilla()} instead.
+     */
+    @Nullable
+    private static volatile Optional<MethodHandle> asVanilla;
+    
     /**
      * Creates and initializes a new instance.
      *
@@ -54,6 +68,23 @@ class NativeComponentHolder extends ComponentHolder {
         return Bukkit.createMerchant(value);
     }
 
+    @Nullable
+    @Contract(pure = true)
+    @Override
+    public Object asVanillaComponent() {
+        MethodHandle asVanilla = getAsVanilla().orElse(null);
+        
+        if (asVanilla == null) {
+            return null;
+        }
+        
+        try {
+            return (Object) asVanilla.invokeExact((Object) value);
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+    
     @Override
     public void asItemDisplayName(ItemMeta meta) {
         meta.displayName(value);
@@ -67,4 +98,32 @@ class NativeComponentHolder extends ComponentHolder {
         lore.add(value);
         meta.lore(lore);
     }
+    
+    /**
+     * Gets the handle of Paper's method for converting Adventure components to server components, looking it up if
+     * this hasn't happened yet.
+     *
+     * @return the handle, or an empty optional if the platform doesn't have this method
+     * @since 0.10.19
+     */
+    @NotNull
+    private static Optional<MethodHandle> getAsVanilla() {
+        Optional<MethodHandle> handle = asVanilla;
+        
+        if (handle == null) {
+            try {
+                Class<?> paperAdventure = Class.forName("io.papermc.paper.adventure.PaperAdventure");
+                Method method = paperAdventure.getMethod("asVanilla", Component.class);
+                
+                handle = Optional.of(MethodHandles.publicLookup().unreflect(method)
+                        .asType(MethodType.methodType(Object.class, Object.class)));
+            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException exception) {
+                handle = Optional.empty();
+            }
+            
+            asVanilla = handle;
+        }
+        
+        return handle;
+    }
 }
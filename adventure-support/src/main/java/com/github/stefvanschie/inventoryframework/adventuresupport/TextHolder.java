@@ -10,6 +10,9 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Immutable wrapper of a text-like value.
  * Support for both Adventure and legacy strings is achieved through this class.
@@ -24,6 +27,24 @@ import org.jetbrains.annotations.NotNull;
  */
 public abstract class TextHolder {
     
+    /**
+     * The maximum amount of deserialized holders to keep in {@link #DESERIALIZED}
+     */
+    private static final int MAXIMUM_DESERIALIZED = 1024;
+    
+    /**
+     * The most recently deserialized holders by the string they were deserialized from. Guis loaded from XML often use
+     * the same titles and lore lines many times, which then share a single holder and are only translated once.
+     */
+    @NotNull
+    private static final Map<String, TextHolder> DESERIALIZED =
+            new LinkedHashMap<String, TextHolder>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(@NotNull Map.Entry<String, TextHolder> eldest) {
+                    return size() > MAXIMUM_DESERIALIZED;
+                }
+            };
+    
     /**
      * Gets an instance that contains no characters and no formatting.
      *
@@ -51,7 +72,26 @@ public abstract class TextHolder {
     @NotNull
     @Contract(pure = true)
     public static TextHolder deserialize(@NotNull String string) {
-        return StringHolder.of(ChatColor.translateAlternateColorCodes('&', string));
+        TextHolder holder;
+        
+        synchronized (DESERIALIZED) {
+            holder = DESERIALIZED.get(string);
+        }
+        
+        if (holder != null) {
+            return holder;
+        }
+        
+        //most strings contain no color codes at all, which makes translating them unnecessary
+        String translated = string.indexOf('&') == -1 ? string : ChatColor.translateAlternateColorCodes('&', string);
+        
+        holder = translated.isEmpty() ? StringHolder.empty() : StringHolder.of(translated);
+        
+        synchronized (DESERIALIZED) {
+            DESERIALIZED.put(string, holder);
+        }
+        
+        return holder;
     }
     
     TextHolder() {
@@ -0,0 +1,89 @@
+package com.github.stefvanschie.inventoryframework.adventuresupport;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A cache of the conversions of text holders into another representation, such as components of the server itself.
+ * Holders are compared by equality, so equal holders are only converted once, even if they are different instances.
+ * Only the most recently used conversions are kept. The converted values are shared between all users of the cache, so
+ * they shouldn't be modified.
+ *
+ * @param <T> the type of the converted values
+ * @since 0.10.19
+ */
+public final class TextHolderCache<T> {
+    
+    /**
+     * The amount of conversions kept when no other amount is specified
+     */
+    private static final int DEFAULT_MAXIMUM_SIZE = 256;
+    
+    /**
+     * The function converting holders that aren't cached yet
+     */
+    @NotNull
+    private final Function<? super TextHolder, ? extends T> converter;
+    
+    /**
+     * The most recently used conversions by their holder
+     */
+    @NotNull
+    private final Map<TextHolder, T> conversions;
+    
+    /**
+     * Creates a new cache which keeps the specified amount of conversions.
+     *
+     * @param converter the function converting holders that aren't cached yet
+     * @param maximumSize the maximum amount of conversions to keep
+     * @since 0.10.19
+     */
+    public TextHolderCache(@NotNull Function<? super TextHolder, ? extends T> converter, int maximumSize) {
+        this.converter = converter;
+        this.conversions = new LinkedHashMap<TextHolder, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(@NotNull Map.Entry<TextHolder, T> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+    
+    /**
+     * Creates a new cache which keeps the 256 most recently used conversions.
+     *
+     * @param converter the function converting holders that aren't cached yet
+     * @since 0.10.19
+     */
+    public TextHolderCache(@NotNull Function<? super TextHolder, ? extends T> converter) {
+        this(converter, DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    /**
+     * Gets the conversion of the specified holder, converting it if it isn't cached yet.
+     *
+     * @param holder the holder to convert
+     * @return the converted value
+     * @since 0.10.19
+     */
+    @NotNull
+    public T get(@NotNull TextHolder holder) {
+        T value;
+        
+        synchronized (conversions) {
+            value = conversions.get(holder);
+        }
+        
+        if (value == null) {
+            value = converter.apply(holder);
+            
+            synchronized (conversions) {
+                conversions.put(holder, value);
+            }
+        }
+        
+        return value;
+    }
+}
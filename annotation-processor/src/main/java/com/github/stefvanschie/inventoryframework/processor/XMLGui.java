@@ -0,0 +1,39 @@
+package com.github.stefvanschie.inventoryframework.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class as the controller of an XML gui. At compile time, a class is generated next to the controller which
+ * creates the gui, binding the fields and methods referenced in the XML to the controller without reflection. Fields
+ * and methods referenced in the XML that don't exist on the controller, or that have an incompatible type, are
+ * reported as compile errors.
+ * <p>
+ * The root element of the XML must specify the type of gui with the type attribute, like for guis loaded via
+ * {@code Gui.load}. For a controller named {@code ShopMenu}, the generated class is named {@code ShopMenuGui} and
+ * provides a {@code create(ShopMenu)} method.
+ *
+ * @since 0.10.19
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface XMLGui {
+
+    /**
+     * The path of the XML resource, relative to the root of the resources, for example {@code "shop.xml"}.
+     *
+     * @return the path of the resource
+     * @since 0.10.19
+     */
+    String value();
+
+    /**
+     * The simple name of the generated class. If empty, the name of the controller followed by {@code Gui} is used.
+     *
+     * @return the name of the generated class
+     * @since 0.10.19
+     */
+    String name() default "";
+}
@@ -0,0 +1,1046 @@
+package com.github.stefvanschie.inventoryframework.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the classes creating the guis of controllers annotated with {@link XMLGui}. The generated classes load the
+ * XML via a gui template and bind its code references through a generated binder, which assigns fields and calls
+ * methods directly. All references are checked against the controller while compiling.
+ * <p>
+ * The XML is looked up in the class output, where build tools like Maven copy the resources to before compiling, and
+ * on the source path. Other directories can be provided with the {@value #RESOURCES_OPTION} option, separated by the
+ * platform's path separator.
+ *
+ * @since 0.10.19
+ */
+@SupportedAnnotationTypes("com.github.stefvanschie.inventoryframework.processor.XMLGui")
+@SupportedOptions(XMLGuiProcessor.RESOURCES_OPTION)
+public class XMLGuiProcessor extends AbstractProcessor {
+
+    /**
+     * The option specifying additional directories to look for XML resources in
+     */
+    @NotNull
+    static final String RESOURCES_OPTION = "inventoryframework.resources";
+
+    /**
+     * The root package of the framework
+     */
+    @NotNull
+    private static final String PACKAGE = "com.github.stefvanschie.inventoryframework";
+
+    /**
+     * The event types of the event attributes of the root element, by attribute name
+     */
+    @NotNull
+    private static final Map<String, String> GUI_EVENTS = new LinkedHashMap<>();
+
+    /**
+     * The classes of the built-in guis, by the value of their type attribute
+     */
+    @NotNull
+    private static final Map<String, String> GUI_TYPES = new HashMap<>();
+
+    /**
+     * The classes of the built-in panes and items, by tag name
+     */
+    @NotNull
+    private static final Map<String, String> ELEMENT_TYPES = new HashMap<>();
+
+    /**
+     * The classes of the built-in properties, by the value of their type attribute
+     */
+    @NotNull
+    private static final Map<String, String> PROPERTY_TYPES = new HashMap<>();
+
+    @NotNull
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(@NotNull Set<? extends TypeElement> annotations, @NotNull RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(XMLGui.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error("@XMLGui can only be applied to classes", element);
+                continue;
+            }
+
+            TypeElement controller = (TypeElement) element;
+
+            try {
+                generate(controller, controller.getAnnotation(XMLGui.class));
+            } catch (BindingException exception) {
+                error(exception.getMessage(), controller);
+            } catch (IOException exception) {
+                error("Unable to write generated gui: " + exception.getMessage(), controller);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Generates the class creating the gui of the specified controller
+     *
+     * @param controller the controller
+     * @param annotation the annotation on the controller
+     * @throws BindingException if the XML cannot be read or doesn't match the controller
+     * @throws IOException if the generated class cannot be written
+     * @since 0.10.19
+     */
+    private void generate(@NotNull TypeElement controller, @NotNull XMLGui annotation)
+        throws BindingException, IOException {
+        String resource = annotation.value();
+        org.w3c.dom.Element root = readResource(resource);
+
+        if (!root.hasAttribute("type")) {
+            throw new BindingException("The root element of '" + resource + "' must have a type attribute");
+        }
+
+        String guiType = GUI_TYPES.getOrDefault(root.getAttribute("type"), PACKAGE + ".gui.type.util.Gui");
+        Bindings bindings = new Bindings();
+
+        collect(root, guiType, true, bindings);
+
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(controller).getQualifiedName().toString();
+        String simpleName = annotation.name().isEmpty() ? controller.getSimpleName() + "Gui" : annotation.name();
+        String controllerType = controller.getQualifiedName().toString();
+
+        SourceWriter writer = new SourceWriter();
+
+        if (!packageName.isEmpty()) {
+            writer.line("package " + packageName + ";").line();
+        }
+
+        writer.line("/**")
+            .line(" * Creates the gui described by {@code " + resource + "} for {@link " + controllerType + "}.")
+            .line(" * Generated by " + XMLGuiProcessor.class.getName() + ", do not edit.")
+            .line(" */")
+            .line("@SuppressWarnings({\"unchecked\", \"rawtypes\"})")
+            .open("public final class " + simpleName)
+            .line()
+            .line("private static final String RESOURCE = \"" + resource.replace("\\", "\\\\")
+                .replace("\"", "\\\"") + "\";")
+            .line()
+            .line("private static " + PACKAGE + ".gui.type.util.GuiTemplate<" + PACKAGE +
+                ".gui.type.util.Gui> template;")
+            .line()
+            .line("private " + simpleName + "() {}")
+            .line()
+            .open("public static " + guiType + " create(" + controllerType + " controller, org.bukkit.plugin.Plugin " +
+                "plugin)")
+            .line("return (" + guiType + ") getTemplate().instantiate(new Binder(controller), plugin);")
+            .close()
+            .line()
+            .open("public static " + guiType + " create(" + controllerType + " controller)")
+            .line("return create(controller, org.bukkit.plugin.java.JavaPlugin.getProvidingPlugin(" + simpleName +
+                ".class));")
+            .close()
+            .line()
+            .open("private static synchronized " + PACKAGE + ".gui.type.util.GuiTemplate<" + PACKAGE +
+                ".gui.type.util.Gui> getTemplate()")
+            .open("if (template == null)")
+            .open("try (java.io.InputStream inputStream = " + simpleName +
+                ".class.getClassLoader().getResourceAsStream(RESOURCE))")
+            .open("if (inputStream == null)")
+            .line("throw new " + PACKAGE + ".exception.XMLLoadException(\"Resource '\" + RESOURCE + \"' cannot be " +
+                "found\");")
+            .close()
+            .line()
+            .line("template = " + PACKAGE + ".gui.type.util.GuiTemplate.compile(inputStream);")
+            .close("} catch (java.io.IOException exception) {")
+            .indent()
+            .line("throw new " + PACKAGE + ".exception.XMLLoadException(exception);")
+            .close()
+            .close()
+            .line()
+            .line("return template;")
+            .close()
+            .line()
+            .open("private static final class Binder implements " + PACKAGE + ".util.XMLBinder")
+            .line()
+            .line("private final " + controllerType + " controller;")
+            .line()
+            .open("private Binder(" + controllerType + " controller)")
+            .line("this.controller = controller;")
+            .close()
+            .line()
+            .line("@Override")
+            .open("public Object getInstance()")
+            .line("return this.controller;")
+            .close();
+
+        writeFields(writer, controller, resource, bindings);
+        writeEventHandlers(writer, controller, resource, bindings);
+        writeClickHandlers(writer, controller, resource, bindings);
+        writeInvocations(writer, controller, resource, bindings);
+
+        writer.close().close();
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        Filer filer = processingEnv.getFiler();
+
+        try (Writer sourceWriter = filer.createSourceFile(qualifiedName, controller).openWriter()) {
+            sourceWriter.write(writer.toString());
+        }
+    }
+
+    /**
+     * Collects the code references of the specified element and its children. Children of elements with a populate
+     * attribute are skipped, since those are not loaded.
+     *
+     * @param element the element
+     * @param type the class of the object created for this element, or null if it is unknown
+     * @param root whether this is the root element
+     * @param bindings the bindings to add the code references to
+     * @since 0.10.19
+     */
+    private static void collect(@NotNull org.w3c.dom.Element element, @Nullable String type, boolean root,
+                                @NotNull Bindings bindings) {
+        if (element.hasAttribute("field")) {
+            bindings.fields.computeIfAbsent(element.getAttribute("field"), name -> new ArrayList<>()).add(type);
+        }
+
+        if (root) {
+            for (Map.Entry<String, String> event : GUI_EVENTS.entrySet()) {
+                if (element.hasAttribute(event.getKey())) {
+                    bindings.events.computeIfAbsent(element.getAttribute(event.getKey()),
+                        name -> new LinkedHashSet<>()).add(event.getValue());
+                }
+            }
+        } else if (element.hasAttribute("onClick")) {
+            String name = element.getAttribute("onClick");
+
+            if (element.getTagName().equals("item")) {
+                bindings.clicks.computeIfAbsent(name, key -> new ArrayList<>()).add(getPropertyTypes(element));
+            } else {
+                bindings.events.computeIfAbsent(name, key -> new LinkedHashSet<>())
+                    .add("org.bukkit.event.inventory.InventoryClickEvent");
+            }
+        }
+
+        if (element.hasAttribute("populate")) {
+            bindings.populates.computeIfAbsent(element.getAttribute("populate"), name -> new ArrayList<>()).add(type);
+            return;
+        }
+
+        NodeList childNodes = element.getChildNodes();
+
+        for (int index = 0; index < childNodes.getLength(); index++) {
+            Node node = childNodes.item(index);
+
+            if (node.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+
+            org.w3c.dom.Element child = (org.w3c.dom.Element) node;
+
+            collect(child, ELEMENT_TYPES.get(child.getTagName()), false, bindings);
+        }
+    }
+
+    /**
+     * Gets the classes of the properties of an item element. Properties of types that are not built-in are null.
+     *
+     * @param element the item element
+     * @return the classes of the properties
+     * @since 0.10.19
+     */
+    @NotNull
+    private static List<String> getPropertyTypes(@NotNull org.w3c.dom.Element element) {
+        List<String> types = new ArrayList<>();
+        NodeList childNodes = element.getChildNodes();
+
+        for (int index = 0; index < childNodes.getLength(); index++) {
+            Node node = childNodes.item(index);
+
+            if (!node.getNodeName().equals("properties")) {
+                continue;
+            }
+
+            NodeList properties = node.getChildNodes();
+
+            for (int propertyIndex = 0; propertyIndex < properties.getLength(); propertyIndex++) {
+                Node property = properties.item(propertyIndex);
+
+                if (!property.getNodeName().equals("property")) {
+                    continue;
+                }
+
+                org.w3c.dom.Element propertyElement = (org.w3c.dom.Element) property;
+                String type = propertyElement.hasAttribute("type") ? propertyElement.getAttribute("type") : "string";
+
+                types.add(PROPERTY_TYPES.get(type));
+            }
+        }
+
+        return types;
+    }
+
+    /**
+     * Writes the method setting the fields
+     *
+     * @param writer the writer
+     * @param controller the controller
+     * @param resource the path of the XML
+     * @param bindings the bindings
+     * @throws BindingException if a field doesn't exist or has an incompatible type
+     * @since 0.10.19
+     */
+    private void writeFields(@NotNull SourceWriter writer, @NotNull TypeElement controller, @NotNull String resource,
+                             @NotNull Bindings bindings) throws BindingException {
+        Types types = processingEnv.getTypeUtils();
+
+        writer.line()
+            .line("@Override")
+            .open("public void setField(String name, Object value)")
+            .open("switch (name)");
+
+        for (Map.Entry<String, List<String>> entry : bindings.fields.entrySet()) {
+            String name = entry.getKey();
+            VariableElement field = findField(controller, name);
+
+            if (field == null) {
+                throw new BindingException("Field '" + name + "' referenced in '" + resource + "' does not exist " +
+                    "or is not public");
+            }
+
+            if (field.getModifiers().contains(Modifier.FINAL) || field.asType().getKind().isPrimitive()) {
+                throw new BindingException("Field '" + name + "' referenced in '" + resource + "' cannot be " +
+                    "assigned an object, since it is final or primitive");
+            }
+
+            TypeMirror fieldType = types.erasure(field.asType());
+
+            for (String valueType : entry.getValue()) {
+                TypeMirror valueMirror = getType(valueType);
+
+                if (valueMirror != null && !types.isAssignable(valueMirror, fieldType)) {
+                    throw new BindingException("Field '" + name + "' referenced in '" + resource + "' has type " +
+                        fieldType + ", but is assigned a " + valueType);
+                }
+            }
+
+            writer.line("case \"" + name + "\":")
+                .indent()
+                .line(getOwner(controller, field) + "." + name + " = (" + fieldType + ") value;")
+                .line("return;")
+                .outdent();
+        }
+
+        writer.line("default:")
+            .indent()
+            .line("throw new " + PACKAGE + ".exception.XMLLoadException(\"Field '\" + name + \"' is not bound\");")
+            .outdent()
+            .close()
+            .close();
+    }
+
+    /**
+     * Writes the method creating the event handlers
+     *
+     * @param writer the writer
+     * @param controller the controller
+     * @param resource the path of the XML
+     * @param bindings the bindings
+     * @throws BindingException if a method doesn't exist or has incompatible parameters
+     * @since 0.10.19
+     */
+    private void writeEventHandlers(@NotNull SourceWriter writer, @NotNull TypeElement controller,
+                                    @NotNull String resource, @NotNull Bindings bindings) throws BindingException {
+        Types types = processingEnv.getTypeUtils();
+
+        writer.line()
+            .line("@Override")
+            .open("public <T extends org.bukkit.event.Event> java.util.function.Consumer<T> getEventHandler(" +
+                "String name, Class<T> eventType)");
+
+        for (Map.Entry<String, Set<String>> entry : bindings.events.entrySet()) {
+            String name = entry.getKey();
+
+            for (String eventType : entry.getValue()) {
+                TypeMirror eventMirror = getRequiredType(eventType);
+                ExecutableElement handler = null;
+
+                for (ExecutableElement method : findMethods(controller, name)) {
+                    List<? extends VariableElement> parameters = method.getParameters();
+
+                    if (parameters.isEmpty() ||
+                        parameters.size() == 1 && types.isAssignable(parameters.get(0).asType(), eventMirror)) {
+                        handler = method;
+                        break;
+                    }
+                }
+
+                if (handler == null) {
+                    throw new BindingException("Method '" + name + "' referenced in '" + resource + "' does not " +
+                        "exist, is not public, or doesn't take either no parameters or a " + eventType);
+                }
+
+                String call = handler.getParameters().isEmpty()
+                    ? "()"
+                    : "((" + types.erasure(handler.getParameters().get(0).asType()) + ") event)";
+
+                writer.open("if (name.equals(\"" + name + "\") && eventType == " + eventType + ".class)")
+                    .line("return event -> " + getOwner(controller, handler) + "." + name + call + ";")
+                    .close()
+                    .line();
+            }
+        }
+
+        writer.line("return null;")
+            .close();
+    }
+
+    /**
+     * Writes the method creating the click handlers of items
+     *
+     * @param writer the writer
+     * @param controller the controller
+     * @param resource the path of the XML
+     * @param bindings the bindings
+     * @throws BindingException if a method doesn't exist or doesn't match the properties of an item
+     * @since 0.10.19
+     */
+    private void writeClickHandlers(@NotNull SourceWriter writer, @NotNull TypeElement controller,
+                                    @NotNull String resource, @NotNull Bindings bindings) throws BindingException {
+        Types types = processingEnv.getTypeUtils();
+
+        writer.line()
+            .line("@Override")
+            .open("public java.util.function.Consumer<org.bukkit.event.inventory.InventoryClickEvent> " +
+                "getClickHandler(String name, java.util.List<?> properties)");
+
+        for (Map.Entry<String, List<List<String>>> entry : bindings.clicks.entrySet()) {
+            String name = entry.getKey();
+            ExecutableElement handler = null;
+
+            for (ExecutableElement method : findMethods(controller, name)) {
+                if (acceptsClicks(method, entry.getValue())) {
+                    handler = method;
+                    break;
+                }
+            }
+
+            if (handler == null) {
+                throw new BindingException("Method '" + name + "' referenced in '" + resource + "' does not exist, " +
+                    "is not public, or doesn't match the properties of the items it is used for");
+            }
+
+            List<? extends VariableElement> parameters = handler.getParameters();
+            String owner = getOwner(controller, handler);
+
+            writer.open("if (name.equals(\"" + name + "\"))");
+
+            if (parameters.isEmpty()) {
+                writer.line("return event -> " + owner + "." + name + "();");
+            } else if (parameters.size() == 1) {
+                writer.line("return event -> " + owner + "." + name + "(event);");
+            } else {
+                StringBuilder arguments = new StringBuilder("event");
+
+                writer.open("if (properties.size() != " + (parameters.size() - 1) + ")")
+                    .line("return null;")
+                    .close()
+                    .line();
+
+                for (int index = 1; index < parameters.size(); index++) {
+                    TypeMirror parameterType = types.erasure(parameters.get(index).asType());
+                    String objectType = parameterType.getKind().isPrimitive()
+                        ? types.boxedClass(types.getPrimitiveType(parameterType.getKind())).getQualifiedName()
+                            .toString()
+                        : parameterType.toString();
+                    String property = "properties.get(" + (index - 1) + ")";
+
+                    writer.open("if (!(" + property + " instanceof " + objectType + "))")
+                        .line("return null;")
+                        .close()
+                        .line()
+                        .line(parameterType + " property" + index + " = (" + objectType + ") " + property + ";")
+                        .line();
+
+                    arguments.append(", property").append(index);
+                }
+
+                writer.line("return event -> " + owner + "." + name + "(" + arguments + ");");
+            }
+
+            writer.close()
+                .line();
+        }
+
+        writer.line("return null;")
+            .close();
+    }
+
+    /**
+     * Writes the method invoking the populate methods
+     *
+     * @param writer the writer
+     * @param controller the controller
+     * @param resource the path of the XML
+     * @param bindings the bindings
+     * @throws BindingException if no matching method exists
+     * @since 0.10.19
+     */
+    private void writeInvocations(@NotNull SourceWriter writer, @NotNull TypeElement controller,
+                                  @NotNull String resource, @NotNull Bindings bindings) throws BindingException {
+        Types types = processingEnv.getTypeUtils();
+
+        writer.line()
+            .line("@Override")
+            .open("public void invoke(String name, Object argument)")
+            .open("switch (name)");
+
+        for (Map.Entry<String, List<String>> entry : bindings.populates.entrySet()) {
+            String name = entry.getKey();
+            List<TypeMirror> parameterTypes = new ArrayList<>();
+            List<ExecutableElement> methods = new ArrayList<>();
+
+            for (ExecutableElement method : findMethods(controller, name)) {
+                if (method.getParameters().size() != 1) {
+                    continue;
+                }
+
+                TypeMirror parameterType = types.erasure(method.getParameters().get(0).asType());
+
+                if (!parameterType.getKind().isPrimitive()) {
+                    parameterTypes.add(parameterType);
+                    methods.add(method);
+                }
+            }
+
+            for (String argumentType : entry.getValue()) {
+                TypeMirror argumentMirror = getType(argumentType);
+
+                if (argumentMirror == null) {
+                    continue;
+                }
+
+                boolean accepted = false;
+
+                for (TypeMirror parameterType : parameterTypes) {
+                    accepted |= types.isAssignable(argumentMirror, parameterType);
+                }
+
+                if (!accepted) {
+                    throw new BindingException("Method '" + name + "' referenced in '" + resource + "' does not " +
+                        "exist, is not public, or doesn't take a single " + argumentType);
+                }
+            }
+
+            writer.line("case \"" + name + "\":")
+                .indent();
+
+            for (int index = 0; index < methods.size(); index++) {
+                TypeMirror parameterType = parameterTypes.get(index);
+
+                writer.line("if (argument instanceof " + parameterType + ")")
+                    .indent()
+                    .line(getOwner(controller, methods.get(index)) + "." + name + "((" + parameterType +
+                        ") argument);")
+                    .outdent();
+            }
+
+            writer.line("return;")
+                .outdent();
+        }
+
+        writer.line("default:")
+            .indent()
+            .line("throw new " + PACKAGE + ".exception.XMLLoadException(\"Method '\" + name + \"' is not bound\");")
+            .outdent()
+            .close()
+            .close();
+    }
+
+    /**
+     * Checks whether the specified method can be used as click handler for items with the specified properties. Like
+     * for reflective loading, the method may take no parameters, only the event, or the event followed by the
+     * properties.
+     *
+     * @param method the method
+     * @param propertyTypes the classes of the properties of every item the method is used for
+     * @return true if the method can be used, false otherwise
+     * @since 0.10.19
+     */
+    private boolean acceptsClicks(@NotNull ExecutableElement method, @NotNull List<List<String>> propertyTypes) {
+        Types types = processingEnv.getTypeUtils();
+        List<? extends VariableElement> parameters = method.getParameters();
+
+        if (parameters.isEmpty()) {
+            return true;
+        }
+
+        TypeMirror clickEvent = getType("org.bukkit.event.inventory.InventoryClickEvent");
+
+        if (clickEvent == null || !types.isAssignable(clickEvent, parameters.get(0).asType())) {
+            return false;
+        }
+
+        if (parameters.size() == 1) {
+            return true;
+        }
+
+        for (List<String> properties : propertyTypes) {
+            if (properties.size() != parameters.size() - 1) {
+                return false;
+            }
+
+            for (int index = 0; index < properties.size(); index++) {
+                TypeMirror propertyType = getType(properties.get(index));
+                TypeMirror parameterType = parameters.get(index + 1).asType();
+
+                if (propertyType == null) {
+                    continue;
+                }
+
+                if (parameterType.getKind().isPrimitive()) {
+                    parameterType = types.boxedClass(types.getPrimitiveType(parameterType.getKind())).asType();
+                }
+
+                if (!types.isAssignable(propertyType, parameterType)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the public field with the specified name of the controller, including inherited fields
+     *
+     * @param controller the controller
+     * @param name the name of the field
+     * @return the field, or null if no such public field exists
+     * @since 0.10.19
+     */
+    @Nullable
+    private VariableElement findField(@NotNull TypeElement controller, @NotNull String name) {
+        for (Element member : processingEnv.getElementUtils().getAllMembers(controller)) {
+            if (member.getKind() == ElementKind.FIELD && member.getModifiers().contains(Modifier.PUBLIC) &&
+                member.getSimpleName().contentEquals(name)) {
+                return (VariableElement) member;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the public methods with the specified name of the controller, including inherited methods
+     *
+     * @param controller the controller
+     * @param name the name of the methods
+     * @return the methods
+     * @since 0.10.19
+     */
+    @NotNull
+    private List<ExecutableElement> findMethods(@NotNull TypeElement controller, @NotNull String name) {
+        List<ExecutableElement> methods = new ArrayList<>();
+
+        for (Element member : processingEnv.getElementUtils().getAllMembers(controller)) {
+            if (member.getKind() == ElementKind.METHOD && member.getModifiers().contains(Modifier.PUBLIC) &&
+                member.getSimpleName().contentEquals(name)) {
+                methods.add((ExecutableElement) member);
+            }
+        }
+
+        return methods;
+    }
+
+    /**
+     * Gets the expression on which the specified member of the controller is accessed in the binder
+     *
+     * @param controller the controller
+     * @param member the member
+     * @return the expression
+     * @since 0.10.19
+     */
+    @NotNull
+    private static String getOwner(@NotNull TypeElement controller, @NotNull Element member) {
+        if (member.getModifiers().contains(Modifier.STATIC)) {
+            return controller.getQualifiedName().toString();
+        }
+
+        return "this.controller";
+    }
+
+    /**
+     * Gets the type of the specified class
+     *
+     * @param name the fully qualified name of the class, or null
+     * @return the type, or null if the name is null or the class is not on the class path
+     * @since 0.10.19
+     */
+    @Nullable
+    private TypeMirror getType(@Nullable String name) {
+        if (name == null) {
+            return null;
+        }
+
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+
+        if (element == null) {
+            return null;
+        }
+
+        return processingEnv.getTypeUtils().erasure(element.asType());
+    }
+
+    /**
+     * Gets the type of the specified class, which must be on the class path
+     *
+     * @param name the fully qualified name of the class
+     * @return the type
+     * @throws BindingException if the class is not on the class path
+     * @since 0.10.19
+     */
+    @NotNull
+    private TypeMirror getRequiredType(@NotNull String name) throws BindingException {
+        TypeMirror type = getType(name);
+
+        if (type == null) {
+            throw new BindingException("Class " + name + " cannot be found; is the server API on the class path?");
+        }
+
+        return type;
+    }
+
+    /**
+     * Reads the XML resource at the specified path and returns its root element
+     *
+     * @param path the path of the resource
+     * @return the root element
+     * @throws BindingException if the resource cannot be found or read
+     * @since 0.10.19
+     */
+    @NotNull
+    private org.w3c.dom.Element readResource(@NotNull String path) throws BindingException {
+        String directories = processingEnv.getOptions().get(RESOURCES_OPTION);
+
+        if (directories != null) {
+            for (String directory : directories.split(File.pathSeparator)) {
+                File file = new File(directory, path);
+
+                if (!file.isFile()) {
+                    continue;
+                }
+
+                try (InputStream inputStream = new FileInputStream(file)) {
+                    return parse(inputStream, path);
+                } catch (IOException exception) {
+                    throw new BindingException("Unable to read '" + path + "': " + exception.getMessage());
+                }
+            }
+        }
+
+        Filer filer = processingEnv.getFiler();
+
+        for (StandardLocation location : new StandardLocation[] {StandardLocation.CLASS_OUTPUT,
+            StandardLocation.SOURCE_PATH}) {
+            InputStream inputStream;
+
+            try {
+                FileObject fileObject = filer.getResource(location, "", path);
+
+                inputStream = fileObject.openInputStream();
+            } catch (IOException | IllegalArgumentException exception) {
+                //not in this location
+                continue;
+            }
+
+            try {
+                return parse(inputStream, path);
+            } finally {
+                try {
+                    inputStream.close();
+                } catch (IOException ignored) {}
+            }
+        }
+
+        throw new BindingException("Resource '" + path + "' cannot be found; make sure resources are available " +
+            "before compiling, or specify their directory with -A" + RESOURCES_OPTION);
+    }
+
+    /**
+     * Parses the specified input stream as XML and returns the root element
+     *
+     * @param inputStream the input stream
+     * @param path the path of the resource, for error messages
+     * @return the root element
+     * @throws BindingException if the XML is malformed
+     * @since 0.10.19
+     */
+    @NotNull
+    private static org.w3c.dom.Element parse(@NotNull InputStream inputStream, @NotNull String path)
+        throws BindingException {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(inputStream).getDocumentElement();
+        } catch (SAXException | ParserConfigurationException | IOException exception) {
+            throw new BindingException("Unable to parse '" + path + "': " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Reports an error on the specified element
+     *
+     * @param message the message
+     * @param element the element
+     * @since 0.10.19
+     */
+    private void error(@NotNull String message, @NotNull Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * The code references found in an XML gui
+     *
+     * @since 0.10.19
+     */
+    private static final class Bindings {
+
+        /**
+         * The classes of the values assigned to every field, by field name. Unknown classes are null.
+         */
+        @NotNull
+        private final Map<String, List<String>> fields = new LinkedHashMap<>();
+
+        /**
+         * The event types every event handler is used for, by method name
+         */
+        @NotNull
+        private final Map<String, Set<String>> events = new LinkedHashMap<>();
+
+        /**
+         * The property classes of every item a click handler is used for, by method name
+         */
+        @NotNull
+        private final Map<String, List<List<String>>> clicks = new LinkedHashMap<>();
+
+        /**
+         * The classes of the arguments every populate method is called with, by method name. Unknown classes are null.
+         */
+        @NotNull
+        private final Map<String, List<String>> populates = new LinkedHashMap<>();
+    }
+
+    /**
+     * Builds the source of a generated class, keeping track of the indentation
+     *
+     * @since 0.10.19
+     */
+    private static final class SourceWriter {
+
+        /**
+         * The source written so far
+         */
+        @NotNull
+        private final StringBuilder source = new StringBuilder();
+
+        /**
+         * The current level of indentation
+         */
+        private int indentation;
+
+        /**
+         * Writes an empty line
+         *
+         * @return this writer
+         * @since 0.10.19
+         */
+        @NotNull
+        private SourceWriter line() {
+            source.append('\n');
+            return this;
+        }
+
+        /**
+         * Writes a line at the current indentation
+         *
+         * @param line the line
+         * @return this writer
+         * @since 0.10.19
+         */
+        @NotNull
+        private SourceWriter line(@NotNull String line) {
+            source.append(String.join("", Collections.nCopies(indentation, "    "))).append(line).append('\n');
+            return this;
+        }
+
+        /**
+         * Writes the start of a block and increases the indentation
+         *
+         * @param header the code before the opening brace
+         * @return this writer
+         * @since 0.10.19
+         */
+        @NotNull
+        private SourceWriter open(@NotNull String header) {
+            return line(header + " {").indent();
+        }
+
+        /**
+         * Decreases the indentation and writes the end of a block
+         *
+         * @return this writer
+         * @since 0.10.19
+         */
+        @NotNull
+        private SourceWriter close() {
+            return close("}");
+        }
+
+        /**
+         * Decreases the indentation and writes the specified line ending a block
+         *
+         * @param line the line ending the block
+         * @return this writer
+         * @since 0.10.19
+         */
+        @NotNull
+        private SourceWriter close(@NotNull String line) {
+            return outdent().line(line);
+        }
+
+        /**
+         * Increases the indentation
+         *
+         * @return this writer
+         * @since 0.10.19
+         */
+        @NotNull
+        private SourceWriter indent() {
+            indentation++;
+            return this;
+        }
+
+        /**
+         * Decreases the indentation
+         *
+         * @return this writer
+         * @since 0.10.19
+         */
+        @NotNull
+        private SourceWriter outdent() {
+            indentation--;
+            return this;
+        }
+
+        @NotNull
+        @Override
+        public String toString() {
+            return source.toString();
+        }
+    }
+
+    /**
+     * Thrown when an XML gui cannot be bound to its controller
+     *
+     * @since 0.10.19
+     */
+    private static final class BindingException extends Exception {
+
+        /**
+         * Creates a new exception with the specified message
+         *
+         * @param message the message
+         * @since 0.10.19
+         */
+        private BindingException(@NotNull String message) {
+            super(message);
+        }
+    }
+
+    static {
+        GUI_EVENTS.put("onTopClick", "org.bukkit.event.inventory.InventoryClickEvent");
+        GUI_EVENTS.put("onBottomClick", "org.bukkit.event.inventory.InventoryClickEvent");
+        GUI_EVENTS.put("onGlobalClick", "org.bukkit.event.inventory.InventoryClickEvent");
+        GUI_EVENTS.put("onOutsideClick", "org.bukkit.event.inventory.InventoryClickEvent");
+        GUI_EVENTS.put("onTopDrag", "org.bukkit.event.inventory.InventoryDragEvent");
+        GUI_EVENTS.put("onBottomDrag", "org.bukkit.event.inventory.InventoryDragEvent");
+        GUI_EVENTS.put("onGlobalDrag", "org.bukkit.event.inventory.InventoryDragEvent");
+        GUI_EVENTS.put("onClose", "org.bukkit.event.inventory.InventoryCloseEvent");
+        GUI_EVENTS.put("onTradeSelect", "org.bukkit.event.inventory.TradeSelectEvent");
+
+        String[] guiTypes = {"anvil", "barrel", "beacon", "blast-furnace", "brewing-stand", "cartography-table",
+            "chest", "crafting-table", "dispenser", "dropper", "enchanting-table", "ender-chest", "furnace",
+            "grindstone", "hopper", "merchant", "shulker-box", "smithing-table", "smoker", "stonecutter",
+            "virtual-chest"};
+
+        for (String guiType : guiTypes) {
+            StringBuilder className = new StringBuilder(PACKAGE + ".gui.type.");
+
+            for (String word : guiType.split("-")) {
+                className.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+
+            GUI_TYPES.put(guiType, className.append("Gui").toString());
+        }
+
+        ELEMENT_TYPES.put("item", PACKAGE + ".gui.GuiItem");
+        ELEMENT_TYPES.put("masonrypane", PACKAGE + ".pane.MasonryPane");
+        ELEMENT_TYPES.put("outlinepane", PACKAGE + ".pane.OutlinePane");
+        ELEMENT_TYPES.put("paginatedpane", PACKAGE + ".pane.PaginatedPane");
+        ELEMENT_TYPES.put("patternpane", PACKAGE + ".pane.PatternPane");
+        ELEMENT_TYPES.put("staticpane", PACKAGE + ".pane.StaticPane");
+        ELEMENT_TYPES.put("cyclebutton", PACKAGE + ".pane.component.CycleButton");
+        ELEMENT_TYPES.put("label", PACKAGE + ".pane.component.Label");
+        ELEMENT_TYPES.put("pagingbuttons", PACKAGE + ".pane.component.PagingButtons");
+        ELEMENT_TYPES.put("percentagebar", PACKAGE + ".pane.component.PercentageBar");
+        ELEMENT_TYPES.put("slider", PACKAGE + ".pane.component.Slider");
+        ELEMENT_TYPES.put("togglebutton", PACKAGE + ".pane.component.ToggleButton");
+
+        PROPERTY_TYPES.put("boolean", "java.lang.Boolean");
+        PROPERTY_TYPES.put("byte", "java.lang.Byte");
+        PROPERTY_TYPES.put("character", "java.lang.Character");
+        PROPERTY_TYPES.put("double", "java.lang.Double");
+        PROPERTY_TYPES.put("float", "java.lang.Float");
+        PROPERTY_TYPES.put("integer", "java.lang.Integer");
+        PROPERTY_TYPES.put("long", "java.lang.Long");
+        PROPERTY_TYPES.put("short", "java.lang.Short");
+        PROPERTY_TYPES.put("string", "java.lang.String");
+    }
+}
@@ -0,0 +1,316 @@
+package com.github.stefvanschie.inventoryframework.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class XMLGuiProcessorTest {
+
+    /**
+     * Minimal versions of the server and framework classes the processor and the generated classes refer to
+     */
+    private static final String[][] STUBS = {
+        {"org.bukkit.event.Event", "public abstract class Event {}"},
+        {"org.bukkit.event.inventory.InventoryClickEvent", "public class InventoryClickEvent extends " +
+            "org.bukkit.event.Event {}"},
+        {"org.bukkit.event.inventory.InventoryCloseEvent", "public class InventoryCloseEvent extends " +
+            "org.bukkit.event.Event {}"},
+        {"org.bukkit.plugin.Plugin", "public interface Plugin {}"},
+        {"org.bukkit.plugin.java.JavaPlugin", "public abstract class JavaPlugin implements org.bukkit.plugin.Plugin " +
+            "{ public static JavaPlugin getProvidingPlugin(Class<?> type) { return null; } }"},
+        {"com.github.stefvanschie.inventoryframework.exception.XMLLoadException", "public class XMLLoadException " +
+            "extends RuntimeException { public XMLLoadException(String message) { super(message); } " +
+            "public XMLLoadException(Throwable cause) { super(cause); } }"},
+        {"com.github.stefvanschie.inventoryframework.gui.GuiItem", "public class GuiItem {}"},
+        {"com.github.stefvanschie.inventoryframework.gui.type.util.Gui", "public abstract class Gui {}"},
+        {"com.github.stefvanschie.inventoryframework.gui.type.ChestGui", "public class ChestGui extends " +
+            "com.github.stefvanschie.inventoryframework.gui.type.util.Gui {}"},
+        {"com.github.stefvanschie.inventoryframework.gui.type.util.GuiTemplate", "public final class GuiTemplate" +
+            "<T extends Gui> { public static GuiTemplate<Gui> compile(java.io.InputStream inputStream) { " +
+            "return null; } public T instantiate(Object instance, org.bukkit.plugin.Plugin plugin) { return null; } }"},
+        {"com.github.stefvanschie.inventoryframework.util.XMLBinder", "public interface XMLBinder { " +
+            "Object getInstance(); void setField(String name, Object value); " +
+            "<T extends org.bukkit.event.Event> java.util.function.Consumer<T> getEventHandler(String name, " +
+            "Class<T> eventType); java.util.function.Consumer<org.bukkit.event.inventory.InventoryClickEvent> " +
+            "getClickHandler(String name, java.util.List<?> properties); void invoke(String name, " +
+            "Object argument); }"}
+    };
+
+    /**
+     * A gui binding a field, a close handler and a click handler
+     */
+    private static final String XML = "<chestgui type=\"chest\" title=\"Test\" rows=\"1\" field=\"gui\" " +
+        "onClose=\"close\">\n" +
+        "  <outlinepane x=\"0\" y=\"0\" length=\"9\" height=\"1\">\n" +
+        "    <item id=\"stone\" onClick=\"click\"/>\n" +
+        "  </outlinepane>\n" +
+        "</chestgui>\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testGenerate() throws IOException, ReflectiveOperationException {
+        Result result = compile(XML, "public com.github.stefvanschie.inventoryframework.gui.type.ChestGui gui;\n" +
+            "public Object closed;\n" +
+            "public int clicks;\n" +
+            "public void close(org.bukkit.event.inventory.InventoryCloseEvent event) { this.closed = event; }\n" +
+            "public void click() { this.clicks++; }\n");
+
+        assertTrue(result.success, result.diagnostics::toString);
+
+        String source = new String(
+            Files.readAllBytes(directory.resolve("generated/test/ControllerGui.java")), StandardCharsets.UTF_8
+        );
+
+        assertTrue(source.contains("public final class ControllerGui"));
+        assertTrue(source.contains("public static com.github.stefvanschie.inventoryframework.gui.type.ChestGui " +
+            "create(test.Controller controller"));
+        assertTrue(source.contains("private static final class Binder"));
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+            new URL[] {directory.resolve("classes").toUri().toURL()}, getClass().getClassLoader()
+        )) {
+            Class<?> controllerClass = classLoader.loadClass("test.Controller");
+            Class<?> binderClass = classLoader.loadClass("test.ControllerGui$Binder");
+            Class<?> binderInterface = classLoader.loadClass(
+                "com.github.stefvanschie.inventoryframework.util.XMLBinder"
+            );
+            Class<?> closeEvent = classLoader.loadClass("org.bukkit.event.inventory.InventoryCloseEvent");
+            Class<?> clickEvent = classLoader.loadClass("org.bukkit.event.inventory.InventoryClickEvent");
+
+            Object controller = controllerClass.getConstructor().newInstance();
+            Constructor<?> binderConstructor = binderClass.getDeclaredConstructor(controllerClass);
+
+            binderConstructor.setAccessible(true);
+
+            Object binder = binderConstructor.newInstance(controller);
+            Object gui = classLoader.loadClass("com.github.stefvanschie.inventoryframework.gui.type.ChestGui")
+                .getConstructor().newInstance();
+
+            binderInterface.getMethod("setField", String.class, Object.class).invoke(binder, "gui", gui);
+
+            assertSame(gui, controllerClass.getField("gui").get(controller));
+
+            Method getEventHandler = binderInterface.getMethod("getEventHandler", String.class, Class.class);
+            Object closeEventInstance = closeEvent.getConstructor().newInstance();
+
+            call(getEventHandler.invoke(binder, "close", closeEvent), closeEventInstance);
+
+            assertSame(closeEventInstance, controllerClass.getField("closed").get(controller));
+            assertNull(getEventHandler.invoke(binder, "close", clickEvent));
+
+            Method getClickHandler = binderInterface.getMethod("getClickHandler", String.class, List.class);
+            Field clicks = controllerClass.getField("clicks");
+
+            call(getClickHandler.invoke(binder, "click", Collections.emptyList()),
+                clickEvent.getConstructor().newInstance());
+
+            assertEquals(1, clicks.getInt(controller));
+            assertNull(getClickHandler.invoke(binder, "missing", Collections.emptyList()));
+        }
+    }
+
+    @Test
+    void testUnknownField() throws IOException {
+        Result result = compile(XML, "public void close() {}\n" +
+            "public void click() {}\n");
+
+        assertFalse(result.success);
+        assertErrorOnController(result, "Field 'gui'");
+    }
+
+    @Test
+    void testUnknownHandler() throws IOException {
+        Result result = compile(XML, "public com.github.stefvanschie.inventoryframework.gui.type.ChestGui gui;\n" +
+            "public void click() {}\n");
+
+        assertFalse(result.success);
+        assertErrorOnController(result, "Method 'close'");
+    }
+
+    @Test
+    void testMismatchedEventHandler() throws IOException {
+        Result result = compile(XML, "public com.github.stefvanschie.inventoryframework.gui.type.ChestGui gui;\n" +
+            "public void close(org.bukkit.event.inventory.InventoryClickEvent event) {}\n" +
+            "public void click() {}\n");
+
+        assertFalse(result.success);
+        assertErrorOnController(result, "Method 'close'");
+    }
+
+    @Test
+    void testMismatchedClickHandler() throws IOException {
+        Result result = compile(XML, "public com.github.stefvanschie.inventoryframework.gui.type.ChestGui gui;\n" +
+            "public void close() {}\n" +
+            "public void click(String text) {}\n");
+
+        assertFalse(result.success);
+        assertErrorOnController(result, "Method 'click'");
+    }
+
+    /**
+     * Asserts that the compilation reported an error containing the specified text at the annotated controller.
+     *
+     * @param result the result of the compilation
+     * @param message the text the error should contain
+     */
+    private static void assertErrorOnController(@NotNull Result result, @NotNull String message) {
+        for (Diagnostic<? extends JavaFileObject> diagnostic : result.diagnostics) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR || !diagnostic.getMessage(null).contains(message)) {
+                continue;
+            }
+
+            assertNotNull(diagnostic.getSource());
+            assertTrue(diagnostic.getSource().getName().endsWith("Controller.java"));
+            //line one holds the annotation, the class declaration starts on line two
+            assertEquals(2, diagnostic.getLineNumber());
+            return;
+        }
+
+        fail("No error containing \"" + message + "\" was reported: " + result.diagnostics);
+    }
+
+    /**
+     * Calls the specified handler, which is a consumer from a different class loader, with the specified event.
+     *
+     * @param handler the handler
+     * @param event the event
+     */
+    @SuppressWarnings("unchecked")
+    private static void call(Object handler, @NotNull Object event) {
+        assertNotNull(handler);
+
+        ((Consumer<Object>) handler).accept(event);
+    }
+
+    /**
+     * Compiles a controller in the package {@code test} with the specified body, annotated with
+     * {@code @XMLGui("test.xml")}, while the specified XML is available as {@code test.xml}.
+     *
+     * @param xml the XML of the gui
+     * @param body the body of the controller
+     * @return the result of the compilation
+     * @throws IOException if the files cannot be written
+     */
+    @NotNull
+    private Result compile(@NotNull String xml, @NotNull String body) throws IOException {
+        Path resources = Files.createDirectories(directory.resolve("resources"));
+        Path generated = Files.createDirectories(directory.resolve("generated"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+
+        Files.write(resources.resolve("test.xml"), xml.getBytes(StandardCharsets.UTF_8));
+
+        List<JavaFileObject> sources = new ArrayList<>();
+
+        for (String[] stub : STUBS) {
+            String name = stub[0];
+            int separator = name.lastIndexOf('.');
+
+            sources.add(new Source(name, "package " + name.substring(0, separator) + ";\n" + stub[1]));
+        }
+
+        sources.add(new Source("test.Controller", "package test; @" + XMLGui.class.getName() +
+            "(\"test.xml\")\npublic class Controller {\n" + body + "}\n"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        String classPath;
+
+        try {
+            classPath = Paths.get(XMLGui.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException exception) {
+            throw new IOException(exception);
+        }
+
+        List<String> options = Arrays.asList(
+            "-classpath", classPath,
+            "-d", classes.toString(),
+            "-s", generated.toString(),
+            "-A" + XMLGuiProcessor.RESOURCES_OPTION + "=" + resources
+        );
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null, fileManager, diagnostics, options, null, sources
+            );
+
+            task.setProcessors(Collections.singletonList(new XMLGuiProcessor()));
+
+            return new Result(task.call(), diagnostics.getDiagnostics());
+        }
+    }
+
+    /**
+     * The result of a compilation
+     */
+    private static final class Result {
+
+        /**
+         * Whether the compilation succeeded
+         */
+        private final boolean success;
+
+        /**
+         * The diagnostics reported during the compilation
+         */
+        @NotNull
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+        private Result(boolean success, @NotNull List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+        }
+    }
+
+    /**
+     * A source file held in memory
+     */
+    private static final class Source extends SimpleJavaFileObject {
+
+        /**
+         * The contents of this source file
+         */
+        @NotNull
+        private final String content;
+
+        private Source(@NotNull String name, @NotNull String content) {
+            super(URI.create("string:///" + name.replace('.', '/') + ".java"), Kind.SOURCE);
+
+            this.content = content;
+        }
+
+        @NotNull
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.content;
+        }
+    }
+}
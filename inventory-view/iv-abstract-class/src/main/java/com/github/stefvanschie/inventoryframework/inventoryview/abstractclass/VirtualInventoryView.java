@@ -0,0 +1,103 @@
+package com.github.stefvanschie.inventoryframework.inventoryview.abstractclass;
+
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A chest view which is not backed by a container on the server, for versions in which {@link InventoryView} is an
+ * abstract class. Slots are converted by {@link InventoryView} itself.
+ *
+ * @since 0.10.19
+ */
+class VirtualInventoryView extends InventoryView {
+
+    /**
+     * The top inventory
+     */
+    @NotNull
+    private final Inventory topInventory;
+
+    /**
+     * The player this view belongs to
+     */
+    @NotNull
+    private final HumanEntity player;
+
+    /**
+     * The original title of this view
+     */
+    @NotNull
+    private final String originalTitle;
+
+    /**
+     * The current title of this view
+     */
+    @NotNull
+    private String title;
+
+    /**
+     * Creates a new view
+     *
+     * @param topInventory the top inventory
+     * @param player the player the view belongs to
+     * @param title the title of the view
+     * @since 0.10.19
+     */
+    VirtualInventoryView(@NotNull Inventory topInventory, @NotNull HumanEntity player, @NotNull String title) {
+        this.topInventory = topInventory;
+        this.player = player;
+        this.originalTitle = title;
+        this.title = title;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Inventory getTopInventory() {
+        return this.topInventory;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Inventory getBottomInventory() {
+        return this.player.getInventory();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public HumanEntity getPlayer() {
+        return this.player;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public InventoryType getType() {
+        return InventoryType.CHEST;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public String getTitle() {
+        return this.title;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public String getOriginalTitle() {
+        return this.originalTitle;
+    }
+
+    @Override
+    public void setTitle(@NotNull String title) {
+        this.title = title;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.stefvanschie.inventoryframework.inventoryview.abstraction;
 
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryView;
@@ -14,6 +15,20 @@ import org.jetbrains.annotations.Nullable;
  */
 public interface AbstractInventoryViewUtil {
 
+    /**
+     * Creates a chest view of the specified top inventory and the player's own inventory, which is not backed by a
+     * container on the server. This is used for guis which only exist on the client. Items changed through the view
+     * are changed in the specified inventories and closing the view closes whatever inventory the player has open.
+     *
+     * @param topInventory the top inventory of the view
+     * @param player the player the view belongs to
+     * @param title the title of the view
+     * @return the view
+     * @since 0.10.19
+     */
+    @NotNull
+    InventoryView createView(@NotNull Inventory topInventory, @NotNull HumanEntity player, @NotNull String title);
+
     /**
      * Behaves according to {@link InventoryView#getBottomInventory()}.
      *
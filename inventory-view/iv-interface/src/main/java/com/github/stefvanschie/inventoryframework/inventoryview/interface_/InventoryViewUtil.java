@@ -1,6 +1,7 @@
 package com.github.stefvanschie.inventoryframework.inventoryview.interface_;
 
 import com.github.stefvanschie.inventoryframework.inventoryview.abstraction.AbstractInventoryViewUtil;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryView;
@@ -22,6 +23,14 @@ public class InventoryViewUtil implements AbstractInventoryViewUtil {
     @NotNull
     private static final InventoryViewUtil INSTANCE = new InventoryViewUtil();
 
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public InventoryView createView(@NotNull Inventory topInventory, @NotNull HumanEntity player,
+                                    @NotNull String title) {
+        return new VirtualInventoryView(topInventory, player, title);
+    }
+
     @NotNull
     @Override
     public Inventory getBottomInventory(@NotNull InventoryView view) {
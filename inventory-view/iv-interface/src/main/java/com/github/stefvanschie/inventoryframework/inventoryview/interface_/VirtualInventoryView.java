@@ -0,0 +1,204 @@
+package com.github.stefvanschie.inventoryframework.inventoryview.interface_;
+
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A chest view which is not backed by a container on the server, for versions in which {@link InventoryView} is an
+ * interface. Raw slots are laid out like those of a regular chest view: the top inventory, followed by the player's
+ * storage and then the player's hotbar.
+ *
+ * @since 0.10.19
+ */
+class VirtualInventoryView implements InventoryView {
+
+    /**
+     * The amount of slots in the player's inventory before the hotbar, in a view
+     */
+    private static final int STORAGE_SIZE = 27;
+
+    /**
+     * The amount of slots of the player's inventory which are part of a view
+     */
+    private static final int PLAYER_SIZE = 36;
+
+    /**
+     * The top inventory
+     */
+    @NotNull
+    private final Inventory topInventory;
+
+    /**
+     * The player this view belongs to
+     */
+    @NotNull
+    private final HumanEntity player;
+
+    /**
+     * The original title of this view
+     */
+    @NotNull
+    private final String originalTitle;
+
+    /**
+     * The current title of this view
+     */
+    @NotNull
+    private String title;
+
+    /**
+     * Creates a new view
+     *
+     * @param topInventory the top inventory
+     * @param player the player the view belongs to
+     * @param title the title of the view
+     * @since 0.10.19
+     */
+    VirtualInventoryView(@NotNull Inventory topInventory, @NotNull HumanEntity player, @NotNull String title) {
+        this.topInventory = topInventory;
+        this.player = player;
+        this.originalTitle = title;
+        this.title = title;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Inventory getTopInventory() {
+        return this.topInventory;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public Inventory getBottomInventory() {
+        return this.player.getInventory();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public HumanEntity getPlayer() {
+        return this.player;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public InventoryType getType() {
+        return InventoryType.CHEST;
+    }
+
+    @Override
+    public void setItem(int slot, @Nullable ItemStack item) {
+        Inventory inventory = getInventory(slot);
+
+        if (inventory != null) {
+            inventory.setItem(convertSlot(slot), item);
+        }
+    }
+
+    @Nullable
+    @Contract(pure = true)
+    @Override
+    public ItemStack getItem(int slot) {
+        Inventory inventory = getInventory(slot);
+
+        return inventory == null ? null : inventory.getItem(convertSlot(slot));
+    }
+
+    @Override
+    public void setCursor(@Nullable ItemStack item) {
+        this.player.setItemOnCursor(item);
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public ItemStack getCursor() {
+        return this.player.getItemOnCursor();
+    }
+
+    @Nullable
+    @Contract(pure = true)
+    @Override
+    public Inventory getInventory(int rawSlot) {
+        if (rawSlot < 0 || rawSlot >= countSlots()) {
+            return null;
+        }
+
+        return rawSlot < this.topInventory.getSize() ? this.topInventory : getBottomInventory();
+    }
+
+    @Contract(pure = true)
+    @Override
+    public int convertSlot(int rawSlot) {
+        int topSize = this.topInventory.getSize();
+
+        if (rawSlot < topSize) {
+            return rawSlot;
+        }
+
+        int slot = rawSlot - topSize;
+
+        //the player's storage comes first in a view, the hotbar comes first in the player's inventory
+        return slot < STORAGE_SIZE ? slot + 9 : slot - STORAGE_SIZE;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public InventoryType.SlotType getSlotType(int slot) {
+        if (slot < 0 || slot >= countSlots()) {
+            return InventoryType.SlotType.OUTSIDE;
+        }
+
+        if (slot >= this.topInventory.getSize() + STORAGE_SIZE) {
+            return InventoryType.SlotType.QUICKBAR;
+        }
+
+        return InventoryType.SlotType.CONTAINER;
+    }
+
+    @Override
+    public void close() {
+        this.player.closeInventory();
+    }
+
+    @Contract(pure = true)
+    @Override
+    public int countSlots() {
+        return this.topInventory.getSize() + PLAYER_SIZE;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public boolean setProperty(@NotNull Property prop, int value) {
+        return false;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public String getTitle() {
+        return this.title;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public String getOriginalTitle() {
+        return this.originalTitle;
+    }
+
+    @Override
+    public void setTitle(@NotNull String title) {
+        this.title = title;
+    }
+}
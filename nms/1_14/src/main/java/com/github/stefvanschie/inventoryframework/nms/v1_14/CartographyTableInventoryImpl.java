@@ -1,6 +1,8 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_14;
 
 import com.github.stefvanschie.inventoryframework.abstraction.CartographyTableInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
+import com.github.stefvanschie.inventoryframework.abstraction.util.ReflectionUtil;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import com.github.stefvanschie.inventoryframework.nms.v1_14.util.TextHolderUtil;
 import net.minecraft.server.v1_14_R1.*;
@@ -15,7 +17,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
+import java.util.function.Function;
 
 /**
  * Internal cartography table inventory for 1.14 R1
@@ -24,6 +26,13 @@ import java.lang.reflect.Field;
  */
 public class CartographyTableInventoryImpl extends CartographyTableInventory {
 
+    /**
+     * Getter for the result inventory field
+     */
+    @NotNull
+    private static final Function<ContainerCartography, IInventory> RESULT_INVENTORY =
+        ReflectionUtil.findGetter(ContainerCartography.class, "resultInventory", IInventory.class);
+
     public CartographyTableInventoryImpl(@NotNull InventoryHolder inventoryHolder) {
         super(inventoryHolder);
     }
@@ -59,9 +68,9 @@ public class CartographyTableInventoryImpl extends CartographyTableInventory {
     public void sendItems(@NotNull Player player, @Nullable org.bukkit.inventory.ItemStack[] items) {
         NonNullList<ItemStack> nmsItems = NonNullList.a(
             ItemStack.a,
-            CraftItemStack.asNMSCopy(items[0]),
-            CraftItemStack.asNMSCopy(items[1]),
-            CraftItemStack.asNMSCopy(items[2])
+            NMSItemCache.get(items[0], CraftItemStack::asNMSCopy),
+            NMSItemCache.get(items[1], CraftItemStack::asNMSCopy),
+            NMSItemCache.get(items[2], CraftItemStack::asNMSCopy)
         );
 
         EntityPlayer entityPlayer = getEntityPlayer(player);
@@ -131,25 +140,12 @@ public class CartographyTableInventoryImpl extends CartographyTableInventory {
         @Nullable
         private CraftInventoryView bukkitEntity;
 
-        /**
-         * Field for accessing the result inventory field
-         */
-        @NotNull
-        private final Field resultInventoryField;
-
         public ContainerCartographyTableImpl(@NotNull EntityPlayer entityPlayer,
                                              @Nullable org.bukkit.inventory.ItemStack[] items) {
             super(entityPlayer.nextContainerCounter(), entityPlayer.inventory);
 
             this.player = entityPlayer.getBukkitEntity();
 
-            try {
-                this.resultInventoryField = ContainerCartography.class.getDeclaredField("resultInventory");
-                this.resultInventoryField.setAccessible(true);
-            } catch (NoSuchFieldException exception) {
-                throw new RuntimeException(exception);
-            }
-
             inventory.setItem(0, CraftItemStack.asNMSCopy(items[0]));
             inventory.setItem(1, CraftItemStack.asNMSCopy(items[1]));
 
@@ -190,11 +186,7 @@ public class CartographyTableInventoryImpl extends CartographyTableInventory {
         @NotNull
         @Contract(pure = true)
         private IInventory getResultInventory() {
-            try {
-                return (IInventory) resultInventoryField.get(this);
-            } catch (IllegalAccessException exception) {
-                throw new RuntimeException(exception);
-            }
+            return RESULT_INVENTORY.apply(this);
         }
 
     }
@@ -1,6 +1,7 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_14;
 
 import com.github.stefvanschie.inventoryframework.abstraction.GrindstoneInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import com.github.stefvanschie.inventoryframework.nms.v1_14.util.TextHolderUtil;
 import net.minecraft.server.v1_14_R1.*;
@@ -72,9 +73,9 @@ public class GrindstoneInventoryImpl extends GrindstoneInventory {
                           @Nullable org.bukkit.inventory.ItemStack cursor) {
         NonNullList<ItemStack> nmsItems = NonNullList.a(
             ItemStack.a,
-            CraftItemStack.asNMSCopy(items[0]),
-            CraftItemStack.asNMSCopy(items[1]),
-            CraftItemStack.asNMSCopy(items[2])
+            NMSItemCache.get(items[0], CraftItemStack::asNMSCopy),
+            NMSItemCache.get(items[1], CraftItemStack::asNMSCopy),
+            NMSItemCache.get(items[2], CraftItemStack::asNMSCopy)
         );
 
         EntityPlayer entityPlayer = getEntityPlayer(player);
@@ -1,6 +1,8 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_14;
 
 import com.github.stefvanschie.inventoryframework.abstraction.StonecutterInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
+import com.github.stefvanschie.inventoryframework.abstraction.util.ReflectionUtil;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import com.github.stefvanschie.inventoryframework.nms.v1_14.util.TextHolderUtil;
 import net.minecraft.server.v1_14_R1.*;
@@ -15,7 +17,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
+import java.util.function.Function;
 
 /**
  * Internal stonecutter inventory for 1.14 R1
@@ -24,6 +26,13 @@ import java.lang.reflect.Field;
  */
 public class StonecutterInventoryImpl extends StonecutterInventory {
 
+    /**
+     * Getter for the result inventory field
+     */
+    @NotNull
+    private static final Function<ContainerStonecutter, IInventory> RESULT_INVENTORY =
+        ReflectionUtil.findGetter(ContainerStonecutter.class, "resultInventory", IInventory.class);
+
     public StonecutterInventoryImpl(@NotNull InventoryHolder inventoryHolder) {
         super(inventoryHolder);
     }
@@ -57,8 +66,8 @@ public class StonecutterInventoryImpl extends StonecutterInventory {
     public void sendItems(@NotNull Player player, @Nullable org.bukkit.inventory.ItemStack[] items) {
         NonNullList<ItemStack> nmsItems = NonNullList.a(
             ItemStack.a,
-            CraftItemStack.asNMSCopy(items[0]),
-            CraftItemStack.asNMSCopy(items[1])
+            NMSItemCache.get(items[0], CraftItemStack::asNMSCopy),
+            NMSItemCache.get(items[1], CraftItemStack::asNMSCopy)
         );
 
         EntityPlayer entityPlayer = getEntityPlayer(player);
@@ -128,25 +137,12 @@ public class StonecutterInventoryImpl extends StonecutterInventory {
         @Nullable
         private CraftInventoryView bukkitEntity;
 
-        /**
-         * Field for accessing the result inventory field
-         */
-        @NotNull
-        private final Field resultInventoryField;
-
         public ContainerStonecutterImpl(@NotNull EntityPlayer entityPlayer,
                                         @Nullable org.bukkit.inventory.ItemStack[] items) {
             super(entityPlayer.nextContainerCounter(), entityPlayer.inventory);
 
             this.player = entityPlayer.getBukkitEntity();
 
-            try {
-                this.resultInventoryField = ContainerStonecutter.class.getDeclaredField("resultInventory");
-                this.resultInventoryField.setAccessible(true);
-            } catch (NoSuchFieldException exception) {
-                throw new RuntimeException(exception);
-            }
-
             inventory.setItem(0, CraftItemStack.asNMSCopy(items[0]));
             getResultInventory().setItem(0, CraftItemStack.asNMSCopy(items[1]));
         }
@@ -191,11 +187,7 @@ public class StonecutterInventoryImpl extends StonecutterInventory {
         @NotNull
         @Contract(pure = true)
         public IInventory getResultInventory() {
-            try {
-                return (IInventory) resultInventoryField.get(this);
-            } catch (IllegalAccessException exception) {
-                throw new RuntimeException(exception);
-            }
+            return RESULT_INVENTORY.apply(this);
         }
     }
 }
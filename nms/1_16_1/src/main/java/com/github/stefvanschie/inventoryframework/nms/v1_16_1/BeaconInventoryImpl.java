@@ -1,6 +1,8 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_16_1;
 
 import com.github.stefvanschie.inventoryframework.abstraction.BeaconInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
+import com.github.stefvanschie.inventoryframework.abstraction.util.ReflectionUtil;
 import net.minecraft.server.v1_16_R1.*;
 import org.bukkit.craftbukkit.v1_16_R1.entity.CraftPlayer;
 import org.bukkit.craftbukkit.v1_16_R1.inventory.CraftInventory;
@@ -13,7 +15,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
+import java.util.function.Function;
 
 /**
  * Internal beacon inventory for 1.16 R1
@@ -22,6 +24,13 @@ import java.lang.reflect.Field;
  */
 public class BeaconInventoryImpl extends BeaconInventory {
 
+    /**
+     * Getter for the beacon field
+     */
+    @NotNull
+    private static final Function<ContainerBeacon, IInventory> BEACON =
+        ReflectionUtil.findGetter(ContainerBeacon.class, "beacon", IInventory.class);
+
     public BeaconInventoryImpl(@NotNull InventoryHolder inventoryHolder) {
         super(inventoryHolder);
     }
@@ -45,7 +54,7 @@ public class BeaconInventoryImpl extends BeaconInventory {
     public void sendItem(@NotNull Player player, @Nullable org.bukkit.inventory.ItemStack item) {
         NonNullList<ItemStack> items = NonNullList.a(
             ItemStack.b, //the first item doesn't count for some reason, so send a dummy item
-            CraftItemStack.asNMSCopy(item)
+            NMSItemCache.get(item, CraftItemStack::asNMSCopy)
         );
 
         EntityPlayer entityPlayer = getEntityPlayer(player);
@@ -115,51 +124,30 @@ public class BeaconInventoryImpl extends BeaconInventory {
         @Nullable
         private CraftInventoryView bukkitEntity;
 
-        /**
-         * Field for accessing the beacon field
-         */
-        @NotNull
-        private final Field beaconField;
-
         public ContainerBeaconImpl(@NotNull EntityPlayer entityPlayer, @Nullable org.bukkit.inventory.ItemStack item) {
             super(entityPlayer.nextContainerCounter(), entityPlayer.inventory);
 
             this.player = entityPlayer.getBukkitEntity();
 
-            try {
-                this.beaconField = ContainerBeacon.class.getDeclaredField("beacon");
-                this.beaconField.setAccessible(true);
-            } catch (NoSuchFieldException exception) {
-                throw new RuntimeException(exception);
-            }
+            ItemStack itemStack = CraftItemStack.asNMSCopy(item);
 
-            try {
-                ItemStack itemStack = CraftItemStack.asNMSCopy(item);
-
-                ((IInventory) beaconField.get(this)).setItem(0, itemStack);
-            } catch (IllegalAccessException exception) {
-                throw new RuntimeException(exception);
-            }
+            BEACON.apply(this).setItem(0, itemStack);
         }
 
         @NotNull
         @Override
         public CraftInventoryView getBukkitView() {
             if (bukkitEntity == null) {
-                try {
-                    CraftInventory inventory = new CraftInventoryBeacon((IInventory) beaconField.get(this)) {
-                        @NotNull
-                        @Contract(pure = true)
-                        @Override
-                        public InventoryHolder getHolder() {
-                            return inventoryHolder;
-                        }
-                    };
-
-                    bukkitEntity = new CraftInventoryView(player, inventory, this);
-                } catch (IllegalAccessException exception) {
-                    throw new RuntimeException(exception);
-                }
+                CraftInventory inventory = new CraftInventoryBeacon(BEACON.apply(this)) {
+                    @NotNull
+                    @Contract(pure = true)
+                    @Override
+                    public InventoryHolder getHolder() {
+                        return inventoryHolder;
+                    }
+                };
+
+                bukkitEntity = new CraftInventoryView(player, inventory, this);
             }
 
             return bukkitEntity;
@@ -1,6 +1,8 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_16_1;
 
 import com.github.stefvanschie.inventoryframework.abstraction.EnchantingTableInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
+import com.github.stefvanschie.inventoryframework.abstraction.util.ReflectionUtil;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import com.github.stefvanschie.inventoryframework.nms.v1_16_1.util.TextHolderUtil;
 import net.minecraft.server.v1_16_R1.*;
@@ -15,7 +17,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
+import java.util.function.Function;
 
 /**
  * Internal enchanting table inventory for 1.16 R1
@@ -24,6 +26,13 @@ import java.lang.reflect.Field;
  */
 public class EnchantingTableInventoryImpl extends EnchantingTableInventory {
 
+    /**
+     * Getter for the enchant slots field
+     */
+    @NotNull
+    private static final Function<ContainerEnchantTable, IInventory> ENCHANT_SLOTS =
+        ReflectionUtil.findGetter(ContainerEnchantTable.class, "enchantSlots", IInventory.class);
+
     public EnchantingTableInventoryImpl(@NotNull InventoryHolder inventoryHolder) {
         super(inventoryHolder);
     }
@@ -57,8 +66,8 @@ public class EnchantingTableInventoryImpl extends EnchantingTableInventory {
     public void sendItems(@NotNull Player player, @Nullable org.bukkit.inventory.ItemStack[] items) {
         NonNullList<ItemStack> nmsItems = NonNullList.a(
             ItemStack.b,
-            CraftItemStack.asNMSCopy(items[0]),
-            CraftItemStack.asNMSCopy(items[1])
+            NMSItemCache.get(items[0], CraftItemStack::asNMSCopy),
+            NMSItemCache.get(items[1], CraftItemStack::asNMSCopy)
         );
 
         EntityPlayer entityPlayer = getEntityPlayer(player);
@@ -128,53 +137,32 @@ public class EnchantingTableInventoryImpl extends EnchantingTableInventory {
         @Nullable
         private CraftInventoryView bukkitEntity;
 
-        /**
-         * Field for accessing the enchant slots field
-         */
-        @NotNull
-        private final Field enchantSlotsField;
-
         public ContainerEnchantingTableImpl(@NotNull EntityPlayer entityPlayer,
                                             @Nullable org.bukkit.inventory.ItemStack[] items) {
             super(entityPlayer.nextContainerCounter(), entityPlayer.inventory);
 
             this.player = entityPlayer.getBukkitEntity();
 
-            try {
-                this.enchantSlotsField = ContainerEnchantTable.class.getDeclaredField("enchantSlots");
-                this.enchantSlotsField.setAccessible(true);
-            } catch (NoSuchFieldException exception) {
-                throw new RuntimeException(exception);
-            }
+            IInventory input = ENCHANT_SLOTS.apply(this);
 
-            try {
-                IInventory input = (IInventory) enchantSlotsField.get(this);
-
-                input.setItem(0, CraftItemStack.asNMSCopy(items[0]));
-                input.setItem(1, CraftItemStack.asNMSCopy(items[1]));
-            } catch (IllegalAccessException e) {
-                e.printStackTrace();
-            }
+            input.setItem(0, CraftItemStack.asNMSCopy(items[0]));
+            input.setItem(1, CraftItemStack.asNMSCopy(items[1]));
         }
 
         @NotNull
         @Override
         public CraftInventoryView getBukkitView() {
             if (bukkitEntity == null) {
-                try {
-                    CraftInventory inventory = new CraftInventoryEnchanting((IInventory) enchantSlotsField.get(this)) {
-                        @NotNull
-                        @Contract(pure = true)
-                        @Override
-                        public InventoryHolder getHolder() {
-                            return inventoryHolder;
-                        }
-                    };
-
-                    bukkitEntity = new CraftInventoryView(player, inventory, this);
-                } catch (IllegalAccessException exception) {
-                    exception.printStackTrace();
-                }
+                CraftInventory inventory = new CraftInventoryEnchanting(ENCHANT_SLOTS.apply(this)) {
+                    @NotNull
+                    @Contract(pure = true)
+                    @Override
+                    public InventoryHolder getHolder() {
+                        return inventoryHolder;
+                    }
+                };
+
+                bukkitEntity = new CraftInventoryView(player, inventory, this);
             }
 
             return bukkitEntity;
@@ -1,6 +1,7 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_16_1;
 
 import com.github.stefvanschie.inventoryframework.abstraction.SmithingTableInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import com.github.stefvanschie.inventoryframework.nms.v1_16_1.util.TextHolderUtil;
 import net.minecraft.server.v1_16_R1.*;
@@ -60,9 +61,9 @@ public class SmithingTableInventoryImpl extends SmithingTableInventory {
                           @Nullable org.bukkit.inventory.ItemStack cursor) {
         NonNullList<ItemStack> nmsItems = NonNullList.a(
             ItemStack.b,
-            CraftItemStack.asNMSCopy(items[0]),
-            CraftItemStack.asNMSCopy(items[1]),
-            CraftItemStack.asNMSCopy(items[2])
+            NMSItemCache.get(items[0], CraftItemStack::asNMSCopy),
+            NMSItemCache.get(items[1], CraftItemStack::asNMSCopy),
+            NMSItemCache.get(items[2], CraftItemStack::asNMSCopy)
         );
 
         EntityPlayer entityPlayer = getEntityPlayer(player);
@@ -73,7 +74,7 @@ public class SmithingTableInventoryImpl extends SmithingTableInventory {
     @Override
     public void sendFirstItem(@NotNull Player player, @Nullable org.bukkit.inventory.ItemStack item) {
         EntityPlayer entityPlayer = getEntityPlayer(player);
-        ItemStack nmsItem = CraftItemStack.asNMSCopy(item);
+        ItemStack nmsItem = NMSItemCache.get(item, CraftItemStack::asNMSCopy);
 
         getPlayerConnection(entityPlayer).sendPacket(new PacketPlayOutSetSlot(getWindowId(entityPlayer), 0, nmsItem));
     }
@@ -81,14 +82,16 @@ public class SmithingTableInventoryImpl extends SmithingTableInventory {
     @Override
     public void sendSecondItem(@NotNull Player player, @Nullable org.bukkit.inventory.ItemStack item) {
         EntityPlayer entityPlayer = getEntityPlayer(player);
-        ItemStack nmsItem = CraftItemStack.asNMSCopy(item);
+        ItemStack nmsItem = NMSItemCache.get(item, CraftItemStack::asNMSCopy);
 
         getPlayerConnection(entityPlayer).sendPacket(new PacketPlayOutSetSlot(getWindowId(entityPlayer), 1, nmsItem));
     }
 
     @Override
     public void sendResultItem(@NotNull Player player, @Nullable org.bukkit.inventory.ItemStack item) {
-        sendResultItem(player, CraftItemStack.asNMSCopy(item));
+        ItemStack nmsItem = NMSItemCache.get(item, CraftItemStack::asNMSCopy);
+
+        sendResultItem(player, nmsItem);
     }
 
     @Override
@@ -98,7 +101,9 @@ public class SmithingTableInventoryImpl extends SmithingTableInventory {
 
     @Override
     public void setCursor(@NotNull Player player, @NotNull org.bukkit.inventory.ItemStack item) {
-        setCursor(player, CraftItemStack.asNMSCopy(item));
+        ItemStack nmsItem = NMSItemCache.get(item, CraftItemStack::asNMSCopy);
+
+        setCursor(player, nmsItem);
     }
 
     @Override
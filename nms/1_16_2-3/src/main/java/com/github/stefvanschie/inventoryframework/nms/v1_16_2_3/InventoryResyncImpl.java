@@ -0,0 +1,58 @@
+package com.github.stefvanschie.inventoryframework.nms.v1_16_2_3;
+
+import com.github.stefvanschie.inventoryframework.abstraction.InventoryResync;
+import net.minecraft.server.v1_16_R2.EntityPlayer;
+import net.minecraft.server.v1_16_R2.PacketPlayOutSetSlot;
+import org.bukkit.craftbukkit.v1_16_R2.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_16_R2.inventory.CraftItemStack;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Internal inventory resync for 1.16 R2
+ *
+ * @since 0.10.19
+ */
+public class InventoryResyncImpl extends InventoryResync {
+
+    @Override
+    public void sendSlot(@NotNull Player player, int slot, @Nullable ItemStack item) {
+        EntityPlayer entityPlayer = getEntityPlayer(player);
+        int windowId = entityPlayer.activeContainer.windowId;
+
+        entityPlayer.playerConnection.sendPacket(
+            new PacketPlayOutSetSlot(windowId, slot, CraftItemStack.asNMSCopy(item))
+        );
+    }
+
+    @Override
+    public void sendCursor(@NotNull Player player, @Nullable ItemStack item) {
+        EntityPlayer entityPlayer = getEntityPlayer(player);
+
+        entityPlayer.playerConnection.sendPacket(new PacketPlayOutSetSlot(-1, -1, CraftItemStack.asNMSCopy(item)));
+    }
+
+    @Override
+    public void sendOffHand(@NotNull Player player, @Nullable ItemStack item) {
+        EntityPlayer entityPlayer = getEntityPlayer(player);
+
+        //window id -2 addresses the player's inventory directly, in which the off hand is slot 40
+        entityPlayer.playerConnection.sendPacket(new PacketPlayOutSetSlot(-2, 40, CraftItemStack.asNMSCopy(item)));
+    }
+
+    /**
+     * Gets the entity player associated to this player
+     *
+     * @param player the player to get the entity player from
+     * @return the entity player
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private EntityPlayer getEntityPlayer(@NotNull Player player) {
+        return ((CraftPlayer) player).getHandle();
+    }
+}
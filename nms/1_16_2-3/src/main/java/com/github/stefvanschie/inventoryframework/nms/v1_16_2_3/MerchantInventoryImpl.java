@@ -1,6 +1,7 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_16_2_3;
 
 import com.github.stefvanschie.inventoryframework.abstraction.MerchantInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
 import net.minecraft.server.v1_16_R2.EntityPlayer;
 import net.minecraft.server.v1_16_R2.MerchantRecipeList;
 import org.bukkit.craftbukkit.v1_16_R2.entity.CraftPlayer;
@@ -10,6 +11,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.MerchantRecipe;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Map;
@@ -21,51 +23,106 @@ import java.util.Map;
  */
 public class MerchantInventoryImpl extends MerchantInventory {
 
+    /**
+     * The offers created from the trades, which are shared by every player they are sent to, or null if they
+     * have not been created yet
+     */
+    @Nullable
+    private MerchantRecipeList offers;
+
     @Override
     public void sendMerchantOffers(@NotNull Player player,
                                    @NotNull List<? extends Map.Entry<? extends MerchantRecipe, ? extends Integer>> trades,
                                    int level, int experience) {
-        MerchantRecipeList offers = new MerchantRecipeList();
+        MerchantRecipeList offers = this.offers;
 
-        for (Map.Entry<? extends MerchantRecipe, ? extends Integer> entry : trades) {
-            MerchantRecipe recipe = entry.getKey();
-            List<ItemStack> ingredients = recipe.getIngredients();
+        if (offers == null) {
+            offers = new MerchantRecipeList();
 
-            if (ingredients.size() < 1) {
-                throw new IllegalStateException("Merchant recipe has no ingredients");
+            for (Map.Entry<? extends MerchantRecipe, ? extends Integer> entry : trades) {
+                offers.add(createMerchantOffer(entry.getKey(), entry.getValue()));
             }
 
-            ItemStack itemA = ingredients.get(0);
-            ItemStack itemB = null;
+            this.offers = offers;
+        }
 
-            if (ingredients.size() >= 2) {
-                itemB = ingredients.get(1);
-            }
+        EntityPlayer entityPlayer = getEntityPlayer(player);
 
-            net.minecraft.server.v1_16_R2.ItemStack nmsItemA = CraftItemStack.asNMSCopy(itemA);
-            net.minecraft.server.v1_16_R2.ItemStack nmsItemB = net.minecraft.server.v1_16_R2.ItemStack.b;
-            net.minecraft.server.v1_16_R2.ItemStack nmsItemResult = CraftItemStack.asNMSCopy(recipe.getResult());
+        entityPlayer.openTrade(getWindowId(entityPlayer), offers, level, experience, true, false);
+    }
 
-            if (itemB != null) {
-                nmsItemB = CraftItemStack.asNMSCopy(itemB);
-            }
+    @Override
+    public void updateMerchantOffer(int index, @NotNull MerchantRecipe recipe, int priceDifference) {
+        MerchantRecipeList offers = this.offers;
+
+        if (offers == null) {
+            return;
+        }
+
+        //offers which have been sent may still be in use by the network thread, so they are never modified
+        MerchantRecipeList updatedOffers = new MerchantRecipeList();
+
+        updatedOffers.addAll(offers);
+        updatedOffers.set(index, createMerchantOffer(recipe, priceDifference));
+
+        this.offers = updatedOffers;
+    }
+
+    @Override
+    public void clearMerchantOffers() {
+        this.offers = null;
+    }
 
-            int uses = recipe.getUses();
-            int maxUses = recipe.getMaxUses();
-            int exp = recipe.getVillagerExperience();
-            float multiplier = recipe.getPriceMultiplier();
+    @Override
+    public void shareMerchantOffers(@NotNull MerchantInventory merchantInventory) {
+        this.offers = ((MerchantInventoryImpl) merchantInventory).offers;
+    }
 
-            net.minecraft.server.v1_16_R2.MerchantRecipe merchantOffer = new net.minecraft.server.v1_16_R2.MerchantRecipe(
-                    nmsItemA, nmsItemB, nmsItemResult, uses, maxUses, exp, multiplier
-            );
-            merchantOffer.setSpecialPrice(entry.getValue());
+    /**
+     * Creates a merchant offer from the specified recipe and price difference.
+     *
+     * @param recipe the recipe to create the offer from
+     * @param priceDifference the difference between the new price and the original price
+     * @return the merchant offer
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    private net.minecraft.server.v1_16_R2.MerchantRecipe createMerchantOffer(@NotNull MerchantRecipe recipe,
+                                                                             int priceDifference) {
+        List<ItemStack> ingredients = recipe.getIngredients();
 
-            offers.add(merchantOffer);
+        if (ingredients.size() < 1) {
+            throw new IllegalStateException("Merchant recipe has no ingredients");
         }
 
-        EntityPlayer entityPlayer = getEntityPlayer(player);
+        ItemStack itemA = ingredients.get(0);
+        ItemStack itemB = null;
 
-        entityPlayer.openTrade(getWindowId(entityPlayer), offers, level, experience, true, false);
+        if (ingredients.size() >= 2) {
+            itemB = ingredients.get(1);
+        }
+
+        net.minecraft.server.v1_16_R2.ItemStack nmsItemA = CraftItemStack.asNMSCopy(itemA);
+        net.minecraft.server.v1_16_R2.ItemStack nmsItemB = net.minecraft.server.v1_16_R2.ItemStack.b;
+        net.minecraft.server.v1_16_R2.ItemStack nmsItemResult = NMSItemCache.get(recipe.getResult(),
+                CraftItemStack::asNMSCopy);
+
+        if (itemB != null) {
+            nmsItemB = CraftItemStack.asNMSCopy(itemB);
+        }
+
+        int uses = recipe.getUses();
+        int maxUses = recipe.getMaxUses();
+        int exp = recipe.getVillagerExperience();
+        float multiplier = recipe.getPriceMultiplier();
+
+        net.minecraft.server.v1_16_R2.MerchantRecipe merchantOffer = new net.minecraft.server.v1_16_R2.MerchantRecipe(
+                nmsItemA, nmsItemB, nmsItemResult, uses, maxUses, exp, multiplier
+        );
+        merchantOffer.setSpecialPrice(priceDifference);
+
+        return merchantOffer;
     }
 
     /**
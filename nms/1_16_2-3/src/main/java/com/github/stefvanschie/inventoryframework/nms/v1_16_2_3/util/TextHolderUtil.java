@@ -3,6 +3,7 @@ package com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.util;
 import com.github.stefvanschie.inventoryframework.adventuresupport.ComponentHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolderCache;
 import net.minecraft.server.v1_16_R2.ChatComponentText;
 import net.minecraft.server.v1_16_R2.IChatBaseComponent;
 import org.jetbrains.annotations.Contract;
@@ -17,20 +18,40 @@ import java.util.Objects;
  */
 public final class TextHolderUtil {
     
+    /**
+     * The conversions of recently used holders
+     */
+    @NotNull
+    private static final TextHolderCache<IChatBaseComponent> CACHE = new TextHolderCache<>(TextHolderUtil::convert);
+    
     private TextHolderUtil() {
         //private constructor to prevent construction
     }
     
     /**
      * Converts the specified value to a vanilla component.
+     * The component is cached and the same instance is returned for equal holders, so callers must not modify it:
+     * don't append to it and don't change it through methods that modify a component in place and return it.
      *
      * @param holder the value to convert
      * @return the value as a vanilla component
      * @since 0.10.0
      */
     @NotNull
-    @Contract(pure = true)
     public static IChatBaseComponent toComponent(@NotNull TextHolder holder) {
+        return CACHE.get(holder);
+    }
+    
+    /**
+     * Converts the specified value to a vanilla component, without looking in the cache.
+     *
+     * @param holder the value to convert
+     * @return the value as a vanilla component
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static IChatBaseComponent convert(@NotNull TextHolder holder) {
         if (holder instanceof StringHolder) {
             return toComponent((StringHolder) holder);
         } else {
@@ -61,6 +82,12 @@ public final class TextHolderUtil {
     @NotNull
     @Contract(pure = true)
     private static IChatBaseComponent toComponent(@NotNull ComponentHolder holder) {
+        Object component = holder.asVanillaComponent();
+        
+        if (component != null) {
+            return (IChatBaseComponent) component;
+        }
+        
         return Objects.requireNonNull(IChatBaseComponent.ChatSerializer.a(holder.asJson()));
     }
 }
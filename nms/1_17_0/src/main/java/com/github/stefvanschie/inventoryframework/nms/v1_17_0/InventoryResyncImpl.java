@@ -0,0 +1,60 @@
+package com.github.stefvanschie.inventoryframework.nms.v1_17_0;
+
+import com.github.stefvanschie.inventoryframework.abstraction.InventoryResync;
+import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.server.level.ServerPlayer;
+import org.bukkit.craftbukkit.v1_17_R1.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_17_R1.inventory.CraftItemStack;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Internal inventory resync for 1.17 R1
+ *
+ * @since 0.10.19
+ */
+public class InventoryResyncImpl extends InventoryResync {
+
+    @Override
+    public void sendSlot(@NotNull Player player, int slot, @Nullable ItemStack item) {
+        ServerPlayer serverPlayer = getServerPlayer(player);
+        int containerId = serverPlayer.containerMenu.containerId;
+
+        serverPlayer.connection.send(
+            new ClientboundContainerSetSlotPacket(containerId, slot, CraftItemStack.asNMSCopy(item))
+        );
+    }
+
+    @Override
+    public void sendCursor(@NotNull Player player, @Nullable ItemStack item) {
+        ServerPlayer serverPlayer = getServerPlayer(player);
+
+        serverPlayer.connection.send(new ClientboundContainerSetSlotPacket(-1, -1, CraftItemStack.asNMSCopy(item)));
+    }
+
+    @Override
+    public void sendOffHand(@NotNull Player player, @Nullable ItemStack item) {
+        ServerPlayer serverPlayer = getServerPlayer(player);
+
+        //container id -2 addresses the player's inventory directly, in which the off hand is slot 40
+        serverPlayer.connection.send(
+            new ClientboundContainerSetSlotPacket(-2, 40, CraftItemStack.asNMSCopy(item))
+        );
+    }
+
+    /**
+     * Gets the server player associated to this player
+     *
+     * @param player the player to get the server player from
+     * @return the server player
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private ServerPlayer getServerPlayer(@NotNull Player player) {
+        return ((CraftPlayer) player).getHandle();
+    }
+}
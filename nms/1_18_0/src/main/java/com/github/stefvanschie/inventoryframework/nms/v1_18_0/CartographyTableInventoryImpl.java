@@ -1,6 +1,7 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_18_0;
 
 import com.github.stefvanschie.inventoryframework.abstraction.CartographyTableInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.util.ReflectionUtil;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import com.github.stefvanschie.inventoryframework.nms.v1_18_0.util.CustomInventoryUtil;
 import com.github.stefvanschie.inventoryframework.nms.v1_18_0.util.TextHolderUtil;
@@ -26,7 +27,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
+import java.util.function.Function;
 
 /**
  * Internal cartography table inventory for 1.18.0
@@ -35,6 +36,13 @@ import java.lang.reflect.Field;
  */
 public class CartographyTableInventoryImpl extends CartographyTableInventory {
 
+    /**
+     * Getter for the result inventory field
+     */
+    @NotNull
+    private static final Function<CartographyTableMenu, Container> RESULT_CONTAINER =
+        ReflectionUtil.findGetter(CartographyTableMenu.class, "u", Container.class); //resultContainer
+
     public CartographyTableInventoryImpl(@NotNull InventoryHolder inventoryHolder) {
         super(inventoryHolder);
     }
@@ -142,26 +150,12 @@ public class CartographyTableInventoryImpl extends CartographyTableInventory {
         @Nullable
         private CraftInventoryView bukkitEntity;
 
-        /**
-         * Field for accessing the result inventory field
-         */
-        @NotNull
-        private final Field resultContainerField;
-
         public ContainerCartographyTableImpl(@NotNull ServerPlayer serverPlayer,
                                              @Nullable org.bukkit.inventory.ItemStack[] items) {
             super(serverPlayer.nextContainerCounter(), serverPlayer.getInventory());
 
             this.player = serverPlayer.getBukkitEntity();
 
-            try {
-                //noinspection JavaReflectionMemberAccess
-                this.resultContainerField = CartographyTableMenu.class.getDeclaredField("u"); //resultContainer
-                this.resultContainerField.setAccessible(true);
-            } catch (NoSuchFieldException exception) {
-                throw new RuntimeException(exception);
-            }
-
             container.setItem(0, CraftItemStack.asNMSCopy(items[0]));
             container.setItem(1, CraftItemStack.asNMSCopy(items[1]));
 
@@ -202,11 +196,7 @@ public class CartographyTableInventoryImpl extends CartographyTableInventory {
         @NotNull
         @Contract(pure = true)
         private Container getResultInventory() {
-            try {
-                return (Container) resultContainerField.get(this);
-            } catch (IllegalAccessException exception) {
-                throw new RuntimeException(exception);
-            }
+            return RESULT_CONTAINER.apply(this);
         }
 
     }
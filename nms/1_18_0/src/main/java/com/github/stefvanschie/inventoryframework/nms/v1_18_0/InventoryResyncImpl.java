@@ -0,0 +1,65 @@
+package com.github.stefvanschie.inventoryframework.nms.v1_18_0;
+
+import com.github.stefvanschie.inventoryframework.abstraction.InventoryResync;
+import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import org.bukkit.craftbukkit.v1_18_R1.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_18_R1.inventory.CraftItemStack;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Internal inventory resync for 1.18.0
+ *
+ * @since 0.10.19
+ */
+public class InventoryResyncImpl extends InventoryResync {
+
+    @Override
+    public void sendSlot(@NotNull Player player, int slot, @Nullable ItemStack item) {
+        ServerPlayer serverPlayer = getServerPlayer(player);
+        AbstractContainerMenu containerMenu = serverPlayer.containerMenu;
+        int state = containerMenu.incrementStateId();
+
+        serverPlayer.connection.send(new ClientboundContainerSetSlotPacket(
+            containerMenu.containerId, state, slot, CraftItemStack.asNMSCopy(item)
+        ));
+    }
+
+    @Override
+    public void sendCursor(@NotNull Player player, @Nullable ItemStack item) {
+        ServerPlayer serverPlayer = getServerPlayer(player);
+        int state = serverPlayer.containerMenu.incrementStateId();
+
+        serverPlayer.connection.send(
+            new ClientboundContainerSetSlotPacket(-1, state, -1, CraftItemStack.asNMSCopy(item))
+        );
+    }
+
+    @Override
+    public void sendOffHand(@NotNull Player player, @Nullable ItemStack item) {
+        ServerPlayer serverPlayer = getServerPlayer(player);
+
+        //container id -2 addresses the player's inventory directly, in which the off hand is slot 40
+        serverPlayer.connection.send(
+            new ClientboundContainerSetSlotPacket(-2, 0, 40, CraftItemStack.asNMSCopy(item))
+        );
+    }
+
+    /**
+     * Gets the server player associated to this player
+     *
+     * @param player the player to get the server player from
+     * @return the server player
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private ServerPlayer getServerPlayer(@NotNull Player player) {
+        return ((CraftPlayer) player).getHandle();
+    }
+}
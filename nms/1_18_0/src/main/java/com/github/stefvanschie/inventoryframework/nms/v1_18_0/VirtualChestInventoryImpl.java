@@ -0,0 +1,355 @@
+package com.github.stefvanschie.inventoryframework.nms.v1_18_0;
+
+import com.github.stefvanschie.inventoryframework.abstraction.VirtualChestInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.VirtualInventorySink;
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import com.github.stefvanschie.inventoryframework.nms.v1_18_0.util.CustomInventoryUtil;
+import com.github.stefvanschie.inventoryframework.nms.v1_18_0.util.TextHolderUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.core.NonNullList;
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.game.ClientboundContainerClosePacket;
+import net.minecraft.network.protocol.game.ClientboundContainerSetContentPacket;
+import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.network.protocol.game.ClientboundOpenScreenPacket;
+import net.minecraft.network.protocol.game.ServerboundContainerClickPacket;
+import net.minecraft.network.protocol.game.ServerboundContainerClosePacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.inventory.MenuType;
+import net.minecraft.world.item.ItemStack;
+import org.bukkit.Bukkit;
+import org.bukkit.craftbukkit.v1_18_R1.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_18_R1.inventory.CraftItemStack;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+
+/**
+ * Internal virtual chest inventory for 1.18.0
+ *
+ * @since 0.10.19
+ */
+public class VirtualChestInventoryImpl extends VirtualChestInventory {
+
+    /**
+     * The name of the channel handler which intercepts the packets for virtual inventories
+     */
+    @NotNull
+    private static final String HANDLER_NAME = "inventoryframework_virtual_chest";
+
+    /**
+     * The menu types for each amount of rows, offset by one
+     */
+    @NotNull
+    private static final MenuType<?>[] MENU_TYPES = {
+        MenuType.GENERIC_9x1,
+        MenuType.GENERIC_9x2,
+        MenuType.GENERIC_9x3,
+        MenuType.GENERIC_9x4,
+        MenuType.GENERIC_9x5,
+        MenuType.GENERIC_9x6
+    };
+
+    /**
+     * The field holding the connection of a packet listener, found by its type since its name differs per mapping
+     */
+    @Nullable
+    private static Field connectionField;
+
+    public VirtualChestInventoryImpl() {
+        super(new PacketSink());
+    }
+
+    @Override
+    protected void listen(@NotNull Player player) {
+        ServerPlayer serverPlayer = getServerPlayer(player);
+        Channel channel = getConnection(serverPlayer).channel;
+
+        channel.eventLoop().execute(() -> {
+            ChannelPipeline pipeline = channel.pipeline();
+            ChannelHandler handler = pipeline.get(HANDLER_NAME);
+
+            if (handler instanceof PacketInterceptor) {
+                ((PacketInterceptor) handler).setInventory(this);
+                return;
+            }
+
+            if (pipeline.get("packet_handler") == null) {
+                return;
+            }
+
+            pipeline.addBefore("packet_handler", HANDLER_NAME, new PacketInterceptor(serverPlayer, this));
+        });
+    }
+
+    /**
+     * Gets the network connection of the specified player
+     *
+     * @param serverPlayer the player to get the connection of
+     * @return the connection
+     * @since 0.10.19
+     */
+    @NotNull
+    private static Connection getConnection(@NotNull ServerPlayer serverPlayer) {
+        Object listener = serverPlayer.connection;
+
+        try {
+            if (connectionField == null) {
+                connectionField = findConnectionField(listener.getClass());
+            }
+
+            return (Connection) connectionField.get(listener);
+        } catch (IllegalAccessException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Finds the field of type {@link Connection} in the specified class or one of its super classes
+     *
+     * @param clazz the class to search
+     * @return the field
+     * @since 0.10.19
+     */
+    @NotNull
+    private static Field findConnectionField(@NotNull Class<?> clazz) {
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getType() == Connection.class) {
+                    field.setAccessible(true);
+                    return field;
+                }
+            }
+        }
+
+        throw new IllegalStateException("Unable to find the connection of " + clazz.getName());
+    }
+
+    /**
+     * Gets the server player associated to this player
+     *
+     * @param player the player to get the server player from
+     * @return the server player
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static ServerPlayer getServerPlayer(@NotNull Player player) {
+        return ((CraftPlayer) player).getHandle();
+    }
+
+    /**
+     * Gets the server player with the specified unique id, or null if they are not online
+     *
+     * @param viewer the unique id of the player
+     * @return the server player or null
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    private static ServerPlayer getServerPlayer(@NotNull UUID viewer) {
+        Player player = Bukkit.getPlayer(viewer);
+
+        return player == null ? null : getServerPlayer(player);
+    }
+
+    /**
+     * A sink sending the packets directly to the player's connection
+     *
+     * @since 0.10.19
+     */
+    private static class PacketSink implements VirtualInventorySink {
+
+        @Override
+        public int openScreen(@NotNull UUID viewer, int rows, @NotNull TextHolder title) {
+            ServerPlayer serverPlayer = getServerPlayer(viewer);
+
+            if (serverPlayer == null) {
+                throw new IllegalArgumentException("Viewer '" + viewer + "' is not online");
+            }
+
+            int containerId = serverPlayer.nextContainerCounter();
+
+            serverPlayer.connection.send(new ClientboundOpenScreenPacket(
+                containerId, MENU_TYPES[rows - 1], TextHolderUtil.toComponent(title)
+            ));
+
+            return containerId;
+        }
+
+        @Override
+        public void setContent(@NotNull UUID viewer, int containerId, int stateId,
+                               @Nullable org.bukkit.inventory.ItemStack @NotNull [] items) {
+            ServerPlayer serverPlayer = getServerPlayer(viewer);
+
+            if (serverPlayer == null) {
+                return;
+            }
+
+            NonNullList<ItemStack> nmsItems = CustomInventoryUtil.convertToNMSItems(items);
+
+            //the player's own inventory follows the top items, without the crafting grid, armor and off hand
+            nmsItems.addAll(serverPlayer.inventoryMenu.getItems().subList(9, 45));
+
+            ItemStack carried = serverPlayer.containerMenu.getCarried();
+
+            serverPlayer.connection.send(
+                new ClientboundContainerSetContentPacket(containerId, stateId, nmsItems, carried)
+            );
+        }
+
+        @Override
+        public void setSlot(@NotNull UUID viewer, int containerId, int stateId, int slot,
+                            @Nullable org.bukkit.inventory.ItemStack item) {
+            ServerPlayer serverPlayer = getServerPlayer(viewer);
+
+            if (serverPlayer == null) {
+                return;
+            }
+
+            ItemStack nmsItem = NMSItemCache.get(item, CraftItemStack::asNMSCopy);
+
+            serverPlayer.connection.send(new ClientboundContainerSetSlotPacket(containerId, stateId, slot, nmsItem));
+        }
+
+        @Override
+        public void closeScreen(@NotNull UUID viewer, int containerId) {
+            ServerPlayer serverPlayer = getServerPlayer(viewer);
+
+            if (serverPlayer == null) {
+                return;
+            }
+
+            serverPlayer.connection.send(new ClientboundContainerClosePacket(containerId));
+        }
+    }
+
+    /**
+     * A channel handler which takes the click and close packets for virtual inventories out of the pipeline and
+     * forwards them to the inventory on the main thread. Outgoing screen changes end the virtual session, since the
+     * client replaces the virtual screen with them.
+     *
+     * @since 0.10.19
+     */
+    private static class PacketInterceptor extends ChannelDuplexHandler {
+
+        /**
+         * The player whose packets are intercepted
+         */
+        @NotNull
+        private final ServerPlayer serverPlayer;
+
+        /**
+         * The unique id of the player
+         */
+        @NotNull
+        private final UUID viewer;
+
+        /**
+         * The inventory the player last opened
+         */
+        @NotNull
+        private volatile VirtualChestInventory inventory;
+
+        /**
+         * Creates a new packet interceptor
+         *
+         * @param serverPlayer the player whose packets are intercepted
+         * @param inventory the inventory the player opened
+         * @since 0.10.19
+         */
+        private PacketInterceptor(@NotNull ServerPlayer serverPlayer, @NotNull VirtualChestInventory inventory) {
+            this.serverPlayer = serverPlayer;
+            this.viewer = serverPlayer.getUUID();
+            this.inventory = inventory;
+        }
+
+        /**
+         * Sets the inventory the player opened. The session of the previous inventory ends, since the client can only
+         * show one screen at a time.
+         *
+         * @param inventory the inventory
+         * @since 0.10.19
+         */
+        private void setInventory(@NotNull VirtualChestInventory inventory) {
+            VirtualChestInventory previous = this.inventory;
+
+            if (previous == inventory) {
+                return;
+            }
+
+            int containerId = previous.getContainerId(this.viewer);
+
+            this.inventory = inventory;
+
+            if (containerId != -1) {
+                this.serverPlayer.server.execute(() -> previous.handleClose(this.viewer, containerId));
+            }
+        }
+
+        @Override
+        public void channelRead(@NotNull ChannelHandlerContext context, @NotNull Object message) throws Exception {
+            VirtualChestInventory inventory = this.inventory;
+            int containerId = inventory.getContainerId(this.viewer);
+
+            if (containerId != -1 && message instanceof ServerboundContainerClickPacket) {
+                ServerboundContainerClickPacket packet = (ServerboundContainerClickPacket) message;
+
+                if (packet.getContainerId() == containerId) {
+                    int slot = packet.getSlotNum();
+                    int button = packet.getButtonNum();
+                    int mode = packet.getClickType().ordinal();
+
+                    this.serverPlayer.server.execute(
+                        () -> inventory.handleClick(this.viewer, containerId, slot, button, mode)
+                    );
+                    return;
+                }
+            } else if (containerId != -1 && message instanceof ServerboundContainerClosePacket) {
+                if (((ServerboundContainerClosePacket) message).getContainerId() == containerId) {
+                    this.serverPlayer.server.execute(() -> inventory.handleClose(this.viewer, containerId));
+                    return;
+                }
+            }
+
+            super.channelRead(context, message);
+        }
+
+        @Override
+        public void write(@NotNull ChannelHandlerContext context, @NotNull Object message,
+                          @NotNull ChannelPromise promise) throws Exception {
+            VirtualChestInventory inventory = this.inventory;
+            int containerId = inventory.getContainerId(this.viewer);
+
+            if (containerId != -1 && (message instanceof ClientboundContainerClosePacket ||
+                (message instanceof ClientboundOpenScreenPacket &&
+                    ((ClientboundOpenScreenPacket) message).getContainerId() != containerId))) {
+                this.serverPlayer.server.execute(() -> inventory.handleClose(this.viewer, containerId));
+            }
+
+            super.write(context, message, promise);
+        }
+
+        @Override
+        public void channelInactive(@NotNull ChannelHandlerContext context) throws Exception {
+            VirtualChestInventory inventory = this.inventory;
+            int containerId = inventory.getContainerId(this.viewer);
+
+            if (containerId != -1) {
+                this.serverPlayer.server.execute(() -> inventory.handleClose(this.viewer, containerId));
+            }
+
+            super.channelInactive(context);
+        }
+    }
+}
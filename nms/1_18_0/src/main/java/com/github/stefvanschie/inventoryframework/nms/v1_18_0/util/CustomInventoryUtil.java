@@ -1,5 +1,6 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_18_0.util;
 
+import com.github.stefvanschie.inventoryframework.abstraction.util.NMSItemCache;
 import net.minecraft.core.NonNullList;
 import net.minecraft.world.item.ItemStack;
 import org.bukkit.craftbukkit.v1_18_R1.inventory.CraftItemStack;
@@ -20,7 +21,8 @@ public final class CustomInventoryUtil {
     private CustomInventoryUtil() {}
 
     /**
-     * Converts an array of Bukkit items into a non null list of NMS items. The returned list is modifiable. If no items
+     * Converts an array of Bukkit items into a non null list of NMS items. The returned list is modifiable, but the
+     * items in it are shared, see {@link NMSItemCache}, so they may only be sent and must not be modified. If no items
      * were specified, this returns an empty list.
      *
      * @param items the items to convert
@@ -33,7 +35,7 @@ public final class CustomInventoryUtil {
         NonNullList<ItemStack> nmsItems = NonNullList.create();
 
         for (org.bukkit.inventory.ItemStack item : items) {
-            nmsItems.add(CraftItemStack.asNMSCopy(item));
+            nmsItems.add(NMSItemCache.get(item, CraftItemStack::asNMSCopy));
         }
 
         return nmsItems;
@@ -0,0 +1,166 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A mirror of what a single client was last sent for the slots of a container. Only a fingerprint is kept per slot,
+ * so a mirror is a single long array and items are never copied. The mirror is used to drop set-slot packets for items
+ * the client already has. It should only be used for containers of which all slot packets are sent through the
+ * mirror; anything written to the client behind its back makes the mirror stale.
+ *
+ * @since 0.10.19
+ */
+public final class ClientStateMirror {
+
+    /**
+     * The fingerprint of a slot of which the client's contents are unknown
+     */
+    private static final long UNKNOWN = Long.MIN_VALUE;
+
+    /**
+     * The fingerprint of an empty slot
+     */
+    private static final long EMPTY = 0;
+
+    /**
+     * The fingerprints of the items the client was last sent, by slot
+     */
+    private final long[] fingerprints;
+
+    /**
+     * Creates a new mirror for a container with the specified amount of slots. All slots start out as unknown.
+     *
+     * @param size the amount of slots
+     * @since 0.10.19
+     */
+    public ClientStateMirror(int size) {
+        this.fingerprints = new long[size];
+
+        reset();
+    }
+
+    /**
+     * Marks every slot as unknown, so the next item sent for every slot will not be dropped. This should be called
+     * when the container is opened again, or when the client's state may differ from what it was sent, such as after
+     * a state id mismatch.
+     *
+     * @since 0.10.19
+     */
+    public void reset() {
+        Arrays.fill(this.fingerprints, UNKNOWN);
+    }
+
+    /**
+     * Records that the specified item is about to be sent for the specified slot. Returns whether the item differs
+     * from what the client was last sent for this slot; if it doesn't, the packet can be dropped.
+     *
+     * @param slot the slot
+     * @param item the item to send
+     * @return true if the item should be sent, false if the client already has it
+     * @since 0.10.19
+     */
+    public boolean update(int slot, @Nullable ItemStack item) {
+        long fingerprint = fingerprint(item);
+
+        if (this.fingerprints[slot] == fingerprint) {
+            return false;
+        }
+
+        this.fingerprints[slot] = fingerprint;
+        return true;
+    }
+
+    /**
+     * Records that the specified items are about to be sent for the first slots of this container, for example as
+     * part of a packet containing all the items.
+     *
+     * @param items the items to send
+     * @since 0.10.19
+     */
+    public void set(@Nullable ItemStack @NotNull [] items) {
+        for (int index = 0; index < items.length; index++) {
+            this.fingerprints[index] = fingerprint(items[index]);
+        }
+    }
+
+    /**
+     * Gets the amount of the specified items that differ from what the client was last sent. This does not change the
+     * state of the mirror.
+     *
+     * @param items the items to compare
+     * @return the amount of differing items
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public int countChanges(@Nullable ItemStack @NotNull [] items) {
+        int changes = 0;
+
+        for (int index = 0; index < items.length; index++) {
+            if (this.fingerprints[index] != fingerprint(items[index])) {
+                changes++;
+            }
+        }
+
+        return changes;
+    }
+
+    /**
+     * Gets the amount of slots this mirror keeps track of.
+     *
+     * @return the amount of slots
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public int getSize() {
+        return this.fingerprints.length;
+    }
+
+    /**
+     * Computes the fingerprint of the specified item. Empty items all have the same fingerprint. Items without meta
+     * have their type and amount as their fingerprint, so those never collide. For items with meta, the fingerprint is
+     * a 64 bit hash of the type, the amount and the serialized meta, so different items only have equal fingerprints
+     * with negligible probability. Unlike the item's hash code, this never leaves part of the meta out.
+     *
+     * @param item the item
+     * @return the fingerprint
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public static long fingerprint(@Nullable ItemStack item) {
+        if (item == null || item.getType().isAir() || item.getAmount() <= 0) {
+            return EMPTY;
+        }
+
+        //the type is offset by one, so this is never empty or unknown
+        long typeAndAmount = (item.getType().ordinal() + 1L) << 8 | item.getAmount() & 0xFF;
+
+        if (!item.hasItemMeta()) {
+            return typeAndAmount;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+
+        if (meta == null) {
+            return typeAndAmount;
+        }
+
+        //64 bit FNV-1a over the serialized meta, seeded with the type and amount
+        long hash = 0xCBF29CE484222325L ^ typeAndAmount;
+        String serialized = String.valueOf(meta.serialize());
+
+        for (int index = 0; index < serialized.length(); index++) {
+            hash = (hash ^ serialized.charAt(index)) * 0x100000001B3L;
+        }
+
+        //items with meta have the sign bit set, so they never share a fingerprint with items without meta
+        hash |= Long.MIN_VALUE;
+
+        return hash == UNKNOWN ? ~EMPTY : hash;
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sends single slots to a player's client, to undo what the client predicted for a click that was cancelled. This is
+ * meant to be used instead of sending the entire window again; the packets are sent immediately, in the same tick as
+ * the click.
+ *
+ * @since 0.10.19
+ */
+public abstract class InventoryResync {
+
+    /**
+     * Sends the specified item for the specified raw slot of the inventory the player currently has open.
+     *
+     * @param player the player to send the item to
+     * @param slot the raw slot
+     * @param item the item to send
+     * @since 0.10.19
+     */
+    public abstract void sendSlot(@NotNull Player player, int slot, @Nullable ItemStack item);
+
+    /**
+     * Sends the specified item as the item on the player's cursor.
+     *
+     * @param player the player to send the item to
+     * @param item the item to send
+     * @since 0.10.19
+     */
+    public abstract void sendCursor(@NotNull Player player, @Nullable ItemStack item);
+
+    /**
+     * Sends the specified item as the item in the player's off hand. This works regardless of which inventory the
+     * player currently has open.
+     *
+     * @param player the player to send the item to
+     * @param item the item to send
+     * @since 0.10.19
+     */
+    public abstract void sendOffHand(@NotNull Player player, @Nullable ItemStack item);
+}
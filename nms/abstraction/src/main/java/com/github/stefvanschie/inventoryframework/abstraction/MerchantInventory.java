@@ -8,14 +8,18 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * A merchant inventory
+ * A merchant inventory. The offers sent to players are created from the trades once and then shared by every player
+ * they are sent to, until the trades change.
  *
  * @since 0.10.1
  */
 public abstract class MerchantInventory {
 
     /**
-     * Sends the merchant offers to the player, combined with the merchants level and experience.
+     * Sends the merchant offers to the player, combined with the merchants level and experience. The offers are only
+     * created from the specified trades if they haven't been created yet, otherwise the previously created offers are
+     * sent. When the trades change, {@link #clearMerchantOffers()} or
+     * {@link #updateMerchantOffer(int, MerchantRecipe, int)} should be called before sending the offers again.
      *
      * @param player the player to send this to
      * @param trades the trades to send
@@ -26,4 +30,33 @@ public abstract class MerchantInventory {
     public abstract void sendMerchantOffers(@NotNull Player player,
                                             @NotNull List<? extends Map.Entry<? extends MerchantRecipe, ? extends Integer>> trades,
                                             int level, int experience);
+
+    /**
+     * Replaces the offer at the specified index with an offer created from the specified recipe and price difference,
+     * without creating the other offers again. This does not send the offers to anyone. If no offers have been
+     * created yet, this does nothing.
+     *
+     * @param index the index of the offer
+     * @param recipe the recipe of the offer
+     * @param priceDifference the difference between the new price and the original price
+     * @since 0.10.19
+     */
+    public abstract void updateMerchantOffer(int index, @NotNull MerchantRecipe recipe, int priceDifference);
+
+    /**
+     * Discards the created offers, so they are created again the next time they are sent.
+     *
+     * @since 0.10.19
+     */
+    public abstract void clearMerchantOffers();
+
+    /**
+     * Uses the offers created by the specified merchant inventory, instead of creating them again. The specified
+     * merchant inventory must be of the same type as this one and it must have been used for the same trades. The
+     * offers are shared, not copied; updating the offers of either merchant inventory does not affect the other one.
+     *
+     * @param merchantInventory the merchant inventory to share the offers of
+     * @since 0.10.19
+     */
+    public abstract void shareMerchantOffers(@NotNull MerchantInventory merchantInventory);
 }
@@ -0,0 +1,471 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A chest inventory which only exists on the client. No server-side container is created for this inventory: the
+ * contents are sent via a {@link VirtualInventorySink} and clicks are read from the incoming packets, which the
+ * implementation should forward to {@link #handleClick(UUID, int, int, int, int)} and
+ * {@link #handleClose(UUID, int)}. Every viewer has their own session, so a single instance can be shown to many
+ * players at the same time.
+ * <p>
+ * Every session keeps a {@link ClientStateMirror} of the top items, so items the viewer already has are not sent
+ * again. The amount of slots sent and not sent is available through {@link #getSentSlotCount()} and
+ * {@link #getSuppressedSlotCount()}.
+ *
+ * @since 0.10.19
+ */
+public abstract class VirtualChestInventory {
+
+    /**
+     * The slot number clients send for clicks outside the window
+     */
+    public static final int OUTSIDE_SLOT = -999;
+
+    /**
+     * The sink to send the packets to
+     */
+    @NotNull
+    private final VirtualInventorySink sink;
+
+    /**
+     * The sessions of the current viewers by their unique id. This is read from the network threads, so it has to be
+     * safe for concurrent access.
+     */
+    @NotNull
+    private final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of top slots that were sent to viewers
+     */
+    @NotNull
+    private final LongAdder sentSlots = new LongAdder();
+
+    /**
+     * The amount of top slots that were not sent, because the viewer already had the item
+     */
+    @NotNull
+    private final LongAdder suppressedSlots = new LongAdder();
+
+    /**
+     * Called when a viewer clicks in this inventory
+     */
+    @Nullable
+    private ClickHandler onClick;
+
+    /**
+     * Called when the screen of a viewer is closed
+     */
+    @Nullable
+    private Consumer<? super UUID> onClose;
+
+    /**
+     * Creates a new virtual chest inventory
+     *
+     * @param sink the sink to send the packets to
+     * @since 0.10.19
+     */
+    public VirtualChestInventory(@NotNull VirtualInventorySink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Opens the inventory for the specified player. The amount of items determines the amount of rows and must be a
+     * multiple of nine between nine and fifty-four.
+     *
+     * @param player the player to open the inventory for
+     * @param title the title of the inventory
+     * @param items the top items
+     * @since 0.10.19
+     */
+    public final void openInventory(@NotNull Player player, @NotNull TextHolder title,
+                                    @Nullable ItemStack @NotNull [] items) {
+        listen(player);
+
+        openInventory(player.getUniqueId(), title, items);
+    }
+
+    /**
+     * Opens the inventory for the viewer with the specified unique id. This does not start listening for the packets
+     * of the viewer; use {@link #openInventory(Player, TextHolder, ItemStack[])} for online players.
+     *
+     * @param viewer the viewer to open the inventory for
+     * @param title the title of the inventory
+     * @param items the top items
+     * @since 0.10.19
+     */
+    public void openInventory(@NotNull UUID viewer, @NotNull TextHolder title, @Nullable ItemStack @NotNull [] items) {
+        int length = items.length;
+
+        if (length % 9 != 0 || length < 9 || length > 54) {
+            throw new IllegalArgumentException(
+                "The amount of items for a virtual chest should be a multiple of 9 between 9 and 54, but is '" +
+                    length + "'"
+            );
+        }
+
+        int containerId = this.sink.openScreen(viewer, length / 9, title);
+        Session session = new Session(containerId, items.clone());
+
+        this.sessions.put(viewer, session);
+
+        sendContent(viewer, session);
+    }
+
+    /**
+     * Sends the top items to the specified viewer. If the viewer is not viewing this inventory, this does nothing.
+     * Only the items that differ from what the viewer already has are sent; if many items differ, all items are sent
+     * at once instead.
+     *
+     * @param viewer the viewer to send the items to
+     * @param items the items to send
+     * @since 0.10.19
+     */
+    public void sendItems(@NotNull UUID viewer, @Nullable ItemStack @NotNull [] items) {
+        Session session = this.sessions.get(viewer);
+
+        if (session == null) {
+            return;
+        }
+
+        if (items.length != session.items.length) {
+            throw new IllegalArgumentException(
+                "The amount of items should be '" + session.items.length + "', but is '" + items.length + "'"
+            );
+        }
+
+        session.items = items.clone();
+
+        if (session.mirror.countChanges(session.items) > session.items.length / 2) {
+            sendContent(viewer, session);
+            return;
+        }
+
+        for (int slot = 0; slot < session.items.length; slot++) {
+            sendSlot(viewer, session, slot);
+        }
+    }
+
+    /**
+     * Sends a single top item to the specified viewer. If the viewer is not viewing this inventory, or if the viewer
+     * already has this item in this slot, this does nothing.
+     *
+     * @param viewer the viewer to send the item to
+     * @param slot the slot of the item
+     * @param item the item to send
+     * @since 0.10.19
+     */
+    public void sendItem(@NotNull UUID viewer, int slot, @Nullable ItemStack item) {
+        Session session = this.sessions.get(viewer);
+
+        if (session == null) {
+            return;
+        }
+
+        if (slot < 0 || slot >= session.items.length) {
+            throw new IllegalArgumentException("Slot '" + slot + "' is out of bounds");
+        }
+
+        session.items[slot] = item;
+
+        sendSlot(viewer, session, slot);
+    }
+
+    /**
+     * Closes the inventory for the specified viewer. The close handler is not called, since the close was initiated by
+     * the server.
+     *
+     * @param viewer the viewer to close the inventory for
+     * @since 0.10.19
+     */
+    public void closeInventory(@NotNull UUID viewer) {
+        Session session = this.sessions.remove(viewer);
+
+        if (session != null) {
+            this.sink.closeScreen(viewer, session.containerId);
+        }
+    }
+
+    /**
+     * Handles a click packet of the specified viewer. If the container id does not belong to the viewer's session,
+     * this does nothing. Otherwise the viewer's screen is sent again to undo any client-side prediction and the click
+     * handler is called when the click can be represented as a {@link ClickType}. Since the client may have changed
+     * any slot, the viewer's mirror is reset before sending.
+     *
+     * @param viewer the viewer who clicked
+     * @param containerId the container id of the click
+     * @param slot the raw slot that was clicked
+     * @param button the button number of the click
+     * @param mode the click mode, as the ordinal of the vanilla click type
+     * @since 0.10.19
+     */
+    public void handleClick(@NotNull UUID viewer, int containerId, int slot, int button, int mode) {
+        Session session = this.sessions.get(viewer);
+
+        if (session == null || session.containerId != containerId) {
+            return;
+        }
+
+        session.mirror.reset();
+
+        sendContent(viewer, session);
+
+        ClickType clickType = toClickType(slot, button, mode);
+
+        if (clickType != null && this.onClick != null) {
+            this.onClick.click(viewer, slot, clickType, button);
+        }
+    }
+
+    /**
+     * Handles the closing of the screen with the specified container id for the specified viewer. If the container id
+     * does not belong to the viewer's session, this does nothing. Otherwise the session ends and the close handler is
+     * called.
+     *
+     * @param viewer the viewer whose screen was closed
+     * @param containerId the container id of the closed screen
+     * @since 0.10.19
+     */
+    public void handleClose(@NotNull UUID viewer, int containerId) {
+        Session session = this.sessions.get(viewer);
+
+        if (session == null || session.containerId != containerId || !this.sessions.remove(viewer, session)) {
+            return;
+        }
+
+        if (this.onClose != null) {
+            this.onClose.accept(viewer);
+        }
+    }
+
+    /**
+     * Gets the container id of the screen the specified viewer has open for this inventory, or -1 if the viewer is
+     * not viewing this inventory. This is safe to call from any thread.
+     *
+     * @param viewer the viewer
+     * @return the container id or -1
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public int getContainerId(@NotNull UUID viewer) {
+        Session session = this.sessions.get(viewer);
+
+        return session == null ? -1 : session.containerId;
+    }
+
+    /**
+     * Gets the amount of top slots that were sent to viewers of this inventory, either on their own or as part of all
+     * items.
+     *
+     * @return the amount of sent slots
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public long getSentSlotCount() {
+        return this.sentSlots.sum();
+    }
+
+    /**
+     * Gets the amount of top slots that were not sent to viewers of this inventory, because the viewer already had the
+     * item in that slot.
+     *
+     * @return the amount of suppressed slots
+     * @since 0.10.19
+     */
+    @Contract(pure = true)
+    public long getSuppressedSlotCount() {
+        return this.suppressedSlots.sum();
+    }
+
+    /**
+     * Sets the handler to call when a viewer clicks in this inventory.
+     *
+     * @param onClick the click handler
+     * @since 0.10.19
+     */
+    public void setOnClick(@Nullable ClickHandler onClick) {
+        this.onClick = onClick;
+    }
+
+    /**
+     * Sets the consumer to call when the screen of a viewer is closed by something other than
+     * {@link #closeInventory(UUID)}.
+     *
+     * @param onClose the close handler
+     * @since 0.10.19
+     */
+    public void setOnClose(@Nullable Consumer<? super UUID> onClose) {
+        this.onClose = onClose;
+    }
+
+    /**
+     * Sends all top items of the specified session to the viewer.
+     *
+     * @param viewer the viewer to send the items to
+     * @param session the session of the viewer
+     * @since 0.10.19
+     */
+    private void sendContent(@NotNull UUID viewer, @NotNull Session session) {
+        session.mirror.set(session.items);
+        this.sentSlots.add(session.items.length);
+
+        this.sink.setContent(viewer, session.containerId, session.nextStateId(), session.items);
+    }
+
+    /**
+     * Sends the top item in the specified slot of the specified session to the viewer, unless the viewer already has
+     * this item.
+     *
+     * @param viewer the viewer to send the item to
+     * @param session the session of the viewer
+     * @param slot the slot of the item
+     * @since 0.10.19
+     */
+    private void sendSlot(@NotNull UUID viewer, @NotNull Session session, int slot) {
+        ItemStack item = session.items[slot];
+
+        if (!session.mirror.update(slot, item)) {
+            this.suppressedSlots.increment();
+            return;
+        }
+
+        this.sentSlots.increment();
+
+        this.sink.setSlot(viewer, session.containerId, session.nextStateId(), slot, item);
+    }
+
+    /**
+     * Starts listening for the click and close packets of the specified player, so they can be forwarded to this
+     * inventory.
+     *
+     * @param player the player to listen to
+     * @since 0.10.19
+     */
+    protected abstract void listen(@NotNull Player player);
+
+    /**
+     * Converts the button and mode of a click packet to a click type. Returns null for clicks that cannot be
+     * represented, such as drags.
+     *
+     * @param slot the raw slot that was clicked
+     * @param button the button number of the click
+     * @param mode the click mode, as the ordinal of the vanilla click type
+     * @return the click type or null
+     * @since 0.10.19
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static ClickType toClickType(int slot, int button, int mode) {
+        switch (mode) {
+            case 0:
+                if (slot == OUTSIDE_SLOT) {
+                    return button == 0 ? ClickType.WINDOW_BORDER_LEFT : ClickType.WINDOW_BORDER_RIGHT;
+                }
+
+                return button == 0 ? ClickType.LEFT : ClickType.RIGHT;
+            case 1:
+                return button == 0 ? ClickType.SHIFT_LEFT : ClickType.SHIFT_RIGHT;
+            case 2:
+                return button == 40 ? ClickType.SWAP_OFFHAND : ClickType.NUMBER_KEY;
+            case 3:
+                return ClickType.MIDDLE;
+            case 4:
+                if (slot == OUTSIDE_SLOT) {
+                    return button == 0 ? ClickType.WINDOW_BORDER_LEFT : ClickType.WINDOW_BORDER_RIGHT;
+                }
+
+                return button == 0 ? ClickType.DROP : ClickType.CONTROL_DROP;
+            case 6:
+                return ClickType.DOUBLE_CLICK;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * A handler for clicks in a virtual inventory.
+     *
+     * @since 0.10.19
+     */
+    @FunctionalInterface
+    public interface ClickHandler {
+
+        /**
+         * Called when the specified viewer clicks.
+         *
+         * @param viewer the viewer who clicked
+         * @param slot the raw slot that was clicked
+         * @param clickType the type of click
+         * @param button the button number of the click, which is the hotbar slot for number key clicks
+         * @since 0.10.19
+         */
+        void click(@NotNull UUID viewer, int slot, @NotNull ClickType clickType, int button);
+    }
+
+    /**
+     * The state of a single viewer.
+     *
+     * @since 0.10.19
+     */
+    private static final class Session {
+
+        /**
+         * The container id of the open screen
+         */
+        private final int containerId;
+
+        /**
+         * The top items currently shown
+         */
+        @Nullable
+        private ItemStack @NotNull [] items;
+
+        /**
+         * What the viewer was last sent for the top items
+         */
+        @NotNull
+        private final ClientStateMirror mirror;
+
+        /**
+         * The last state id that was sent
+         */
+        private int stateId;
+
+        /**
+         * Creates a new session
+         *
+         * @param containerId the container id
+         * @param items the top items
+         * @since 0.10.19
+         */
+        private Session(int containerId, @Nullable ItemStack @NotNull [] items) {
+            this.containerId = containerId;
+            this.items = items;
+            this.mirror = new ClientStateMirror(items.length);
+        }
+
+        /**
+         * Increments the state id and returns it. The state id is kept within fifteen bits, like vanilla does.
+         *
+         * @return the next state id
+         * @since 0.10.19
+         */
+        private int nextStateId() {
+            this.stateId = this.stateId + 1 & 32767;
+
+            return this.stateId;
+        }
+    }
+}
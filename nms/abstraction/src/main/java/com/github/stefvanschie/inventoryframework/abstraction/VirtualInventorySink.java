@@ -0,0 +1,67 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * The destination for the packets of a {@link VirtualChestInventory}. Implementations translate these calls into the
+ * actual packets for a specific version; no server-side container is involved. Viewers are identified by their unique
+ * id, so implementations should ignore calls for viewers that are no longer online, except for
+ * {@link #openScreen(UUID, int, TextHolder)}.
+ *
+ * @since 0.10.19
+ */
+public interface VirtualInventorySink {
+
+    /**
+     * Opens a new chest screen with the given amount of rows and title for the specified viewer and returns the
+     * container id that was used for it.
+     *
+     * @param viewer the viewer to open the screen for
+     * @param rows the amount of rows, between one and six
+     * @param title the title of the screen
+     * @return the container id of the opened screen
+     * @throws IllegalArgumentException when the viewer is not online
+     * @since 0.10.19
+     */
+    int openScreen(@NotNull UUID viewer, int rows, @NotNull TextHolder title);
+
+    /**
+     * Sends the full contents of the screen with the given container id to the specified viewer. Only the top items
+     * are provided; implementations are responsible for adding the items of the player's own inventory.
+     *
+     * @param viewer the viewer to send the items to
+     * @param containerId the container id of the screen
+     * @param stateId the state id for this update
+     * @param items the top items
+     * @since 0.10.19
+     */
+    void setContent(@NotNull UUID viewer, int containerId, int stateId, @Nullable ItemStack @NotNull [] items);
+
+    /**
+     * Sends a single item of the screen with the given container id to the specified viewer. Implementations may hold
+     * this back to send several items at once, as long as it arrives before anything else this sink sends to the
+     * viewer afterwards.
+     *
+     * @param viewer the viewer to send the item to
+     * @param containerId the container id of the screen
+     * @param stateId the state id for this update
+     * @param slot the slot of the item
+     * @param item the item
+     * @since 0.10.19
+     */
+    void setSlot(@NotNull UUID viewer, int containerId, int stateId, int slot, @Nullable ItemStack item);
+
+    /**
+     * Closes the screen with the given container id for the specified viewer.
+     *
+     * @param viewer the viewer to close the screen for
+     * @param containerId the container id of the screen
+     * @since 0.10.19
+     */
+    void closeScreen(@NotNull UUID viewer, int containerId);
+}
@@ -0,0 +1,120 @@
+package com.github.stefvanschie.inventoryframework.abstraction.util;
+
+import com.google.common.collect.MapMaker;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A cache of items converted to their internal server representation, so items which are sent to players again
+ * without having changed, for example after every click, don't have to be converted again. Items are compared by
+ * identity and only weakly referenced, so items that are no longer used are removed automatically.
+ * <p>
+ * A conversion is reused as long as the type and amount of the item are the same. Other changes made to an item after
+ * it has been converted are not detected; whoever makes such changes should call {@link #invalidate(ItemStack)}.
+ * Converted items are shared, so they may only be used for sending packets and must never be modified.
+ *
+ * @since 0.10.19
+ */
+public final class NMSItemCache {
+
+    /**
+     * The conversions by item
+     */
+    @NotNull
+    private static final Map<ItemStack, Conversion> CONVERSIONS = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * A private constructor to prevent construction.
+     */
+    private NMSItemCache() {}
+
+    /**
+     * Gets the conversion of the specified item, converting it with the specified converter if it hasn't been
+     * converted yet, or if it changed since. Every version only ever uses a single converter.
+     *
+     * @param item the item to convert
+     * @param converter the converter
+     * @return the converted item, which must not be modified
+     * @param <T> the type of converted item
+     * @since 0.10.19
+     */
+    @NotNull
+    public static <T> T get(@Nullable ItemStack item, @NotNull Function<? super ItemStack, ? extends T> converter) {
+        if (item == null) {
+            return converter.apply(null);
+        }
+
+        Conversion conversion = CONVERSIONS.get(item);
+
+        if (conversion != null && conversion.type == item.getType() && conversion.amount == item.getAmount()) {
+            //the same converter is used for every item, so the conversion is of the requested type
+            @SuppressWarnings("unchecked")
+            T converted = (T) conversion.converted;
+
+            return converted;
+        }
+
+        T converted = converter.apply(item);
+
+        CONVERSIONS.put(item, new Conversion(item.getType(), item.getAmount(), converted));
+
+        return converted;
+    }
+
+    /**
+     * Discards the conversion of the specified item, if there is one. This should be called after the item is
+     * modified in place.
+     *
+     * @param item the item which changed
+     * @since 0.10.19
+     */
+    public static void invalidate(@NotNull ItemStack item) {
+        CONVERSIONS.remove(item);
+    }
+
+    /**
+     * A converted item, together with the type and amount of the item it was converted from
+     *
+     * @since 0.10.19
+     */
+    private static final class Conversion {
+
+        /**
+         * The type of the item
+         */
+        @NotNull
+        private final Material type;
+
+        /**
+         * The amount of the item
+         */
+        private final int amount;
+
+        /**
+         * The converted item
+         */
+        @NotNull
+        private final Object converted;
+
+        /**
+         * Creates a new conversion
+         *
+         * @param type the type of the item
+         * @param amount the amount of the item
+         * @param converted the converted item
+         * @since 0.10.19
+         */
+        @Contract(pure = true)
+        private Conversion(@NotNull Material type, int amount, @NotNull Object converted) {
+            this.type = type;
+            this.amount = amount;
+            this.converted = converted;
+        }
+    }
+}
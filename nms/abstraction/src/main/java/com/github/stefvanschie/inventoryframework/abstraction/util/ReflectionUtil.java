@@ -0,0 +1,79 @@
+package com.github.stefvanschie.inventoryframework.abstraction.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+/**
+ * Utilities for accessing fields of server classes which aren't accessible otherwise. Fields are looked up once, when
+ * the version specific implementations are initialized, after which they can be read without reflection.
+ *
+ * @since 0.10.19
+ */
+public final class ReflectionUtil {
+
+    /**
+     * A private constructor to prevent construction.
+     */
+    private ReflectionUtil() {}
+
+    /**
+     * Finds the non-static field with the specified name in the specified class and creates a getter for it. The field
+     * may be declared with a subtype of the specified type. The getter should be stored in a static final field, so it
+     * is only created once. If the field doesn't exist, the mappings used for the name are likely incorrect for the
+     * running server, in which case an {@link IllegalStateException} is thrown describing the missing field.
+     *
+     * @param owner the class declaring the field
+     * @param name the name of the field
+     * @param type the type of the field
+     * @return a getter of the field
+     * @param <T> the type of the class declaring the field
+     * @param <V> the type of the field
+     * @throws IllegalStateException if the field cannot be found or accessed
+     * @since 0.10.19
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T, V> Function<T, V> findGetter(@NotNull Class<T> owner, @NotNull String name,
+                                                   @NotNull Class<V> type) {
+        Field field;
+
+        try {
+            field = owner.getDeclaredField(name);
+        } catch (NoSuchFieldException exception) {
+            throw new IllegalStateException("Field " + name + " of " + owner.getName() + " could not be found; the " +
+                "mappings of this version are likely incorrect", exception);
+        }
+
+        if (!type.isAssignableFrom(field.getType())) {
+            throw new IllegalStateException("Field " + name + " of " + owner.getName() + " is of type " +
+                field.getType().getName() + " instead of " + type.getName() + "; the mappings of this version are " +
+                "likely incorrect");
+        }
+
+        MethodHandle getter;
+
+        try {
+            field.setAccessible(true);
+
+            getter = MethodHandles.lookup().unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            throw new IllegalStateException("Field " + name + " of " + owner.getName() + " could not be accessed",
+                exception);
+        }
+
+        return instance -> {
+            try {
+                return type.cast(getter.invokeExact((Object) instance));
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        };
+    }
+}